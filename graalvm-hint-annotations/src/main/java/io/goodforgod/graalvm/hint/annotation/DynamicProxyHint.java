@@ -16,11 +16,11 @@
  * @since 07.04.2022
  */
 @Target({ ElementType.ANNOTATION_TYPE, ElementType.TYPE })
-@Retention(RetentionPolicy.SOURCE)
+@Retention(RetentionPolicy.CLASS)
 public @interface DynamicProxyHint {
 
     @Target({})
-    @Retention(RetentionPolicy.SOURCE)
+    @Retention(RetentionPolicy.CLASS)
     @interface Configuration {
 
         /**
@@ -45,4 +45,13 @@
      * @return resources configs to include under -H:DynamicProxyConfigurationResources option
      */
     String[] resources() default {};
+
+    /**
+     * Type that must be reachable in native image for configurations to be registered, {@link Void} means
+     * unconditional registration or registration conditional on annotated type itself when
+     * {@code graalvm.hint.condition} processor option is enabled.
+     *
+     * @return type that registration is conditional on
+     */
+    Class<?> condition() default Void.class;
 }
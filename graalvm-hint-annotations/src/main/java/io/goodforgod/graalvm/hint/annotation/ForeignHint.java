@@ -0,0 +1,91 @@
+package io.goodforgod.graalvm.hint.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * Foreign Function and Memory API downcall and upcall function descriptors that are created at
+ * runtime, native-image requires stubs for them to be generated ahead of time.
+ * <p>
+ * Layouts are specified as canonical layout names ({@code bool}, {@code char}, {@code short},
+ * {@code int}, {@code long}, {@code long long}, {@code float}, {@code double}, {@code size_t},
+ * {@code wchar_t}, {@code void*}), JNI type names ({@code jboolean}, {@code jbyte}, {@code jchar},
+ * {@code jshort}, {@code jint}, {@code jlong}, {@code jfloat}, {@code jdouble}), structs like
+ * {@code struct(jint, x4, jlong)} where {@code x4} is 4 bytes padding, unions like
+ * {@code union(jint, jfloat)} or sequences like {@code [16:jbyte]}.
+ *
+ * @see <a href="https://www.graalvm.org/latest/reference-manual/native-image/native-code-interoperability/ffm-api/">GraalVM
+ *          Info</a>
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@Repeatable(ForeignHints.class)
+@Target({ ElementType.ANNOTATION_TYPE, ElementType.TYPE })
+@Retention(RetentionPolicy.CLASS)
+public @interface ForeignHint {
+
+    /**
+     * Function descriptor, layouts are validated at compile time.
+     */
+    @Target({})
+    @Retention(RetentionPolicy.CLASS)
+    @interface Descriptor {
+
+        /**
+         * @return layout of returned value, {@code void} if function returns nothing
+         */
+        String returnType() default "void";
+
+        /**
+         * @return layouts of function parameters
+         */
+        String[] parameterTypes() default {};
+
+        /**
+         * Downcall only, function is called without thread state transition as it is short and doesn't
+         * call back into Java (former {@code trivial} option).
+         *
+         * @return true if function is critical
+         */
+        boolean critical() default false;
+
+        /**
+         * Downcall only, critical function can access Java heap memory segments.
+         *
+         * @return true if critical function is allowed to access heap
+         */
+        boolean allowHeapAccess() default false;
+
+        /**
+         * Downcall only, index of first variadic parameter, {@code -1} if function is not variadic.
+         *
+         * @return index of first variadic parameter
+         */
+        int firstVariadicArg() default -1;
+
+        /**
+         * Downcall only, thread local call state like {@code errno} is captured after call.
+         *
+         * @return true if call state is captured
+         */
+        boolean captureCallState() default false;
+    }
+
+    /**
+     * @return descriptors of native functions called from Java with {@code Linker.downcallHandle}
+     */
+    Descriptor[] downcalls() default {};
+
+    /**
+     * @return descriptors of Java methods called from native code with {@code Linker.upcallStub}
+     */
+    Descriptor[] upcalls() default {};
+
+    /**
+     * Type that must be reachable in native image for descriptors to be registered, {@link Void} means
+     * unconditional registration or registration conditional on annotated type itself when
+     * {@code graalvm.hint.condition} processor option is enabled.
+     *
+     * @return type that registration is conditional on
+     */
+    Class<?> condition() default Void.class;
+}
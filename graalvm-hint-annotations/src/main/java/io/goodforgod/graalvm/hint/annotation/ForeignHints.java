@@ -0,0 +1,22 @@
+package io.goodforgod.graalvm.hint.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Allow for repeatable annotations {@link ForeignHint}
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.CLASS)
+public @interface ForeignHints {
+
+    /**
+     * @return repeatable hint annotations
+     */
+    ForeignHint[] value();
+}
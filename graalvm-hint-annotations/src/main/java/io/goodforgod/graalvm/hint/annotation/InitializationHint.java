@@ -12,7 +12,7 @@
  */
 @Repeatable(InitializationHints.class)
 @Target({ ElementType.ANNOTATION_TYPE, ElementType.TYPE })
-@Retention(RetentionPolicy.SOURCE)
+@Retention(RetentionPolicy.CLASS)
 public @interface InitializationHint {
 
     /**
@@ -35,6 +35,17 @@
      */
     String[] typeNames() default {};
 
+    /**
+     * Discovers classes compiled together with annotated type in its package and subpackages which
+     * static state is made only of compile time constants, enums, immutable collections of literals,
+     * precompiled patterns and constants of other safe classes, such classes are initialized at build
+     * time and rejected classes are reported as compiler notes with reasons. Can be used only with
+     * {@link InitPhase#BUILD}.
+     *
+     * @return true to discover classes safe to initialize at build time
+     */
+    boolean discover() default false;
+
     /**
      * Specifies the phase of initialization hint.
      */
@@ -12,7 +12,7 @@
  * @since 10.10.2021
  */
 @Target(ElementType.TYPE)
-@Retention(RetentionPolicy.SOURCE)
+@Retention(RetentionPolicy.CLASS)
 public @interface InitializationHints {
 
     /**
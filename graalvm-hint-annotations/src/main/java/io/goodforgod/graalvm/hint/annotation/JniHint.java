@@ -13,7 +13,7 @@
  */
 @Repeatable(JniHints.class)
 @Target({ ElementType.ANNOTATION_TYPE, ElementType.TYPE })
-@Retention(RetentionPolicy.SOURCE)
+@Retention(RetentionPolicy.CLASS)
 public @interface JniHint {
 
     /**
@@ -37,6 +37,15 @@
      */
     String[] typeNames() default {};
 
+    /**
+     * Type that must be reachable in native image for types to be registered, {@link Void} means
+     * unconditional registration or registration conditional on annotated type itself when
+     * {@code graalvm.hint.condition} processor option is enabled.
+     *
+     * @return type that registration is conditional on
+     */
+    Class<?> condition() default Void.class;
+
     /**
      * The JNI access type.
      */
@@ -80,6 +89,40 @@ enum AccessType {
         /**
          * All declared fields require access.
          */
-        ALL_DECLARED_FIELDS
+        ALL_DECLARED_FIELDS,
+
+        /**
+         * All public constructors and methods can be queried, but not invoked, which is cheaper than
+         * {@link #ALL_PUBLIC_CONSTRUCTORS} and {@link #ALL_PUBLIC_METHODS} as no invocation stubs are
+         * compiled into native image.
+         */
+        QUERY_ALL_PUBLIC,
+
+        /**
+         * All public constructors can be queried, but not invoked.
+         */
+        QUERY_ALL_PUBLIC_CONSTRUCTORS,
+
+        /**
+         * All public methods can be queried, but not invoked.
+         */
+        QUERY_ALL_PUBLIC_METHODS,
+
+        /**
+         * All declared constructors and methods can be queried, but not invoked, which is cheaper than
+         * {@link #ALL_DECLARED_CONSTRUCTORS} and {@link #ALL_DECLARED_METHODS} as no invocation stubs are
+         * compiled into native image.
+         */
+        QUERY_ALL_DECLARED,
+
+        /**
+         * All declared constructors can be queried, but not invoked.
+         */
+        QUERY_ALL_DECLARED_CONSTRUCTORS,
+
+        /**
+         * All declared methods can be queried, but not invoked.
+         */
+        QUERY_ALL_DECLARED_METHODS
     }
 }
@@ -12,7 +12,7 @@
  * @since 21.03.2022
  */
 @Target(ElementType.TYPE)
-@Retention(RetentionPolicy.SOURCE)
+@Retention(RetentionPolicy.CLASS)
 public @interface JniHints {
 
     /**
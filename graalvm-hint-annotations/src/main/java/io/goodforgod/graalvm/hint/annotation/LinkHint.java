@@ -17,7 +17,7 @@
  * @since 02.05.2022
  */
 @Target({ ElementType.ANNOTATION_TYPE, ElementType.TYPE })
-@Retention(RetentionPolicy.SOURCE)
+@Retention(RetentionPolicy.CLASS)
 public @interface LinkHint {
 
     /**
@@ -0,0 +1,42 @@
+package io.goodforgod.graalvm.hint.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Indicate which locales and charsets application requires at runtime, so native image includes
+ * localization data only for them instead of all locales.
+ * Options -H:IncludeLocales and -H:DefaultLocale.
+ *
+ * @see <a href="https://www.graalvm.org/reference-manual/native-image/dynamic-features/Resources/">GraalVM
+ *          Info</a>
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@Target({ ElementType.ANNOTATION_TYPE, ElementType.TYPE })
+@Retention(RetentionPolicy.CLASS)
+public @interface LocaleHint {
+
+    /**
+     * Example: @LocaleHint({ "en", "de-DE", "fr" })
+     *
+     * @return locales specified as IETF BCP 47 language tags to include into native image
+     */
+    String[] value() default {};
+
+    /**
+     * @return locale specified as IETF BCP 47 language tag to use as default locale at runtime, build
+     *             machine locale if empty
+     */
+    String defaultLocale() default "";
+
+    /**
+     * Native image includes only US-ASCII, ISO-8859-1, UTF-8 and UTF-16 charsets and default charset
+     * of build machine, all charsets are included only when any other charset is specified.
+     *
+     * @return charset names that are required at runtime
+     */
+    String[] charsets() default {};
+}
@@ -6,18 +6,22 @@
  * The reflection hint annotation is a GraalVM annotation that is used on interfaces to provide
  * additional
  * information about types used at runtime for reflection access.
+ * <p>
+ * When used on field, method or constructor, only that member of declaring type is registered for
+ * reflection access, no other parameters can be specified in such case.
  *
  * @see <a href="https://www.graalvm.org/reference-manual/native-image/Reflection/">GraalVM Info</a>
  * @author Anton Kurako (GoodforGod)
  * @since 26.09.2021
  */
 @Repeatable(ReflectionHints.class)
-@Target({ ElementType.ANNOTATION_TYPE, ElementType.TYPE })
-@Retention(RetentionPolicy.SOURCE)
+@Target({ ElementType.ANNOTATION_TYPE, ElementType.TYPE, ElementType.FIELD, ElementType.METHOD, ElementType.CONSTRUCTOR })
+@Retention(RetentionPolicy.CLASS)
 public @interface ReflectionHint {
 
     /**
-     * Describes the reflection access for types.
+     * Describes the reflection access for types, when {@link #fields()} or {@link #methods()} are
+     * specified no access type is used by default.
      *
      * @return The reflection access type
      */
@@ -37,6 +41,67 @@
      */
     String[] typeNames() default {};
 
+    /**
+     * Fields of types that require reflection access, field existence is checked at compile time for
+     * types that are available in compilation.
+     *
+     * @return field names
+     */
+    String[] fields() default {};
+
+    /**
+     * Methods of types that require reflection access specified with fully qualified parameter types,
+     * constructors are specified as {@code <init>} (for example {@code setName(java.lang.String)} or
+     * {@code <init>()}), method existence is checked at compile time for types that are available in
+     * compilation.
+     *
+     * @return method signatures
+     */
+    String[] methods() default {};
+
+    /**
+     * Type that must be reachable in native image for types to be registered, {@link Void} means
+     * unconditional registration or registration conditional on annotated type itself when
+     * {@code graalvm.hint.condition} processor option is enabled.
+     *
+     * @return type that registration is conditional on
+     */
+    Class<?> condition() default Void.class;
+
+    /**
+     * Registers types reachable from specified types through their field types, getter return types,
+     * generic type arguments (for example {@code List<Foo>}), array component types and supertypes,
+     * with same access types and condition, useful for DTOs graphs. JDK types are never registered
+     * transitively.
+     *
+     * @return true to register all reachable types
+     */
+    boolean transitive() default false;
+
+    /**
+     * Max depth of {@link #transitive()} registration, {@code 1} registers only types referenced by
+     * specified types directly.
+     *
+     * @return depth of transitive registration
+     */
+    int depth() default Integer.MAX_VALUE;
+
+    /**
+     * Package prefixes (for example {@code com.example.dto}) which types can be registered by
+     * {@link #transitive()} registration, any package if empty.
+     *
+     * @return packages to include
+     */
+    String[] includePackages() default {};
+
+    /**
+     * Package prefixes which types are never registered by {@link #transitive()} registration and are
+     * not walked any further.
+     *
+     * @return packages to exclude
+     */
+    String[] excludePackages() default {};
+
     /**
      * The reflection access type.
      */
@@ -80,6 +145,46 @@ enum AccessType {
         /**
          * All declared fields require access.
          */
-        ALL_DECLARED_FIELDS
+        ALL_DECLARED_FIELDS,
+
+        /**
+         * All public constructors and methods can be queried, but not invoked, which is cheaper than
+         * {@link #ALL_PUBLIC_CONSTRUCTORS} and {@link #ALL_PUBLIC_METHODS} as no invocation stubs are
+         * compiled into native image.
+         */
+        QUERY_ALL_PUBLIC,
+
+        /**
+         * All public constructors can be queried, but not invoked.
+         */
+        QUERY_ALL_PUBLIC_CONSTRUCTORS,
+
+        /**
+         * All public methods can be queried, but not invoked.
+         */
+        QUERY_ALL_PUBLIC_METHODS,
+
+        /**
+         * All declared constructors and methods can be queried, but not invoked, which is cheaper than
+         * {@link #ALL_DECLARED_CONSTRUCTORS} and {@link #ALL_DECLARED_METHODS} as no invocation stubs are
+         * compiled into native image.
+         */
+        QUERY_ALL_DECLARED,
+
+        /**
+         * All declared constructors can be queried, but not invoked.
+         */
+        QUERY_ALL_DECLARED_CONSTRUCTORS,
+
+        /**
+         * All declared methods can be queried, but not invoked.
+         */
+        QUERY_ALL_DECLARED_METHODS,
+
+        /**
+         * Type can be instantiated with {@code Unsafe.allocateInstance} without calling its constructor,
+         * which is used by serialization libraries like Kryo or Objenesis.
+         */
+        UNSAFE_ALLOCATED
     }
 }
@@ -11,8 +11,8 @@
  * @author Anton Kurako (GoodforGod)
  * @since 10.10.2021
  */
-@Target(ElementType.TYPE)
-@Retention(RetentionPolicy.SOURCE)
+@Target({ ElementType.ANNOTATION_TYPE, ElementType.TYPE, ElementType.FIELD, ElementType.METHOD, ElementType.CONSTRUCTOR })
+@Retention(RetentionPolicy.CLASS)
 public @interface ReflectionHints {
 
     /**
@@ -13,7 +13,7 @@
  * @since 26.09.2021
  */
 @Target(ElementType.TYPE)
-@Retention(RetentionPolicy.SOURCE)
+@Retention(RetentionPolicy.CLASS)
 public @interface ResourceHint {
 
     /**
@@ -46,4 +46,22 @@
      * @return bundle names to include during native-image generation into the final application.
      */
     String[] bundles() default {};
+
+    /**
+     * Locales of {@link #bundles()} specified as IETF BCP 47 language tags, so only their bundle
+     * variants are included, all included locales of native image are used when empty.
+     * Example: @ResourceHint(bundles = "your.pkg.Messages", locales = { "en", "de" })
+     *
+     * @return bundle locales to include during native-image generation into the final application.
+     */
+    String[] locales() default {};
+
+    /**
+     * Type that must be reachable in native image for includes and bundles to be registered, {@link Void} means
+     * unconditional registration or registration conditional on annotated type itself when
+     * {@code graalvm.hint.condition} processor option is enabled.
+     *
+     * @return type that registration is conditional on
+     */
+    Class<?> condition() default Void.class;
 }
@@ -0,0 +1,74 @@
+package io.goodforgod.graalvm.hint.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * Types that are serialized and deserialized at runtime with Java serialization, types that can not
+ * be discovered by native-image must be registered for serialization.
+ *
+ * @see <a href="https://www.graalvm.org/latest/reference-manual/native-image/metadata/#serialization">GraalVM
+ *          Info</a>
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@Repeatable(SerializationHints.class)
+@Target({ ElementType.ANNOTATION_TYPE, ElementType.TYPE })
+@Retention(RetentionPolicy.CLASS)
+public @interface SerializationHint {
+
+    /**
+     * @return The types to provide a hint (preferred because typesafe), annotated type if none specified
+     */
+    Class<?>[] types() default {};
+
+    /**
+     * Alternative way to configure, should be used when type visibility prevents using {@link #types()}
+     * references, nested types should be specified using a {@code $} separator (for example
+     * {@code com.example.Foo$Bar}).
+     *
+     * @return the type names
+     */
+    String[] typeNames() default {};
+
+    /**
+     * Registers {@link java.io.Serializable} classes compiled together with hint that extend or
+     * implement specified types, so annotating base session type registers all its implementations.
+     *
+     * @return true to register serializable subtypes of specified types
+     */
+    boolean subtypes() default true;
+
+    /**
+     * Class which no-arg constructor is used to instantiate types on deserialization instead of
+     * constructor of their first non-serializable superclass, {@link Void} means default behaviour.
+     *
+     * @return class which constructor is used for deserialization
+     */
+    Class<?> customTargetConstructorClass() default Void.class;
+
+    /**
+     * Classes which declare serializable lambdas (for example {@code (Runnable & Serializable) () -> ...}),
+     * such lambdas are serialized by their capturing class.
+     *
+     * @return lambda capturing classes
+     */
+    Class<?>[] lambdaCapturingTypes() default {};
+
+    /**
+     * Registers types for {@code Unsafe.allocateInstance} that is used instead of constructors by
+     * serialization libraries like Kryo or Objenesis.
+     *
+     * @return true to register types for unsafe allocation
+     * @see ReflectionHint.AccessType#UNSAFE_ALLOCATED
+     */
+    boolean unsafeAllocated() default false;
+
+    /**
+     * Type that must be reachable in native image for types to be registered, {@link Void} means
+     * unconditional registration or registration conditional on annotated type itself when
+     * {@code graalvm.hint.condition} processor option is enabled.
+     *
+     * @return type that registration is conditional on
+     */
+    Class<?> condition() default Void.class;
+}
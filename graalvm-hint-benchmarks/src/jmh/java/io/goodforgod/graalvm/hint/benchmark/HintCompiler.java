@@ -0,0 +1,126 @@
+package io.goodforgod.graalvm.hint.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.processing.Processor;
+import javax.tools.*;
+
+/**
+ * Runs annotation processors over in-memory sources with in-process {@link JavaCompiler}, all
+ * generated classes and resources are kept in memory.
+ * <p>
+ * File manager is created once and reused by all compilations, so it must be closed after benchmark.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+final class HintCompiler implements AutoCloseable {
+
+    private final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    private final StandardJavaFileManager standardManager = compiler.getStandardFileManager(null, null,
+            StandardCharsets.UTF_8);
+
+    static final class Source extends SimpleJavaFileObject {
+
+        private final String content;
+
+        Source(String className, String content) {
+            super(URI.create("string:///" + className.replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+            this.content = content;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return content;
+        }
+    }
+
+    private static final class Output extends SimpleJavaFileObject {
+
+        private final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+
+        private Output(String name, Kind kind) {
+            super(URI.create("mem:///" + name), kind);
+        }
+
+        @Override
+        public OutputStream openOutputStream() {
+            return stream;
+        }
+    }
+
+    /**
+     * @param processor to run
+     * @param sources   to process
+     * @return size of all files generated during compilation
+     */
+    long compile(Processor processor, List<Source> sources) {
+        return compile(processor, sources, List.of());
+    }
+
+    /**
+     * @param processor to run
+     * @param sources   to process
+     * @param options   processor options as {@code -Aoption=value}
+     * @return size of all files generated during compilation
+     */
+    long compile(Processor processor, List<Source> sources, List<String> options) {
+        final List<Output> outputs = new ArrayList<>();
+        final JavaFileManager fileManager = new ForwardingJavaFileManager<JavaFileManager>(standardManager) {
+
+            @Override
+            public JavaFileObject getJavaFileForOutput(Location location,
+                                                       String className,
+                                                       JavaFileObject.Kind kind,
+                                                       FileObject sibling) {
+                final Output output = new Output(className.replace('.', '/') + kind.extension, kind);
+                outputs.add(output);
+                return output;
+            }
+
+            @Override
+            public FileObject getFileForOutput(Location location,
+                                               String packageName,
+                                               String relativeName,
+                                               FileObject sibling) {
+                final Output output = new Output(packageName.replace('.', '/') + "/" + relativeName, JavaFileObject.Kind.OTHER);
+                outputs.add(output);
+                return output;
+            }
+        };
+
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        final List<String> arguments = new ArrayList<>(options);
+        arguments.addAll(List.of("-proc:only", "-classpath", System.getProperty("java.class.path")));
+        final JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, arguments, null, sources);
+        task.setProcessors(List.of(processor));
+        if (!task.call()) {
+            throw new IllegalStateException("Compilation failed: " + diagnostics.getDiagnostics());
+        }
+
+        return outputs.stream()
+                .mapToLong(o -> o.stream.size())
+                .sum();
+    }
+
+    @Override
+    public void close() throws IOException {
+        standardManager.close();
+    }
+
+    /**
+     * @param files class name to source content
+     * @return sources for compilation
+     */
+    static List<Source> sources(Map<String, String> files) {
+        final List<Source> sources = new ArrayList<>(files.size());
+        files.forEach((className, content) -> sources.add(new Source(className, content)));
+        return sources;
+    }
+}
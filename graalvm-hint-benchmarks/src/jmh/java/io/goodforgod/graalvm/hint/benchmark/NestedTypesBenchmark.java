@@ -0,0 +1,81 @@
+package io.goodforgod.graalvm.hint.benchmark;
+
+import io.goodforgod.graalvm.hint.processor.HintProcessor;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures time and allocation (with gc profiler) of resolving origins and binary names for corpus
+ * with thousands of nested types spread over many packages.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class NestedTypesBenchmark {
+
+    private static final int PACKAGES = 20;
+
+    @Param({ "100", "1000" })
+    private int classes;
+
+    @Param({ "5" })
+    private int nested;
+
+    private HintCompiler compiler;
+    private List<HintCompiler.Source> sources;
+
+    @Setup
+    public void setup() {
+        this.compiler = new HintCompiler();
+        final Map<String, String> files = new LinkedHashMap<>();
+        for (int i = 0; i < classes; i++) {
+            final String packageName = "io.goodforgod.graalvm.hint.benchmark.nested" + (i % PACKAGES);
+            final String className = "Outer" + i;
+            files.put(packageName + "." + className, getSource(packageName, className, nested));
+        }
+
+        this.sources = HintCompiler.sources(files);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        compiler.close();
+    }
+
+    @Benchmark
+    public long nestedTypes() {
+        return compiler.compile(new HintProcessor(), sources);
+    }
+
+    /**
+     * Outer type registers each of its nested types, that are nested one into another, and every
+     * nested type registers itself
+     */
+    private static String getSource(String packageName, String className, int nested) {
+        final StringBuilder types = new StringBuilder();
+        final StringBuilder body = new StringBuilder();
+        String typeName = className;
+        for (int i = 0; i < nested; i++) {
+            typeName = typeName + ".Inner" + i;
+            types.append((i == 0) ? "" : ", ").append(typeName).append(".class");
+            body.append("@ReflectionHint @JniHint public static class Inner").append(i).append(" {\n");
+        }
+        for (int i = 0; i < nested; i++) {
+            body.append("}\n");
+        }
+
+        return "package " + packageName + ";\n\n"
+                + "import io.goodforgod.graalvm.hint.annotation.*;\n\n"
+                + "@ReflectionHint(types = { " + types + " })\n"
+                + "public class " + className + " {\n"
+                + body
+                + "}\n";
+    }
+}
@@ -0,0 +1,66 @@
+package io.goodforgod.graalvm.hint.benchmark;
+
+import io.goodforgod.graalvm.hint.processor.*;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.processing.Processor;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures wall time and allocation (with gc profiler) of each processor over synthetic corpus
+ * compiled with in-process {@link javax.tools.JavaCompiler}.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ProcessorBenchmark {
+
+    @Param({ "1000", "10000", "50000" })
+    private int classes;
+
+    @Param({ "all", "reflection", "jni", "resource", "nativeImage" })
+    private String processor;
+
+    @Param({ "false", "true" })
+    private boolean parallel;
+
+    private HintCompiler compiler;
+    private List<HintCompiler.Source> sources;
+
+    @Setup
+    public void setup() {
+        this.compiler = new HintCompiler();
+        this.sources = SyntheticSources.generate(classes);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        compiler.close();
+    }
+
+    @Benchmark
+    public long process() {
+        return compiler.compile(getProcessor(processor), sources, List.of("-Agraalvm.hint.parallel=" + parallel));
+    }
+
+    private static Processor getProcessor(String name) {
+        switch (name) {
+            case "all":
+                return new HintProcessor();
+            case "reflection":
+                return new ReflectionHintProcessor();
+            case "jni":
+                return new JniHintProcessor();
+            case "resource":
+                return new ResourceHintProcessor();
+            case "nativeImage":
+                return new NativeImageHintProcessor();
+            default:
+                throw new IllegalArgumentException("Unknown processor: " + name);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package io.goodforgod.graalvm.hint.benchmark;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Generates synthetic corpus where annotated classes are spread across packages and cycle through
+ * all hint annotations.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+final class SyntheticSources {
+
+    private static final String PACKAGE = "io.goodforgod.graalvm.hint.benchmark.synthetic";
+    private static final int CLASSES_PER_PACKAGE = 500;
+    private static final int HINTS = 6;
+
+    private SyntheticSources() {}
+
+    /**
+     * @param classes amount of annotated classes to generate
+     * @return sources for compilation
+     */
+    static List<HintCompiler.Source> generate(int classes) {
+        final Map<String, String> files = new LinkedHashMap<>();
+        for (int i = 0; i < classes; i++) {
+            final String packageName = PACKAGE + (i / CLASSES_PER_PACKAGE);
+            final String className = "Type" + i;
+            files.put(packageName + "." + className, getSource(packageName, className, i));
+        }
+
+        return HintCompiler.sources(files);
+    }
+
+    private static String getSource(String packageName, String className, int index) {
+        final String previous = "Type" + Math.max(0, index - 1);
+        switch (index % HINTS) {
+            case 0:
+                return getClassSource(packageName, className,
+                        "@ReflectionHint");
+            case 1:
+                return getClassSource(packageName, className,
+                        "@ReflectionHints({\n"
+                                + "        @ReflectionHint(value = ReflectionHint.AccessType.ALL_PUBLIC_METHODS, types = "
+                                + className + ".Nested.class),\n"
+                                + "        @ReflectionHint(typeNames = \"" + packageName + "." + previous + "\")\n"
+                                + "})");
+            case 2:
+                return getClassSource(packageName, className,
+                        "@JniHint(value = JniHint.AccessType.ALL_DECLARED_FIELDS)");
+            case 3:
+                return getClassSource(packageName, className,
+                        "@ResourceHint(include = { \"" + className + "\\\\.properties\", \".*" + className + "\\\\.yaml\" },"
+                                + " bundles = \"" + packageName + "." + className + "Messages\")");
+            case 4:
+                return getClassSource(packageName, className,
+                        "@InitializationHint(value = InitializationHint.InitPhase.RUNTIME, types = "
+                                + className + ".Nested.class)");
+            default:
+                return "package " + packageName + ";\n\n"
+                        + "import io.goodforgod.graalvm.hint.annotation.*;\n\n"
+                        + "@DynamicProxyHint\n"
+                        + "public interface " + className + " {\n\n"
+                        + "    String name();\n"
+                        + "}\n";
+        }
+    }
+
+    private static String getClassSource(String packageName, String className, String annotation) {
+        return "package " + packageName + ";\n\n"
+                + "import io.goodforgod.graalvm.hint.annotation.*;\n\n"
+                + annotation + "\n"
+                + "public class " + className + " {\n\n"
+                + "    private String name;\n\n"
+                + "    public static class Nested {\n\n"
+                + "        private int value;\n"
+                + "    }\n"
+                + "}\n";
+    }
+}
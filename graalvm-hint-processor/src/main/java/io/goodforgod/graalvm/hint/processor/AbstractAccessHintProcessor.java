@@ -3,11 +3,9 @@
 import io.goodforgod.graalvm.hint.annotation.JniHint;
 import io.goodforgod.graalvm.hint.annotation.ReflectionHint;
 import io.goodforgod.graalvm.hint.annotation.ReflectionHint.AccessType;
+import java.io.IOException;
 import java.util.*;
 import java.util.stream.Collectors;
-import javax.annotation.processing.RoundEnvironment;
-import javax.lang.model.element.TypeElement;
-import javax.tools.Diagnostic;
 
 /**
  * Processes {@link ReflectionHint} and {@link JniHint} annotations for native-image hint files
@@ -27,21 +25,122 @@ abstract class AbstractAccessHintProcessor extends AbstractHintProcessor {
     private static final String ALL_DECLARED_FIELDS = "allDeclaredFields";
     private static final String ALL_DECLARED_METHODS = "allDeclaredMethods";
 
+    private static final String QUERY_ALL_PUBLIC_CONSTRUCTORS = "queryAllPublicConstructors";
+    private static final String QUERY_ALL_PUBLIC_METHODS = "queryAllPublicMethods";
+
+    private static final String QUERY_ALL_DECLARED_CONSTRUCTORS = "queryAllDeclaredConstructors";
+    private static final String QUERY_ALL_DECLARED_METHODS = "queryAllDeclaredMethods";
+
+    /**
+     * Access type to access types it makes redundant, declared constructors include public ones as
+     * constructors are not inherited, while public methods and fields include inherited ones and are
+     * not covered by declared access types
+     */
+    private static final Map<String, Set<String>> REDUNDANT_ACCESS_TYPES = Map.of(
+            ALL_DECLARED_CONSTRUCTORS, Set.of(ALL_PUBLIC_CONSTRUCTORS, QUERY_ALL_DECLARED_CONSTRUCTORS,
+                    QUERY_ALL_PUBLIC_CONSTRUCTORS),
+            ALL_PUBLIC_CONSTRUCTORS, Set.of(QUERY_ALL_PUBLIC_CONSTRUCTORS),
+            QUERY_ALL_DECLARED_CONSTRUCTORS, Set.of(QUERY_ALL_PUBLIC_CONSTRUCTORS),
+            ALL_DECLARED_METHODS, Set.of(QUERY_ALL_DECLARED_METHODS),
+            ALL_PUBLIC_METHODS, Set.of(QUERY_ALL_PUBLIC_METHODS));
+
+    private static final String UNSAFE_ALLOCATED = "unsafeAllocated";
+
+    private static final String CONSTRUCTOR = "<init>(";
+
+    private static final Set<String> QUERY_ACCESS_TYPES = Set.of(QUERY_ALL_PUBLIC_CONSTRUCTORS, QUERY_ALL_PUBLIC_METHODS,
+            QUERY_ALL_DECLARED_CONSTRUCTORS, QUERY_ALL_DECLARED_METHODS);
+
     private static final String NAME = "name";
+    private static final String TYPE = "type";
+    private static final String FIELDS = "fields";
+    private static final String METHODS = "methods";
+    private static final String PARAMETER_TYPES = "parameterTypes";
 
     static class Access implements Comparable<Access> {
 
+        private static final Comparator<Access> COMPARATOR = Comparator.comparing((Access a) -> a.typeName)
+                .thenComparing(a -> a.condition, Comparator.nullsFirst(Comparator.naturalOrder()));
+
         private final String typeName;
         private final AccessType[] accessTypes;
+        private final Set<String> fields;
+        /**
+         * Method signatures like {@code name(java.lang.String,int)}
+         */
+        private final Set<String> methods;
+        /**
+         * Type that access is conditional on or null if unconditional
+         */
+        private final String condition;
 
         Access(String typeName, AccessType[] accessTypes) {
+            this(typeName, accessTypes, List.of(), List.of(), null);
+        }
+
+        Access(String typeName, AccessType[] accessTypes, Collection<String> fields, Collection<String> methods) {
+            this(typeName, accessTypes, fields, methods, null);
+        }
+
+        Access(String typeName,
+               AccessType[] accessTypes,
+               Collection<String> fields,
+               Collection<String> methods,
+               String condition) {
             this.typeName = typeName;
             this.accessTypes = accessTypes;
+            this.fields = Collections.unmodifiableSet(new TreeSet<>(fields));
+            this.methods = Collections.unmodifiableSet(new TreeSet<>(methods));
+            this.condition = condition;
+        }
+
+        String getTypeName() {
+            return typeName;
+        }
+
+        AccessType[] getAccessTypes() {
+            return accessTypes;
+        }
+
+        Set<String> getFields() {
+            return fields;
+        }
+
+        Set<String> getMethods() {
+            return methods;
+        }
+
+        String getCondition() {
+            return condition;
+        }
+
+        /**
+         * @return key of access, accesses with same key are merged
+         */
+        String getKey() {
+            return (condition == null)
+                    ? typeName
+                    : typeName + "@" + condition;
+        }
+
+        /**
+         * @param other access for same type and condition
+         * @return access with union of access types and members of both
+         */
+        Access merge(Access other) {
+            final Set<AccessType> mergedAccessTypes = EnumSet.noneOf(AccessType.class);
+            mergedAccessTypes.addAll(Arrays.asList(accessTypes));
+            mergedAccessTypes.addAll(Arrays.asList(other.accessTypes));
+            final Set<String> mergedFields = new TreeSet<>(fields);
+            mergedFields.addAll(other.fields);
+            final Set<String> mergedMethods = new TreeSet<>(methods);
+            mergedMethods.addAll(other.methods);
+            return new Access(typeName, mergedAccessTypes.toArray(AccessType[]::new), mergedFields, mergedMethods, condition);
         }
 
         @Override
         public int compareTo(Access o) {
-            return typeName.compareTo(o.typeName);
+            return COMPARATOR.compare(this, o);
         }
 
         @Override
@@ -51,112 +150,120 @@ public boolean equals(Object o) {
             if (o == null || getClass() != o.getClass())
                 return false;
             Access that = (Access) o;
-            return Objects.equals(typeName, that.typeName);
+            return Objects.equals(typeName, that.typeName) && Objects.equals(condition, that.condition);
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(typeName);
+            return Objects.hash(typeName, condition);
         }
     }
 
     protected abstract String getFileName();
 
-    protected abstract List<Access> getAccessForElement(TypeElement element);
+    /**
+     * @return section of {@link ReachabilityMetadata} that processor adds accesses into
+     */
+    protected abstract String getMetadataSection();
 
-    protected Set<TypeElement> getAnnotatedTypeElements(RoundEnvironment roundEnv) {
-        final Class[] classes = getSupportedAnnotations().toArray(Class[]::new);
-        return HintUtils.getAnnotatedElements(roundEnv, classes);
-    }
+    /**
+     * @param model to get accesses from
+     * @return accesses for origin that processor generates file for
+     */
+    protected abstract Set<Access> getAccesses(HintModel model);
 
     @Override
-    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
-        if (annotations.isEmpty()) {
-            return false;
-        }
-
-        try {
-            final Set<TypeElement> types = getAnnotatedTypeElements(roundEnv);
-
-            final Map<HintOrigin, Set<Access>> accessHints = new HashMap<>();
-            for (TypeElement type : types) {
-                final List<Access> typeAccesses = getAccessForElement(type);
-                if (!typeAccesses.isEmpty()) {
-                    final HintOrigin origin = HintUtils.getHintOrigin(type, processingEnv);
-                    final Set<Access> accesses = accessHints.computeIfAbsent(origin, k -> new LinkedHashSet<>());
-                    accesses.addAll(typeAccesses);
+    protected boolean writeHints(List<HintModel> models) {
+        for (HintModel model : models) {
+            final Set<Access> accesses = getAccesses(model);
+            if (!accesses.isEmpty()) {
+                if (options.isReachabilityMetadata()) {
+                    final ReachabilityMetadata metadata = filer.getMetadata(model);
+                    for (Access access : new TreeSet<>(accesses)) {
+                        metadata.add(getMetadataSection(), json -> writeAccess(access, true, json));
+                    }
+                } else {
+                    final HintContent content = writer -> writeAccessConfig(accesses,
+                            new JsonWriter(writer, options.isJsonPretty()));
+                    final HintFile file = model.getOrigin().getFileWithRelativePath(getFileName());
+                    if (!filer.write(file, content, model.getOriginatingElements())) {
+                        return false;
+                    }
                 }
+                statistics.addEntries(accesses.size());
             }
-
-            for (var entry : accessHints.entrySet()) {
-                final String configJson = getAccessConfigJson(entry.getValue());
-                final HintFile file = entry.getKey().getFileWithRelativePath(getFileName());
-                if (!HintUtils.writeConfigFile(file, configJson, processingEnv)) {
-                    return false;
-                }
-            }
-
-            return true;
-        } catch (Exception e) {
-            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, e.getMessage());
-            e.printStackTrace();
-            return false;
         }
-    }
-
-    private String getAccessConfigJson(Collection<Access> accesses) {
-        return accesses.stream()
-                .sorted(Comparator.comparing(a -> a.typeName))
-                .map(AbstractAccessHintProcessor::getGraalReflectionForTypeName)
-                .map(AbstractAccessHintProcessor::mapToJson)
-                .collect(Collectors.joining(",\n", "[", "]"));
-    }
-
-    private static String mapToJson(Map<String, Object> map) {
-        return map.entrySet().stream()
-                .map(e -> (e.getValue() instanceof String)
-                        ? String.format("\"%s\": \"%s\"", e.getKey(), e.getValue())
-                        : String.format("\"%s\": %s", e.getKey(), e.getValue()))
-                .collect(Collectors.joining(",\n  ", "{\n  ", "\n}"));
-    }
-
-    private static Map<String, Object> getGraalReflectionForTypeName(Access access) {
-        final Map<String, Object> reflectionMap = new LinkedHashMap<>(access.accessTypes.length + 3);
-        final String typeFinalName = isTypeInnerClass(access.typeName)
-                ? getInnerTypeName(access.typeName)
-                : access.typeName;
 
-        reflectionMap.put(NAME, typeFinalName);
-        Arrays.stream(access.accessTypes)
-                .flatMap(accessType -> getGraalAccessType(accessType).stream())
-                .distinct()
-                .sorted()
-                .forEach(graalAccessType -> reflectionMap.put(graalAccessType, true));
-
-        return reflectionMap;
+        return true;
     }
 
-    private static boolean isTypeInnerClass(String typeName) {
-        return typeName.endsWith(".class");
+    private void writeAccessConfig(Collection<Access> accesses, JsonWriter json) throws IOException {
+        json.beginArray();
+        for (Access access : new TreeSet<>(accesses)) {
+            json.beginObject();
+            writeAccess(access, false, json);
+            json.endObject();
+        }
+        json.endArray();
     }
 
-    private static String getInnerTypeName(String typeName) {
-        final List<String> classType = new ArrayList<>();
+    /**
+     * @param metadata true to write entry of {@link ReachabilityMetadata}, where type is registered under
+     *                     {@code type} and all its constructors and methods can be queried without query
+     *                     access types
+     */
+    private static void writeAccess(Access access, boolean metadata, JsonWriter json) throws IOException {
+        if (metadata) {
+            json.condition(JsonWriter.TYPE_REACHED, access.condition).name(TYPE).value(access.typeName);
+        } else {
+            json.condition(JsonWriter.TYPE_REACHABLE, access.condition).name(NAME).value(access.typeName);
+        }
 
-        String packagePrefix = typeName.substring(0, typeName.length() - 6);
-        int nextSeparator;
-        while ((nextSeparator = packagePrefix.lastIndexOf('.')) != -1) {
-            final String nextClassType = packagePrefix.substring(nextSeparator + 1);
-            if (!Character.isUpperCase(nextClassType.charAt(0))) {
-                break;
+        final Set<String> graalAccessTypes = getGraalAccessTypes(access);
+        for (String graalAccessType : graalAccessTypes) {
+            if (!metadata || !QUERY_ACCESS_TYPES.contains(graalAccessType)) {
+                json.name(graalAccessType).value(true);
+            }
+        }
+        if (!access.fields.isEmpty()) {
+            json.name(FIELDS).beginArray();
+            for (String field : access.fields) {
+                json.beginObject().name(NAME).value(field).endObject();
+            }
+            json.endArray();
+        }
+        final List<String> methods = (graalAccessTypes.contains(ALL_DECLARED_CONSTRUCTORS))
+                ? access.methods.stream().filter(m -> !m.startsWith(CONSTRUCTOR)).collect(Collectors.toList())
+                : List.copyOf(access.methods);
+        if (!methods.isEmpty()) {
+            json.name(METHODS).beginArray();
+            for (String method : methods) {
+                final int parametersStart = method.indexOf('(');
+                final String parameters = method.substring(parametersStart + 1, method.length() - 1);
+                json.beginObject()
+                        .name(NAME).value(method.substring(0, parametersStart))
+                        .array(PARAMETER_TYPES, (parameters.isEmpty()) ? List.of() : List.of(parameters.split(",")))
+                        .endObject();
             }
+            json.endArray();
+        }
+    }
 
-            classType.add(nextClassType);
-            packagePrefix = packagePrefix.substring(0, nextSeparator);
+    /**
+     * @return graal access types without those made redundant by other access types
+     */
+    private static Set<String> getGraalAccessTypes(Access access) {
+        final Set<String> graalAccessTypes = new TreeSet<>();
+        for (AccessType accessType : access.accessTypes) {
+            graalAccessTypes.addAll(getGraalAccessType(accessType));
         }
 
-        Collections.reverse(classType);
-        return classType.stream().collect(Collectors.joining("$", packagePrefix + ".", ""));
+        final Set<String> redundant = new HashSet<>();
+        for (String graalAccessType : graalAccessTypes) {
+            redundant.addAll(REDUNDANT_ACCESS_TYPES.getOrDefault(graalAccessType, Set.of()));
+        }
+        graalAccessTypes.removeAll(redundant);
+        return graalAccessTypes;
     }
 
     private static List<String> getGraalAccessType(AccessType accessType) {
@@ -178,6 +285,23 @@ private static List<String> getGraalAccessType(AccessType accessType) {
                 return List.of(ALL_DECLARED_METHODS);
             case ALL_DECLARED_FIELDS:
                 return List.of(ALL_DECLARED_FIELDS);
+
+            case QUERY_ALL_PUBLIC:
+                return List.of(QUERY_ALL_PUBLIC_CONSTRUCTORS, QUERY_ALL_PUBLIC_METHODS);
+            case QUERY_ALL_PUBLIC_CONSTRUCTORS:
+                return List.of(QUERY_ALL_PUBLIC_CONSTRUCTORS);
+            case QUERY_ALL_PUBLIC_METHODS:
+                return List.of(QUERY_ALL_PUBLIC_METHODS);
+
+            case QUERY_ALL_DECLARED:
+                return List.of(QUERY_ALL_DECLARED_CONSTRUCTORS, QUERY_ALL_DECLARED_METHODS);
+            case QUERY_ALL_DECLARED_CONSTRUCTORS:
+                return List.of(QUERY_ALL_DECLARED_CONSTRUCTORS);
+            case QUERY_ALL_DECLARED_METHODS:
+                return List.of(QUERY_ALL_DECLARED_METHODS);
+
+            case UNSAFE_ALLOCATED:
+                return List.of(UNSAFE_ALLOCATED);
             default:
                 throw new IllegalStateException("Unknown AccessType is present: " + accessType);
         }
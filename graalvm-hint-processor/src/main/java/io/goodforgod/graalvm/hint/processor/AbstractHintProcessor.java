@@ -1,29 +1,76 @@
 package io.goodforgod.graalvm.hint.processor;
 
 import java.lang.annotation.Annotation;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
 import javax.lang.model.SourceVersion;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
 
 /**
+ * Collects hints in every processing round with {@link HintScanner} and writes hint files once when
+ * processing is over, as {@link javax.annotation.processing.Filer} can create each file only once
+ * per compilation.
+ *
  * @author Anton Kurako (GoodforGod)
  * @since 29.09.2021
  */
 abstract class AbstractHintProcessor extends AbstractProcessor {
 
+    protected HintOptions options;
+    protected HintFiler filer;
+    protected HintStatistics statistics;
+    protected int round = 0;
+    private boolean delegated = false;
+    private HintScanner scanner;
+
     protected abstract Set<Class<? extends Annotation>> getSupportedAnnotations();
 
+    /**
+     * @param models hints collected across all rounds
+     * @return true if all hints were written successfully
+     */
+    protected abstract boolean writeHints(List<HintModel> models);
+
+    /**
+     * Processor that delegates to this one scans and files hints for it, so filer and scanner are created
+     * only when processor is not delegated and options are shared with it
+     */
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.options = delegated
+                ? filer.getOptions()
+                : new HintOptions(processingEnv.getOptions(), processingEnv.getMessager());
+        this.statistics = new HintStatistics(getClass().getSimpleName(), options.isStatistics());
+        if (!delegated) {
+            this.filer = new HintFiler(options, processingEnv);
+            this.scanner = new HintScanner(getSupportedAnnotations(), options, getClass().getSimpleName(), processingEnv);
+        }
+    }
+
+    /**
+     * All types are processed when usages are detected, so processor is run for sources without hint
+     * annotations too and does not claim annotations of other processors
+     */
     @Override
     public Set<String> getSupportedAnnotationTypes() {
-        return getSupportedAnnotations().stream()
+        final Set<String> annotationTypes = getSupportedAnnotations().stream()
                 .map(Class::getName)
                 .collect(Collectors.toSet());
+        if (scanner != null && scanner.isDetecting()) {
+            annotationTypes.add("*");
+        }
+        return annotationTypes;
     }
 
     @Override
     public Set<String> getSupportedOptions() {
-        return Set.of(HintOrigin.HINT_PROCESSING_GROUP, HintOrigin.HINT_PROCESSING_ARTIFACT);
+        return HintOptions.getSupportedOptions();
     }
 
     @Override
@@ -39,4 +86,79 @@ public SourceVersion getSupportedSourceVersion() {
             return SourceVersion.values()[22];
         }
     }
+
+    /**
+     * Must be called before {@link #init(ProcessingEnvironment)}
+     *
+     * @param filer of processor that delegates to this one, it is flushed by delegating processor so
+     *                  files of all processors are rendered together
+     */
+    final void delegateTo(HintFiler filer) {
+        this.filer = filer;
+        this.delegated = true;
+    }
+
+    /**
+     * @param models hints collected across all rounds
+     * @return true if all hints were written successfully
+     */
+    final boolean write(List<HintModel> models) {
+        final HintEvent event = statistics.start(HintEvent.WRITE);
+        final long bytes = filer.getBytesWritten();
+        final boolean written = writeHints(models);
+        final boolean flushed = delegated || filer.flush();
+        statistics.end(event, round, 0, filer.getBytesWritten() - bytes);
+        return written && flushed;
+    }
+
+    /**
+     * @return statistics of processor and everything it delegates to
+     */
+    protected List<HintStatistics> getStatistics() {
+        return List.of(statistics);
+    }
+
+    private void reportStatistics() {
+        if (options.isStatistics()) {
+            for (HintStatistics processorStatistics : getStatistics()) {
+                if (!processorStatistics.isEmpty()) {
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, processorStatistics.getSummary());
+                }
+            }
+        }
+    }
+
+    /**
+     * Annotations are claimed in rounds they were scanned without errors and processing over reports if
+     * hint files were written, while usages are detected all annotations are processed so none is claimed
+     */
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        try {
+            round++;
+            if (roundEnv.processingOver()) {
+                final boolean written = !roundEnv.errorRaised() && write(scanner.getModels());
+                if (written) {
+                    scanner.saveJournal();
+                }
+                reportStatistics();
+                return written;
+            } else if (annotations.isEmpty() && !scanner.isDetecting()) {
+                scanner.addCompiledTypes(roundEnv);
+                return false;
+            }
+
+            final HintEvent event = statistics.start(HintEvent.SCAN);
+            final int scanned = scanner.scan(roundEnv);
+            statistics.end(event, round, scanned, 0);
+            return !scanner.isDetecting();
+        } catch (HintException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage(), e.getElement());
+            return false;
+        } catch (Exception e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, e.getMessage());
+            e.printStackTrace();
+            return false;
+        }
+    }
 }
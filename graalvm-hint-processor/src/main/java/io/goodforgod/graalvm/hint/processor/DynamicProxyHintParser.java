@@ -1,15 +1,13 @@
 package io.goodforgod.graalvm.hint.processor;
 
 import io.goodforgod.graalvm.hint.annotation.DynamicProxyHint;
+import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.util.*;
 import java.util.stream.Collectors;
-import javax.annotation.processing.ProcessingEnvironment;
-import javax.annotation.processing.RoundEnvironment;
 import javax.lang.model.element.AnnotationMirror;
-import javax.lang.model.element.Element;
+import javax.lang.model.element.AnnotationValue;
 import javax.lang.model.element.TypeElement;
-import javax.lang.model.util.ElementFilter;
 
 /**
  * Processes {@link DynamicProxyHint} annotations for native-image.properties file
@@ -23,21 +21,23 @@ final class DynamicProxyHintParser implements OptionParser {
     static class Configuration {
 
         private final List<String> interfaces;
+        private final String condition;
 
-        private Configuration(List<String> interfaces) {
+        Configuration(List<String> interfaces, String condition) {
             this.interfaces = interfaces;
+            this.condition = condition;
         }
 
         public List<String> getInterfaces() {
             return interfaces;
         }
-    }
-
-    private static final class DynamicProxy {
 
-        private final List<String> resources = new ArrayList<>();
-        private final List<String> files = new ArrayList<>();
-        private final List<Configuration> configurations = new ArrayList<>();
+        /**
+         * @return type that configuration is conditional on or null if unconditional
+         */
+        public String getCondition() {
+            return condition;
+        }
     }
 
     @Override
@@ -46,82 +46,96 @@ public List<Class<? extends Annotation>> getSupportedAnnotations() {
     }
 
     @Override
-    public List<Option> getOptions(RoundEnvironment roundEnv, ProcessingEnvironment processingEnv) {
-        final Set<? extends Element> annotated = roundEnv.getElementsAnnotatedWith(DynamicProxyHint.class);
-        final Set<TypeElement> elements = ElementFilter.typesIn(annotated);
-        if (elements.isEmpty()) {
-            return Collections.emptyList();
-        }
-
-        final Map<HintOrigin, DynamicProxy> proxies = new HashMap<>();
-        for (TypeElement element : elements) {
-            final List<String> resources = List.of(element.getAnnotation(DynamicProxyHint.class).resources());
-            final List<String> files = List.of(element.getAnnotation(DynamicProxyHint.class).files());
-            final List<Configuration> configurations = getDynamicProxyConfigurations(element).stream()
-                    .filter(c -> !c.getInterfaces().isEmpty())
-                    .collect(Collectors.toList());
-
-            if (!configurations.isEmpty() || !files.isEmpty() || !resources.isEmpty()) {
-                final HintOrigin origin = HintUtils.getHintOrigin(element, processingEnv);
-                final DynamicProxy proxy = proxies.computeIfAbsent(origin, k -> new DynamicProxy());
-                proxy.files.addAll(files);
-                proxy.resources.addAll(resources);
-                proxy.configurations.addAll(configurations);
+    public List<Option> getOptions(List<HintModel> models, HintFiler filer) {
+        final boolean pretty = filer.getOptions().isJsonPretty();
+        final List<Option> options = new ArrayList<>();
+        for (HintModel model : models) {
+            if (model.getProxyConfigurations().isEmpty()
+                    && model.getProxyFiles().isEmpty()
+                    && model.getProxyResources().isEmpty()) {
+                continue;
             }
-        }
 
-        proxies.forEach((o, p) -> {
-            if (!p.configurations.isEmpty()) {
-                final String proxyConfigurationFile = p.configurations.stream()
-                        .map(c -> c.getInterfaces().stream()
-                                .collect(Collectors.joining("\", \"", "  { \"interfaces\": [ \"", "\" ] }")))
-                        .collect(Collectors.joining(",\n", "[\n", "\n]"));
-
-                final HintOrigin origin = HintUtils.getHintOrigin(elements.iterator().next(), processingEnv);
-                final HintFile file = origin.getFileWithRelativePath("dynamic-proxy-config.json");
-                HintUtils.writeConfigFile(file, proxyConfigurationFile, processingEnv);
-                p.resources.add(file.getPath());
+            final List<String> resources = new ArrayList<>(model.getProxyResources());
+            if (!model.getProxyConfigurations().isEmpty() && filer.getOptions().isReachabilityMetadata()) {
+                final ReachabilityMetadata metadata = filer.getMetadata(model);
+                for (Configuration configuration : model.getProxyConfigurations()) {
+                    metadata.add(ReachabilityMetadata.REFLECTION, json -> json
+                            .condition(JsonWriter.TYPE_REACHED, configuration.getCondition())
+                            .name("type").beginObject().array("proxy", configuration.getInterfaces()).endObject());
+                }
+            } else if (!model.getProxyConfigurations().isEmpty()) {
+                final List<Configuration> configurations = model.getProxyConfigurations();
+                final HintContent content = writer -> writeProxyConfig(configurations, new JsonWriter(writer, pretty));
+                final HintFile file = model.getOrigin().getFileWithRelativePath("dynamic-proxy-config.json");
+                filer.write(file, content, model.getOriginatingElements());
+                resources.add(file.getPath());
             }
-        });
 
-        final List<Option> options = new ArrayList<>();
-        proxies.forEach((o, p) -> {
             final List<String> originOptions = new ArrayList<>();
-            if (!p.files.isEmpty()) {
-                final String proxyFileOption = p.files.stream()
+            if (!model.getProxyFiles().isEmpty()) {
+                final String proxyFileOption = model.getProxyFiles().stream()
                         .collect(Collectors.joining(",", "-H:DynamicProxyConfigurationFiles=", ""));
                 originOptions.add(proxyFileOption);
             }
 
-            if (!p.resources.isEmpty()) {
-                final String proxyResourceOption = p.resources.stream()
+            if (!resources.isEmpty()) {
+                final String proxyResourceOption = resources.stream()
                         .collect(Collectors.joining(",", "-H:DynamicProxyConfigurationResources=", ""));
                 originOptions.add(proxyResourceOption);
             }
 
-            options.add(new Option(o, originOptions));
-        });
+            options.add(new Option(model.getOrigin(), originOptions));
+        }
 
         return options;
     }
 
-    private List<Configuration> getDynamicProxyConfigurations(TypeElement type) {
-        final String annotationParent = DynamicProxyHint.class.getSimpleName();
-        final List<Configuration> interfaceConfigurations = type.getAnnotationMirrors().stream()
-                .filter(pa -> pa.getAnnotationType().asElement().getSimpleName().contentEquals(annotationParent))
-                .flatMap(pa -> pa.getElementValues().entrySet().stream())
-                .filter(e -> e.getKey().getSimpleName().contentEquals("value"))
-                .flatMap(e -> ((List<?>) e.getValue().getValue()).stream())
-                .map(a -> {
-                    final List<String> interfaces = HintUtils.getAnnotationFieldValues((AnnotationMirror) a, "interfaces");
-                    return new Configuration(interfaces);
+    private static void writeProxyConfig(List<Configuration> configurations, JsonWriter json) throws IOException {
+        json.beginArray();
+        for (Configuration configuration : configurations) {
+            json.beginObject()
+                    .condition(JsonWriter.TYPE_REACHABLE, configuration.getCondition())
+                    .array("interfaces", configuration.getInterfaces())
+                    .endObject();
+        }
+        json.endArray();
+    }
+
+    static List<String> getAnnotationFiles(List<AnnotationMirror> annotations) {
+        return annotations.stream()
+                .flatMap(a -> HintUtils.getAnnotationFieldValues(a, "files").stream())
+                .collect(Collectors.toList());
+    }
+
+    static List<String> getAnnotationResources(List<AnnotationMirror> annotations) {
+        return annotations.stream()
+                .flatMap(a -> HintUtils.getAnnotationFieldValues(a, "resources").stream())
+                .collect(Collectors.toList());
+    }
+
+    static List<Configuration> getAnnotationConfigurations(TypeElement type,
+                                                           List<AnnotationMirror> annotations,
+                                                           HintCache cache) {
+        final List<Configuration> interfaceConfigurations = annotations.stream()
+                .flatMap(pa -> {
+                    final String condition = cache.getCondition(pa, type);
+                    return pa.getElementValues().entrySet().stream()
+                            .filter(e -> e.getKey().getSimpleName().contentEquals("value"))
+                            .flatMap(e -> ((List<?>) e.getValue().getValue()).stream())
+                            .map(a -> {
+                                final AnnotationMirror configuration = (AnnotationMirror) ((AnnotationValue) a).getValue();
+                                return new Configuration(
+                                        HintUtils.getAnnotationFieldClassNames(configuration, "interfaces", cache), condition);
+                            });
                 })
+                .filter(c -> !c.getInterfaces().isEmpty())
                 .collect(Collectors.toList());
 
-        if (interfaceConfigurations.isEmpty() && isSelfConfiguration(type)) {
-            final String elementName = HintUtils.getElementClassName(type);
+        if (interfaceConfigurations.isEmpty() && isSelfConfiguration(annotations)) {
+            final String elementName = cache.getTypeName(type);
             if (type.getKind().isInterface()) {
-                return List.of(new Configuration(List.of(elementName)));
+                return List.of(new Configuration(List.of(elementName), cache.getCondition(annotations.get(0), type)));
             } else {
                 throw new HintException(elementName + " is annotated with @"
                         + DynamicProxyHint.class.getSimpleName() + " hint but is not an interface", type);
@@ -131,9 +145,7 @@ private List<Configuration> getDynamicProxyConfigurations(TypeElement type) {
         return interfaceConfigurations;
     }
 
-    private boolean isSelfConfiguration(TypeElement element) {
-        final DynamicProxyHint annotation = element.getAnnotation(DynamicProxyHint.class);
-        return (annotation.resources() == null || annotation.resources().length == 0)
-                && (annotation.files() == null || annotation.files().length == 0);
+    private static boolean isSelfConfiguration(List<AnnotationMirror> annotations) {
+        return getAnnotationFiles(annotations).isEmpty() && getAnnotationResources(annotations).isEmpty();
     }
 }
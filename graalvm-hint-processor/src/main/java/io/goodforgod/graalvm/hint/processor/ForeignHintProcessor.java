@@ -0,0 +1,422 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import io.goodforgod.graalvm.hint.annotation.ForeignHint;
+import io.goodforgod.graalvm.hint.annotation.ForeignHints;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.util.*;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.TypeElement;
+
+/**
+ * Processes {@link ForeignHint} annotation for native-image foreign-config.json file
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @see ForeignHint
+ * @since 18.10.2026
+ */
+public final class ForeignHintProcessor extends AbstractHintProcessor {
+
+    private static final String FILE_NAME = "foreign-config.json";
+
+    private static final String VOID = "void";
+    private static final String STRUCT = "struct(";
+    private static final String UNION = "union(";
+
+    private static final Set<String> CANONICAL_LAYOUTS = Set.of(
+            "bool", "char", "short", "int", "long", "long long", "float", "double", "size_t", "wchar_t", "void*",
+            "jboolean", "jbyte", "jchar", "jshort", "jint", "jlong", "jfloat", "jdouble");
+
+    /**
+     * Function descriptor with options and type that its registration is conditional on
+     */
+    static final class Descriptor implements Comparable<Descriptor> {
+
+        private static final Comparator<Descriptor> COMPARATOR = Comparator.comparing((Descriptor d) -> d.returnType)
+                .thenComparing(d -> String.join(",", d.parameterTypes))
+                .thenComparing(d -> d.critical)
+                .thenComparing(d -> d.allowHeapAccess)
+                .thenComparing(d -> d.firstVariadicArg)
+                .thenComparing(d -> d.captureCallState)
+                .thenComparing(d -> d.condition, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+        private final String returnType;
+        private final List<String> parameterTypes;
+        private final boolean critical;
+        private final boolean allowHeapAccess;
+        private final int firstVariadicArg;
+        private final boolean captureCallState;
+        private final String condition;
+
+        Descriptor(String returnType,
+                   List<String> parameterTypes,
+                   boolean critical,
+                   boolean allowHeapAccess,
+                   int firstVariadicArg,
+                   boolean captureCallState,
+                   String condition) {
+            this.returnType = returnType;
+            this.parameterTypes = List.copyOf(parameterTypes);
+            this.critical = critical;
+            this.allowHeapAccess = allowHeapAccess;
+            this.firstVariadicArg = firstVariadicArg;
+            this.captureCallState = captureCallState;
+            this.condition = condition;
+        }
+
+        String getReturnType() {
+            return returnType;
+        }
+
+        List<String> getParameterTypes() {
+            return parameterTypes;
+        }
+
+        boolean isCritical() {
+            return critical;
+        }
+
+        boolean isAllowHeapAccess() {
+            return allowHeapAccess;
+        }
+
+        /**
+         * @return index of first variadic parameter or -1 if function is not variadic
+         */
+        int getFirstVariadicArg() {
+            return firstVariadicArg;
+        }
+
+        boolean isCaptureCallState() {
+            return captureCallState;
+        }
+
+        /**
+         * @return type that registration is conditional on or null if unconditional
+         */
+        String getCondition() {
+            return condition;
+        }
+
+        private boolean haveOptions() {
+            return critical || firstVariadicArg != -1 || captureCallState;
+        }
+
+        @Override
+        public int compareTo(Descriptor o) {
+            return COMPARATOR.compare(this, o);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (o == null || getClass() != o.getClass())
+                return false;
+            Descriptor that = (Descriptor) o;
+            return critical == that.critical
+                    && allowHeapAccess == that.allowHeapAccess
+                    && firstVariadicArg == that.firstVariadicArg
+                    && captureCallState == that.captureCallState
+                    && Objects.equals(returnType, that.returnType)
+                    && Objects.equals(parameterTypes, that.parameterTypes)
+                    && Objects.equals(condition, that.condition);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(returnType, parameterTypes, critical, allowHeapAccess, firstVariadicArg, captureCallState,
+                    condition);
+        }
+    }
+
+    static final class Foreign {
+
+        private final Set<Descriptor> downcalls;
+        private final Set<Descriptor> upcalls;
+
+        Foreign(Collection<Descriptor> downcalls, Collection<Descriptor> upcalls) {
+            this.downcalls = Collections.unmodifiableSet(new LinkedHashSet<>(downcalls));
+            this.upcalls = Collections.unmodifiableSet(new LinkedHashSet<>(upcalls));
+        }
+
+        Set<Descriptor> getDowncalls() {
+            return downcalls;
+        }
+
+        Set<Descriptor> getUpcalls() {
+            return upcalls;
+        }
+
+        boolean isEmpty() {
+            return downcalls.isEmpty() && upcalls.isEmpty();
+        }
+    }
+
+    @Override
+    protected Set<Class<? extends Annotation>> getSupportedAnnotations() {
+        return Set.of(ForeignHint.class, ForeignHints.class);
+    }
+
+    @Override
+    protected boolean writeHints(List<HintModel> models) {
+        for (HintModel model : models) {
+            final Foreign foreign = model.getForeign();
+            if (!foreign.isEmpty()) {
+                if (options.isReachabilityMetadata()) {
+                    final ReachabilityMetadata metadata = filer.getMetadata(model);
+                    for (Descriptor downcall : new TreeSet<>(foreign.downcalls)) {
+                        metadata.add(ReachabilityMetadata.FOREIGN, ReachabilityMetadata.DOWNCALLS,
+                                json -> writeDescriptor(downcall, JsonWriter.TYPE_REACHED, json));
+                    }
+                    for (Descriptor upcall : new TreeSet<>(foreign.upcalls)) {
+                        metadata.add(ReachabilityMetadata.FOREIGN, ReachabilityMetadata.UPCALLS,
+                                json -> writeDescriptor(upcall, JsonWriter.TYPE_REACHED, json));
+                    }
+                } else {
+                    final HintContent content = writer -> writeForeignConfig(foreign,
+                            new JsonWriter(writer, options.isJsonPretty()));
+                    final HintFile file = model.getOrigin().getFileWithRelativePath(FILE_NAME);
+                    if (!filer.write(file, content, model.getOriginatingElements())) {
+                        return false;
+                    }
+                }
+                statistics.addEntries(foreign.downcalls.size() + foreign.upcalls.size());
+            }
+        }
+
+        return true;
+    }
+
+    private static void writeForeignConfig(Foreign foreign, JsonWriter json) throws IOException {
+        json.beginObject();
+        if (!foreign.downcalls.isEmpty()) {
+            json.name(ReachabilityMetadata.DOWNCALLS).beginArray();
+            for (Descriptor downcall : new TreeSet<>(foreign.downcalls)) {
+                json.beginObject();
+                writeDescriptor(downcall, JsonWriter.TYPE_REACHABLE, json);
+                json.endObject();
+            }
+            json.endArray();
+        }
+        if (!foreign.upcalls.isEmpty()) {
+            json.name(ReachabilityMetadata.UPCALLS).beginArray();
+            for (Descriptor upcall : new TreeSet<>(foreign.upcalls)) {
+                json.beginObject();
+                writeDescriptor(upcall, JsonWriter.TYPE_REACHABLE, json);
+                json.endObject();
+            }
+            json.endArray();
+        }
+        json.endObject();
+    }
+
+    private static void writeDescriptor(Descriptor descriptor, String condition, JsonWriter json) throws IOException {
+        json.condition(condition, descriptor.condition)
+                .name("returnType").value(descriptor.returnType)
+                .array("parameterTypes", descriptor.parameterTypes);
+
+        if (descriptor.haveOptions()) {
+            json.name("options").beginObject();
+            if (descriptor.critical) {
+                json.name("critical");
+                if (descriptor.allowHeapAccess) {
+                    json.beginObject().name("allowHeapAccess").value(true).endObject();
+                } else {
+                    json.value(true);
+                }
+            }
+            if (descriptor.firstVariadicArg != -1) {
+                json.name("firstVariadicArg").value(descriptor.firstVariadicArg);
+            }
+            if (descriptor.captureCallState) {
+                json.name("captureCallState").value(true);
+            }
+            json.endObject();
+        }
+    }
+
+    static Foreign getAnnotationForeign(TypeElement element, List<AnnotationMirror> annotations, HintCache cache) {
+        final List<Descriptor> downcalls = new ArrayList<>();
+        final List<Descriptor> upcalls = new ArrayList<>();
+        for (AnnotationMirror annotation : annotations) {
+            final String condition = cache.getCondition(annotation, element);
+            for (AnnotationMirror descriptor : getDescriptors(annotation, "downcalls")) {
+                downcalls.add(getDescriptor(element, descriptor, true, condition));
+            }
+            for (AnnotationMirror descriptor : getDescriptors(annotation, "upcalls")) {
+                upcalls.add(getDescriptor(element, descriptor, false, condition));
+            }
+        }
+
+        if (downcalls.isEmpty() && upcalls.isEmpty()) {
+            throw new HintException(element.getQualifiedName() + " is annotated with @"
+                    + ForeignHint.class.getSimpleName() + ", but no 'downcalls' or 'upcalls' specified!", element);
+        }
+
+        return new Foreign(downcalls, upcalls);
+    }
+
+    private static List<AnnotationMirror> getDescriptors(AnnotationMirror annotation, String annotationFieldName) {
+        final List<AnnotationMirror> descriptors = new ArrayList<>();
+        annotation.getElementValues().forEach((field, value) -> {
+            if (field.getSimpleName().contentEquals(annotationFieldName)) {
+                for (Object descriptor : (List<?>) value.getValue()) {
+                    descriptors.add((AnnotationMirror) ((AnnotationValue) descriptor).getValue());
+                }
+            }
+        });
+        return descriptors;
+    }
+
+    private static Descriptor getDescriptor(TypeElement element, AnnotationMirror mirror, boolean downcall, String condition) {
+        final String returnType = HintUtils.getAnnotationFieldValuesOrDefault(mirror, "returnType", List.of(VOID)).get(0).trim();
+        final List<String> parameterTypes = new ArrayList<>();
+        HintUtils.getAnnotationFieldValues(mirror, "parameterTypes").forEach(p -> parameterTypes.add(p.trim()));
+        final boolean critical = HintUtils.getAnnotationFieldValues(mirror, "critical").contains("true");
+        final boolean allowHeapAccess = HintUtils.getAnnotationFieldValues(mirror, "allowHeapAccess").contains("true");
+        final int firstVariadicArg = HintUtils.getAnnotationFieldValues(mirror, "firstVariadicArg").stream()
+                .findFirst()
+                .map(Integer::parseInt)
+                .orElse(-1);
+        final boolean captureCallState = HintUtils.getAnnotationFieldValues(mirror, "captureCallState").contains("true");
+        final String function = returnType + "(" + String.join(", ", parameterTypes) + ")";
+
+        final String returnTypeError = (VOID.equals(returnType)) ? null : getLayoutError(returnType);
+        if (returnTypeError != null) {
+            throw getDescriptorException(element, function, "return type " + returnTypeError);
+        }
+        for (String parameterType : parameterTypes) {
+            final String parameterTypeError = getLayoutError(parameterType);
+            if (parameterTypeError != null) {
+                throw getDescriptorException(element, function, "parameter type " + parameterTypeError);
+            }
+        }
+
+        if (!downcall && (critical || allowHeapAccess || firstVariadicArg != -1 || captureCallState)) {
+            throw getDescriptorException(element, function,
+                    "upcall can't have 'critical', 'allowHeapAccess', 'firstVariadicArg' or 'captureCallState' options");
+        } else if (allowHeapAccess && !critical) {
+            throw getDescriptorException(element, function, "'allowHeapAccess' option requires 'critical' option");
+        } else if (firstVariadicArg < -1 || firstVariadicArg > parameterTypes.size()) {
+            throw getDescriptorException(element, function, "'firstVariadicArg' " + firstVariadicArg
+                    + " is out of parameter types range");
+        }
+
+        return new Descriptor(returnType, parameterTypes, critical, allowHeapAccess, firstVariadicArg, captureCallState,
+                condition);
+    }
+
+    private static HintException getDescriptorException(TypeElement element, String function, String reason) {
+        return new HintException(element.getQualifiedName() + " is annotated with @" + ForeignHint.class.getSimpleName()
+                + ", but descriptor '" + function + "' is invalid: " + reason, element);
+    }
+
+    /**
+     * @param layout canonical layout, struct, union, sequence
+     * @return description of what is wrong with layout or null if layout is valid
+     */
+    static String getLayoutError(String layout) {
+        final int[] position = { 0 };
+        final String normalized = layout.trim();
+        final String error = parseLayout(normalized, position, false);
+        if (error != null) {
+            return error;
+        }
+
+        return (position[0] == normalized.length())
+                ? null
+                : "'" + layout + "' has unexpected '" + normalized.substring(position[0]) + "'";
+    }
+
+    /**
+     * @param position of layout start, moved to layout end
+     * @param member   true if layout is member of struct or union, so it can be padding
+     * @return error or null if layout is valid
+     */
+    private static String parseLayout(String layout, int[] position, boolean member) {
+        skipWhitespaces(layout, position);
+        final int start = position[0];
+        if (layout.startsWith(STRUCT, start) || layout.startsWith(UNION, start)) {
+            position[0] += layout.startsWith(STRUCT, start) ? STRUCT.length() : UNION.length();
+            int members = 0;
+            while (true) {
+                final int memberStart = position[0];
+                final String memberError = parseLayout(layout, position, true);
+                if (memberError != null) {
+                    return memberError;
+                }
+                if (!isPadding(layout.substring(memberStart, position[0]).trim())) {
+                    members++;
+                }
+
+                skipWhitespaces(layout, position);
+                if (position[0] == layout.length()) {
+                    return "'" + layout.substring(start) + "' is missing ')'";
+                } else if (layout.charAt(position[0]) == ')') {
+                    position[0]++;
+                    break;
+                } else if (layout.charAt(position[0]) != ',') {
+                    return "'" + layout.substring(start) + "' has unexpected '" + layout.charAt(position[0]) + "'";
+                }
+                position[0]++;
+            }
+
+            return (members == 0)
+                    ? "'" + layout.substring(start, position[0]) + "' must have at least one member that is not padding"
+                    : null;
+        } else if (layout.startsWith("[", start)) {
+            final int separator = layout.indexOf(':', start);
+            final String count = (separator == -1) ? "" : layout.substring(start + 1, separator).trim();
+            if (count.isEmpty() || !count.chars().allMatch(Character::isDigit) || count.chars().allMatch(c -> c == '0')) {
+                return "'" + layout.substring(start) + "' sequence must start with positive element count like '[4:jint]'";
+            }
+
+            position[0] = separator + 1;
+            final String elementError = parseLayout(layout, position, false);
+            if (elementError != null) {
+                return elementError;
+            }
+            skipWhitespaces(layout, position);
+            if (position[0] == layout.length() || layout.charAt(position[0]) != ']') {
+                return "'" + layout.substring(start) + "' is missing ']'";
+            }
+            position[0]++;
+            return null;
+        }
+
+        while (position[0] < layout.length() && ",)]".indexOf(layout.charAt(position[0])) == -1) {
+            position[0]++;
+        }
+
+        final String name = layout.substring(start, position[0]).trim().replaceAll("\\s+", " ");
+        if (name.isEmpty()) {
+            return "layout is empty";
+        } else if (isPadding(name)) {
+            return (member)
+                    ? null
+                    : "padding '" + name + "' can be used only as struct or union member";
+        } else if (VOID.equals(name)) {
+            return "'void' can be used only as return type";
+        } else if (!CANONICAL_LAYOUTS.contains(name)) {
+            return "'" + name + "' is unknown layout, expected one of " + new TreeSet<>(CANONICAL_LAYOUTS)
+                    + " or struct, union or sequence";
+        }
+
+        return null;
+    }
+
+    /**
+     * @return true if layout is padding like {@code x4}
+     */
+    private static boolean isPadding(String layout) {
+        return layout.length() > 1 && layout.charAt(0) == 'x' && layout.substring(1).chars().allMatch(Character::isDigit);
+    }
+
+    private static void skipWhitespaces(String layout, int[] position) {
+        while (position[0] < layout.length() && Character.isWhitespace(layout.charAt(position[0]))) {
+            position[0]++;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import javax.lang.model.element.TypeElement;
+
+/**
+ * Accumulates hints for each {@link HintOrigin} across all annotation processing rounds, so hint
+ * files can be written exactly once when processing is over.
+ *
+ * @param <T> hint model type
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+final class HintAccumulator<T> {
+
+    private final Function<HintOrigin, T> hintFactory;
+    private final Map<HintOrigin, T> hints = new LinkedHashMap<>();
+    private final Map<HintOrigin, Set<TypeElement>> originatingElements = new LinkedHashMap<>();
+
+    HintAccumulator(Function<HintOrigin, T> hintFactory) {
+        this.hintFactory = hintFactory;
+    }
+
+    /**
+     * @param origin  hint origin
+     * @param element type that produces hints for origin
+     * @return hint model for origin
+     */
+    T get(HintOrigin origin, TypeElement element) {
+        originatingElements.computeIfAbsent(origin, k -> new LinkedHashSet<>()).add(element);
+        return hints.computeIfAbsent(origin, hintFactory);
+    }
+
+    Map<HintOrigin, T> getHints() {
+        return Collections.unmodifiableMap(hints);
+    }
+
+    Set<TypeElement> getOriginatingElements(HintOrigin origin) {
+        return originatingElements.getOrDefault(origin, Set.of());
+    }
+
+    boolean isEmpty() {
+        return hints.isEmpty();
+    }
+}
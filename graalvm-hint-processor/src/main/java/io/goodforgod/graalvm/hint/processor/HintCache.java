@@ -0,0 +1,183 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+
+/**
+ * Per compilation cache of {@link HintOrigin} for packages and binary names for types, so each is
+ * resolved only once across all annotated elements and processing rounds.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+final class HintCache {
+
+    private static final String CLASS_SUFFIX = ".class";
+
+    private final ProcessingEnvironment processingEnv;
+    private final Elements elements;
+    private final boolean condition;
+
+    private final Map<PackageElement, HintOrigin> origins = new HashMap<>();
+    private final Map<TypeElement, String> typeNames = new HashMap<>();
+    private final Map<String, String> classLiteralNames = new HashMap<>();
+    private final Map<String, Optional<TypeElement>> typeElements = new HashMap<>();
+
+    HintCache(HintOptions options, ProcessingEnvironment processingEnv) {
+        this.processingEnv = processingEnv;
+        this.elements = processingEnv.getElementUtils();
+        this.condition = options.isCondition();
+    }
+
+    /**
+     * @param element to get origin for
+     * @return origin of element package
+     */
+    HintOrigin getOrigin(Element element) {
+        final PackageElement packageElement = elements.getPackageOf(element);
+        return origins.computeIfAbsent(packageElement, p -> HintUtils.getHintOrigin(p, processingEnv));
+    }
+
+    /**
+     * @param type to get name for
+     * @return binary name of type as used by native-image, like {@code io.pkg.Outer$Inner}
+     */
+    String getTypeName(TypeElement type) {
+        return typeNames.computeIfAbsent(type, t -> elements.getBinaryName(t).toString());
+    }
+
+    /**
+     * @param value of annotation class field or class name
+     * @return binary name of type, class literals that compiler reported as {@code io.pkg.Outer.Inner.class}
+     *             are resolved to binary name
+     */
+    String getTypeName(Object value) {
+        if (value instanceof DeclaredType) {
+            final Element element = ((DeclaredType) value).asElement();
+            if (element instanceof TypeElement) {
+                return getTypeName((TypeElement) element);
+            }
+        }
+
+        final String name = value.toString();
+        return (name.endsWith(CLASS_SUFFIX))
+                ? classLiteralNames.computeIfAbsent(name, this::getClassLiteralName)
+                : name;
+    }
+
+    /**
+     * @param mirror of hint annotation with {@code condition} field
+     * @param type   annotated with hint
+     * @return binary name of type that hint registration is conditional on, or null if unconditional
+     */
+    String getCondition(AnnotationMirror mirror, TypeElement type) {
+        return HintUtils.getAnnotationFieldClassNames(mirror, "condition", this).stream()
+                .filter(c -> !Void.class.getName().equals(c))
+                .findFirst()
+                .orElseGet(() -> getCondition(type));
+    }
+
+    /**
+     * @param type annotated with hint
+     * @return binary name of annotated type if hints are conditional on it by default, or null
+     */
+    String getCondition(TypeElement type) {
+        return (condition)
+                ? getTypeName(type)
+                : null;
+    }
+
+    /**
+     * @param typeName binary or canonical name of type
+     * @return type if it is available in compilation
+     */
+    Optional<TypeElement> getTypeElement(String typeName) {
+        return typeElements.computeIfAbsent(typeName,
+                name -> Optional.ofNullable(elements.getTypeElement(name.replace('$', '.'))));
+    }
+
+    /**
+     * @param type      to check
+     * @param supertype to check against
+     * @return true if erased type is subtype of erased supertype
+     */
+    boolean isSubtype(TypeElement type, TypeElement supertype) {
+        final Types types = processingEnv.getTypeUtils();
+        return types.isSubtype(types.erasure(type.asType()), types.erasure(supertype.asType()));
+    }
+
+    /**
+     * @param type to get name for
+     * @return binary name of erased type as used by native-image, like {@code java.lang.String[]} or {@code int}
+     */
+    String getErasedTypeName(TypeMirror type) {
+        final TypeMirror erased = processingEnv.getTypeUtils().erasure(type);
+        if (erased.getKind() == TypeKind.ARRAY) {
+            return getErasedTypeName(((ArrayType) erased).getComponentType()) + "[]";
+        } else if (erased.getKind() == TypeKind.DECLARED) {
+            return getTypeName((TypeElement) ((DeclaredType) erased).asElement());
+        }
+        return erased.toString();
+    }
+
+    /**
+     * @param executable method or constructor
+     * @return signature like {@code name(java.lang.String,int)}, constructor name is {@code <init>}
+     */
+    String getSignature(ExecutableElement executable) {
+        return executable.getParameters().stream()
+                .map(p -> getErasedTypeName(p.asType()))
+                .collect(Collectors.joining(",", executable.getSimpleName() + "(", ")"));
+    }
+
+    private String getClassLiteralName(String classLiteral) {
+        final String canonicalName = classLiteral.substring(0, classLiteral.length() - CLASS_SUFFIX.length());
+        final TypeElement type = elements.getTypeElement(canonicalName);
+        return (type == null)
+                ? getGuessedBinaryName(canonicalName)
+                : getTypeName(type);
+    }
+
+    /**
+     * Type is not available in compilation, so nested types are guessed by upper case names
+     */
+    private static String getGuessedBinaryName(String canonicalName) {
+        final List<String> classType = new ArrayList<>();
+
+        String packagePrefix = canonicalName;
+        int nextSeparator;
+        while ((nextSeparator = packagePrefix.lastIndexOf('.')) != -1) {
+            final String nextClassType = packagePrefix.substring(nextSeparator + 1);
+            if (!Character.isUpperCase(nextClassType.charAt(0))) {
+                break;
+            }
+
+            classType.add(nextClassType);
+            packagePrefix = packagePrefix.substring(0, nextSeparator);
+        }
+
+        if (classType.isEmpty()) {
+            return canonicalName;
+        }
+
+        Collections.reverse(classType);
+        return packagePrefix + "." + String.join("$", classType);
+    }
+}
@@ -0,0 +1,24 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Renders hint file content straight into file writer
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@FunctionalInterface
+interface HintContent {
+
+    /**
+     * @param writer to write content into
+     * @throws IOException if writing failed
+     */
+    void writeTo(Writer writer) throws IOException;
+
+    static HintContent of(String content) {
+        return writer -> writer.write(content);
+    }
+}
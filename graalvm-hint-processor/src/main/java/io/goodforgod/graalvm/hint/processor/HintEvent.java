@@ -0,0 +1,51 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import jdk.jfr.*;
+
+/**
+ * JFR event for single phase of hint processing, recorded only when
+ * {@link HintOptions#HINT_STATISTICS} is enabled
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@Name("io.goodforgod.graalvm.hint.Processing")
+@Label("GraalVM Hint Processing")
+@Category("GraalVM Hint")
+@Description("Phase of GraalVM hint annotation processing inside javac")
+@StackTrace(false)
+final class HintEvent extends Event {
+
+    static final String SCAN = "scan";
+    static final String WRITE = "write";
+    static final String OPTIONS = "options";
+
+    @Label("Processor")
+    @Description("Hint processor or option parser")
+    String processor;
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Round")
+    @Description("Annotation processing round number")
+    int round;
+
+    @Label("Elements")
+    @Description("Annotated elements scanned")
+    int elements;
+
+    @Label("Entries")
+    @Description("Hint entries or options produced")
+    int entries;
+
+    @Label("Bytes Written")
+    @DataAmount
+    long bytes;
+
+    @Label("Time Spent")
+    @Timespan(Timespan.NANOSECONDS)
+    long nanos;
+
+    transient long startNanos;
+}
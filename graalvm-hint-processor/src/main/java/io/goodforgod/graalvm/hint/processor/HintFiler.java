@@ -0,0 +1,236 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Writes hint files into {@link StandardLocation#CLASS_OUTPUT} as UTF-8 and counts bytes written.
+ * When {@link HintOptions#isParallel()} is enabled, content is rendered on {@link ForkJoinPool} and
+ * files are written on compiler thread only when {@link #flush()} is called, as {@link Filer} is
+ * not thread safe.
+ * <p>
+ * {@link ReachabilityMetadata} of each origin is filled by all processors that share filer and is
+ * written as single file on {@link #flush()}.
+ * <p>
+ * When {@link HintOptions#isSkipUnchanged()} is enabled, unchanged file is still created via
+ * {@link Filer} with its originating elements so compiler and build tools track it as generated, but
+ * its output stream is never opened and existing file is left untouched.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+final class HintFiler {
+
+    private final HintOptions options;
+    private final ProcessingEnvironment processingEnv;
+
+    private final List<PendingWrite> pending = new ArrayList<>();
+    private final Map<HintOrigin, ReachabilityMetadata> metadata = new LinkedHashMap<>();
+    private long bytesWritten = 0;
+
+    private static final class PendingWrite {
+
+        private final HintFile file;
+        private final Element[] originating;
+        private final CompletableFuture<String> content;
+
+        private PendingWrite(HintFile file, Element[] originating, CompletableFuture<String> content) {
+            this.file = file;
+            this.originating = originating;
+            this.content = content;
+        }
+    }
+
+    HintFiler(HintOptions options, ProcessingEnvironment processingEnv) {
+        this.options = options;
+        this.processingEnv = processingEnv;
+    }
+
+    HintOptions getOptions() {
+        return options;
+    }
+
+    /**
+     * @return bytes written into all hint files by this filer
+     */
+    long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    /**
+     * @param model to get metadata for
+     * @return reachability metadata of model origin that is written on {@link #flush()}
+     */
+    ReachabilityMetadata getMetadata(HintModel model) {
+        return metadata.computeIfAbsent(model.getOrigin(), o -> new ReachabilityMetadata())
+                .originatingElements(model.getOriginatingElements());
+    }
+
+    /**
+     * @param file                to write
+     * @param content             to write into file
+     * @param originatingElements types that produced hints for this file, required for incremental
+     *                                annotation processing (Gradle aggregating processors)
+     * @return true if file was written successfully or skipped as unchanged, or scheduled for rendering
+     */
+    boolean write(HintFile file, HintContent content, Collection<? extends Element> originatingElements) {
+        final Element[] originating = originatingElements.toArray(Element[]::new);
+        if (options.isParallel()) {
+            final CompletableFuture<String> rendered = CompletableFuture.supplyAsync(() -> render(content),
+                    ForkJoinPool.commonPool());
+            pending.add(new PendingWrite(file, originating, rendered));
+            return true;
+        }
+
+        return write(file, content, originating);
+    }
+
+    /**
+     * Writes reachability metadata, waits for content rendered in parallel and writes it in same order
+     * as files were scheduled
+     *
+     * @return true if all scheduled files were written successfully
+     */
+    boolean flush() {
+        boolean written = true;
+        for (Map.Entry<HintOrigin, ReachabilityMetadata> entry : metadata.entrySet()) {
+            final ReachabilityMetadata originMetadata = entry.getValue();
+            if (!originMetadata.isEmpty()) {
+                final HintFile file = entry.getKey().getFileWithRelativePath(ReachabilityMetadata.FILE_NAME);
+                final HintContent content = writer -> originMetadata.writeTo(new JsonWriter(writer, options.isJsonPretty()));
+                written &= write(file, content, originMetadata.getOriginatingElements());
+            }
+        }
+        metadata.clear();
+
+        for (PendingWrite write : pending) {
+            final String content;
+            try {
+                content = write.content.join();
+            } catch (CompletionException e) {
+                final Throwable cause = (e.getCause() == null) ? e : e.getCause();
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        "Couldn't render GraalVM Hint " + write.file.getName() + " due to: " + cause.getMessage());
+                written = false;
+                continue;
+            }
+
+            written &= write(write.file, HintContent.of(content), write.originating);
+        }
+
+        pending.clear();
+        return written;
+    }
+
+    private boolean write(HintFile file, HintContent content, Element[] originating) {
+        try {
+            final boolean unchanged = options.isSkipUnchanged() && isUnchanged(file, content);
+            final FileObject fileObject = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+                    file.getPath(), originating);
+            if (unchanged) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                        "Skipping unchanged GraalVM Hint " + file.getName() + " at: " + file.getPath());
+                return true;
+            }
+
+            final CountingOutputStream stream = new CountingOutputStream(fileObject.openOutputStream());
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8))) {
+                content.writeTo(writer);
+            }
+            bytesWritten += stream.count;
+        } catch (Exception e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Couldn't write GraalVM Hint " + file.getName() + " to due to: " + e.getMessage());
+            return false;
+        }
+
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                "Generating GraalVM Hint " + file.getName() + " to: " + file.getPath());
+        return true;
+    }
+
+    private static String render(HintContent content) {
+        final StringWriter writer = new StringWriter();
+        try {
+            content.writeTo(writer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return writer.toString();
+    }
+
+    /**
+     * @return true if file already exists in output and has same content hash
+     */
+    private boolean isUnchanged(HintFile file, HintContent content) throws IOException {
+        final byte[] existingHash;
+        try (InputStream stream = processingEnv.getFiler()
+                .getResource(StandardLocation.CLASS_OUTPUT, "", file.getPath())
+                .openInputStream()) {
+            final MessageDigest digest = getDigest();
+            final byte[] buffer = new byte[8192];
+            int read;
+            while ((read = stream.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+            existingHash = digest.digest();
+        } catch (FileNotFoundException | NoSuchFileException | IllegalArgumentException e) {
+            return false;
+        }
+
+        final MessageDigest digest = getDigest();
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                new DigestOutputStream(OutputStream.nullOutputStream(), digest), StandardCharsets.UTF_8))) {
+            content.writeTo(writer);
+        }
+
+        return MessageDigest.isEqual(existingHash, digest.digest());
+    }
+
+    private static MessageDigest getDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    private static final class CountingOutputStream extends FilterOutputStream {
+
+        private long count = 0;
+
+        private CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,483 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import io.goodforgod.graalvm.hint.annotation.InitializationHint.InitPhase;
+import io.goodforgod.graalvm.hint.annotation.ReflectionHint.AccessType;
+import io.goodforgod.graalvm.hint.processor.AbstractAccessHintProcessor.Access;
+import io.goodforgod.graalvm.hint.processor.DynamicProxyHintParser.Configuration;
+import io.goodforgod.graalvm.hint.processor.ForeignHintProcessor.Descriptor;
+import io.goodforgod.graalvm.hint.processor.ForeignHintProcessor.Foreign;
+import io.goodforgod.graalvm.hint.processor.InitializationHintParser.Initialization;
+import io.goodforgod.graalvm.hint.processor.NativeImageHintParser.Entrypoint;
+import io.goodforgod.graalvm.hint.processor.ResourceHintProcessor.Resource;
+import io.goodforgod.graalvm.hint.processor.ResourceHintProcessor.Resources;
+import io.goodforgod.graalvm.hint.processor.SerializationHintProcessor.Serialization;
+import io.goodforgod.graalvm.hint.processor.SerializationHintProcessor.Serializations;
+import java.io.*;
+import java.lang.annotation.Annotation;
+import java.nio.file.*;
+import java.util.*;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+
+/**
+ * Binary journal of hints produced by each annotated type, kept between compilations, so hints of
+ * types that were not recompiled are restored instead of walking their annotations again, and types
+ * that were deleted are dropped from hint files.
+ * <p>
+ * Facts of each compiled type that analysis of other types relies on are kept as well, so types that
+ * were not recompiled are analyzed as in clean compilation.
+ * <p>
+ * Format is header with {@link #MAGIC} and {@link #VERSION}, entries, type entries and CRC32 of all,
+ * journal that can not be read is reported and rebuilt from scratch.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+final class HintJournal {
+
+    private static final int MAGIC = 0x47484A4C;
+    private static final int VERSION = 9;
+
+    static final class Entry {
+
+        private final String qualifiedName;
+        private final String typeName;
+        private final HintOrigin origin;
+        private final HintModel.Builder model;
+
+        Entry(String qualifiedName, String typeName, HintOrigin origin, HintModel.Builder model) {
+            this.qualifiedName = qualifiedName;
+            this.typeName = typeName;
+            this.origin = origin;
+            this.model = model;
+        }
+
+        String getQualifiedName() {
+            return qualifiedName;
+        }
+
+        /**
+         * @return binary name of annotated type
+         */
+        String getTypeName() {
+            return typeName;
+        }
+
+        HintOrigin getOrigin() {
+            return origin;
+        }
+
+        HintModel.Builder getModel() {
+            return model;
+        }
+    }
+
+    /**
+     * Facts of type compiled from source, known for types that are not compiled in next compilation
+     */
+    static final class TypeEntry {
+
+        private final String qualifiedName;
+        private final boolean staticInitialization;
+        private final String rejection;
+        private final List<String> initializedTypes;
+
+        /**
+         * @param qualifiedName        of compiled type
+         * @param staticInitialization true if type has static initialization
+         * @param rejection            reason why type is not safe to initialize at build time or null
+         * @param initializedTypes     qualified names of types used by static initializers of type
+         */
+        TypeEntry(String qualifiedName, boolean staticInitialization, String rejection, List<String> initializedTypes) {
+            this.qualifiedName = qualifiedName;
+            this.staticInitialization = staticInitialization;
+            this.rejection = rejection;
+            this.initializedTypes = initializedTypes;
+        }
+
+        String getQualifiedName() {
+            return qualifiedName;
+        }
+
+        boolean hasStaticInitialization() {
+            return staticInitialization;
+        }
+
+        Optional<String> getRejection() {
+            return Optional.ofNullable(rejection);
+        }
+
+        List<String> getInitializedTypes() {
+            return initializedTypes;
+        }
+    }
+
+    private final Path path;
+    private final ProcessingEnvironment processingEnv;
+    private final Map<String, Class<? extends Annotation>> annotations;
+
+    private Map<String, Entry> entries;
+    private Map<String, TypeEntry> types;
+
+    /**
+     * @param path          of journal file
+     * @param annotations   annotation name to annotation that journal entries can contain
+     * @param processingEnv to resolve types and report journal problems with
+     */
+    HintJournal(Path path, Map<String, Class<? extends Annotation>> annotations, ProcessingEnvironment processingEnv) {
+        this.path = path;
+        this.annotations = annotations;
+        this.processingEnv = processingEnv;
+    }
+
+    /**
+     * @return entries from previous compilation by annotated type qualified name, read once
+     */
+    Map<String, Entry> getEntries() {
+        if (entries == null) {
+            read();
+        }
+        return entries;
+    }
+
+    /**
+     * @return type entries from previous compilation by compiled type qualified name, read once
+     */
+    Map<String, TypeEntry> getTypes() {
+        if (types == null) {
+            read();
+        }
+        return types;
+    }
+
+    /**
+     * @param entries of all annotated types in module to persist for next compilation
+     * @param types   entries of all compiled types in module to persist for next compilation
+     */
+    void write(Collection<Entry> entries, Collection<TypeEntry> types) {
+        try {
+            final Path directory = path.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            final Path temp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+            try {
+                try (OutputStream file = new BufferedOutputStream(Files.newOutputStream(temp))) {
+                    final CheckedOutputStream checked = new CheckedOutputStream(file, new CRC32());
+                    final DataOutputStream output = new DataOutputStream(checked);
+                    output.writeInt(MAGIC);
+                    output.writeInt(VERSION);
+                    output.writeInt(entries.size());
+                    for (Entry entry : entries) {
+                        writeEntry(entry, output);
+                    }
+                    output.writeInt(types.size());
+                    for (TypeEntry type : types) {
+                        writeTypeEntry(type, output);
+                    }
+                    output.flush();
+                    new DataOutputStream(file).writeLong(checked.getChecksum().getValue());
+                }
+                try {
+                    Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "Couldn't write GraalVM Hint journal to " + path + " due to: " + e.getMessage());
+        }
+    }
+
+    private void read() {
+        entries = new LinkedHashMap<>();
+        types = new LinkedHashMap<>();
+        if (!Files.isRegularFile(path)) {
+            return;
+        }
+
+        try (InputStream file = new BufferedInputStream(Files.newInputStream(path))) {
+            final CheckedInputStream checked = new CheckedInputStream(file, new CRC32());
+            final DataInputStream input = new DataInputStream(checked);
+            if (input.readInt() != MAGIC || input.readInt() != VERSION) {
+                throw new IOException("unknown format or version");
+            }
+
+            final int size = readSize(input);
+            final Map<String, Entry> journal = new LinkedHashMap<>();
+            for (int i = 0; i < size; i++) {
+                final Entry entry = readEntry(input);
+                journal.put(entry.qualifiedName, entry);
+            }
+            final int typeSize = readSize(input);
+            final Map<String, TypeEntry> journalTypes = new LinkedHashMap<>();
+            for (int i = 0; i < typeSize; i++) {
+                final TypeEntry type = readTypeEntry(input);
+                journalTypes.put(type.qualifiedName, type);
+            }
+
+            final long checksum = checked.getChecksum().getValue();
+            if (new DataInputStream(file).readLong() != checksum) {
+                throw new IOException("checksum mismatch");
+            }
+            entries = journal;
+            types = journalTypes;
+        } catch (IOException | RuntimeException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                    "GraalVM Hint journal " + path + " is corrupted (" + e.getMessage() + "), rebuilding");
+        }
+    }
+
+    private static void writeTypeEntry(TypeEntry type, DataOutputStream output) throws IOException {
+        output.writeUTF(type.qualifiedName);
+        output.writeBoolean(type.staticInitialization);
+        writeNullable(type.rejection, output);
+        writeStrings(type.initializedTypes, output);
+    }
+
+    private static TypeEntry readTypeEntry(DataInputStream input) throws IOException {
+        return new TypeEntry(input.readUTF(), input.readBoolean(), readNullable(input), readStrings(input));
+    }
+
+    private static void writeEntry(Entry entry, DataOutputStream output) throws IOException {
+        output.writeUTF(entry.qualifiedName);
+        output.writeUTF(entry.typeName);
+        writeNullable(entry.origin.getGroup(), output);
+        writeNullable(entry.origin.getArtifact(), output);
+
+        final HintModel model = entry.model.build(Set.of());
+        final List<String> annotationNames = new ArrayList<>();
+        model.getAnnotations().forEach(a -> annotationNames.add(a.getName()));
+        writeStrings(annotationNames, output);
+        writeAccesses(model.getReflectionAccesses(), output);
+        writeAccesses(model.getJniAccesses(), output);
+        writeResources(model.getResources().getIncludes(), output);
+        writeStrings(model.getResources().getExcludes(), output);
+        writeResources(model.getResources().getBundles(), output);
+
+        output.writeInt(model.getInitializations().size());
+        for (Initialization initialization : model.getInitializations()) {
+            output.writeUTF(initialization.getClassName());
+            output.writeUTF(initialization.getPhase().name());
+        }
+        writeStrings(model.getInitializationTraces(), output);
+
+        output.writeBoolean(model.isLinkAll());
+        writeStrings(model.getLinks(), output);
+
+        output.writeInt(model.getEntrypoints().size());
+        for (Entrypoint entrypoint : model.getEntrypoints()) {
+            output.writeUTF(entrypoint.getClassName());
+            output.writeUTF(entrypoint.getAppName());
+        }
+
+        writeStrings(model.getOptions(), output);
+        writeStrings(model.getProxyFiles(), output);
+        writeStrings(model.getProxyResources(), output);
+        output.writeInt(model.getProxyConfigurations().size());
+        for (Configuration configuration : model.getProxyConfigurations()) {
+            writeStrings(configuration.getInterfaces(), output);
+            writeNullable(configuration.getCondition(), output);
+        }
+        writeSerializations(model.getSerializations().getTypes(), output);
+        writeSerializations(model.getSerializations().getLambdaCapturingTypes(), output);
+        writeDescriptors(model.getForeign().getDowncalls(), output);
+        writeDescriptors(model.getForeign().getUpcalls(), output);
+        writeStrings(model.getLocales(), output);
+        writeStrings(model.getDefaultLocales(), output);
+        writeStrings(model.getCharsets(), output);
+    }
+
+    private Entry readEntry(DataInputStream input) throws IOException {
+        final String qualifiedName = input.readUTF();
+        final String typeName = input.readUTF();
+        final HintOrigin origin = new HintOrigin(readNullable(input), readNullable(input));
+
+        final HintModel.Builder model = new HintModel.Builder(origin);
+        for (String annotationName : readStrings(input)) {
+            final Class<? extends Annotation> annotation = annotations.get(annotationName);
+            if (annotation == null) {
+                throw new IOException("unsupported annotation " + annotationName);
+            }
+            model.annotation(annotation);
+        }
+
+        model.reflectionAccesses(readAccesses(input));
+        model.jniAccesses(readAccesses(input));
+        model.resources(new Resources(readResources(input), readStrings(input), readResources(input)));
+
+        final int initializations = readSize(input);
+        final List<Initialization> initializationList = new ArrayList<>();
+        for (int i = 0; i < initializations; i++) {
+            initializationList.add(new Initialization(input.readUTF(), InitPhase.valueOf(input.readUTF())));
+        }
+        model.initializations(initializationList);
+        model.initializationTraces(readStrings(input));
+
+        if (input.readBoolean()) {
+            model.linkAll();
+        }
+        model.links(readStrings(input));
+
+        final int entrypoints = readSize(input);
+        for (int i = 0; i < entrypoints; i++) {
+            final TypeElement source = processingEnv.getElementUtils().getTypeElement(qualifiedName);
+            model.entrypoint(new Entrypoint(input.readUTF(), input.readUTF(), source));
+        }
+
+        model.options(readStrings(input));
+        model.proxyFiles(readStrings(input));
+        model.proxyResources(readStrings(input));
+        final int configurations = readSize(input);
+        final List<Configuration> configurationList = new ArrayList<>();
+        for (int i = 0; i < configurations; i++) {
+            configurationList.add(new Configuration(readStrings(input), readNullable(input)));
+        }
+        model.proxyConfigurations(configurationList);
+        model.serializations(new Serializations(readSerializations(input), readSerializations(input)));
+        model.foreign(new Foreign(readDescriptors(input), readDescriptors(input)));
+        model.locales(readStrings(input));
+        model.defaultLocales(readStrings(input));
+        model.charsets(readStrings(input));
+
+        return new Entry(qualifiedName, typeName, origin, model);
+    }
+
+    private static void writeAccesses(Collection<Access> accesses, DataOutputStream output) throws IOException {
+        output.writeInt(accesses.size());
+        for (Access access : accesses) {
+            output.writeUTF(access.getTypeName());
+            output.writeInt(access.getAccessTypes().length);
+            for (AccessType accessType : access.getAccessTypes()) {
+                output.writeUTF(accessType.name());
+            }
+            writeStrings(access.getFields(), output);
+            writeStrings(access.getMethods(), output);
+            writeNullable(access.getCondition(), output);
+        }
+    }
+
+    private static List<Access> readAccesses(DataInputStream input) throws IOException {
+        final int size = readSize(input);
+        final List<Access> accesses = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            final String typeName = input.readUTF();
+            final int accessTypeSize = readSize(input);
+            if (accessTypeSize > AccessType.values().length) {
+                throw new IOException("invalid access types size " + accessTypeSize);
+            }
+
+            final AccessType[] accessTypes = new AccessType[accessTypeSize];
+            for (int j = 0; j < accessTypes.length; j++) {
+                accessTypes[j] = AccessType.valueOf(input.readUTF());
+            }
+            accesses.add(new Access(typeName, accessTypes, readStrings(input), readStrings(input), readNullable(input)));
+        }
+        return accesses;
+    }
+
+    private static void writeResources(Collection<Resource> resources, DataOutputStream output) throws IOException {
+        output.writeInt(resources.size());
+        for (Resource resource : resources) {
+            output.writeUTF(resource.getValue());
+            writeNullable(resource.getCondition(), output);
+            writeStrings(resource.getLocales(), output);
+        }
+    }
+
+    private static List<Resource> readResources(DataInputStream input) throws IOException {
+        final int size = readSize(input);
+        final List<Resource> resources = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            resources.add(new Resource(input.readUTF(), readNullable(input), readStrings(input)));
+        }
+        return resources;
+    }
+
+    private static void writeSerializations(Collection<Serialization> serializations, DataOutputStream output)
+            throws IOException {
+        output.writeInt(serializations.size());
+        for (Serialization serialization : serializations) {
+            output.writeUTF(serialization.getTypeName());
+            writeNullable(serialization.getCustomTargetConstructorClass(), output);
+            writeNullable(serialization.getCondition(), output);
+        }
+    }
+
+    private static List<Serialization> readSerializations(DataInputStream input) throws IOException {
+        final int size = readSize(input);
+        final List<Serialization> serializations = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            serializations.add(new Serialization(input.readUTF(), readNullable(input), readNullable(input)));
+        }
+        return serializations;
+    }
+
+    private static void writeDescriptors(Collection<Descriptor> descriptors, DataOutputStream output) throws IOException {
+        output.writeInt(descriptors.size());
+        for (Descriptor descriptor : descriptors) {
+            output.writeUTF(descriptor.getReturnType());
+            writeStrings(descriptor.getParameterTypes(), output);
+            output.writeBoolean(descriptor.isCritical());
+            output.writeBoolean(descriptor.isAllowHeapAccess());
+            output.writeInt(descriptor.getFirstVariadicArg());
+            output.writeBoolean(descriptor.isCaptureCallState());
+            writeNullable(descriptor.getCondition(), output);
+        }
+    }
+
+    private static List<Descriptor> readDescriptors(DataInputStream input) throws IOException {
+        final int size = readSize(input);
+        final List<Descriptor> descriptors = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            descriptors.add(new Descriptor(input.readUTF(), readStrings(input), input.readBoolean(), input.readBoolean(),
+                    input.readInt(), input.readBoolean(), readNullable(input)));
+        }
+        return descriptors;
+    }
+
+    private static void writeStrings(Collection<String> values, DataOutputStream output) throws IOException {
+        output.writeInt(values.size());
+        for (String value : values) {
+            output.writeUTF(value);
+        }
+    }
+
+    private static List<String> readStrings(DataInputStream input) throws IOException {
+        final int size = readSize(input);
+        final List<String> values = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            values.add(input.readUTF());
+        }
+        return values;
+    }
+
+    /**
+     * Collections are not preallocated with size, as size of corrupted journal can be anything
+     */
+    private static int readSize(DataInputStream input) throws IOException {
+        final int size = input.readInt();
+        if (size < 0) {
+            throw new IOException("invalid size " + size);
+        }
+        return size;
+    }
+
+    private static void writeNullable(String value, DataOutputStream output) throws IOException {
+        output.writeBoolean(value != null);
+        if (value != null) {
+            output.writeUTF(value);
+        }
+    }
+
+    private static String readNullable(DataInputStream input) throws IOException {
+        return input.readBoolean()
+                ? input.readUTF()
+                : null;
+    }
+}
@@ -0,0 +1,362 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import io.goodforgod.graalvm.hint.processor.AbstractAccessHintProcessor.Access;
+import io.goodforgod.graalvm.hint.processor.DynamicProxyHintParser.Configuration;
+import io.goodforgod.graalvm.hint.processor.ForeignHintProcessor.Descriptor;
+import io.goodforgod.graalvm.hint.processor.ForeignHintProcessor.Foreign;
+import io.goodforgod.graalvm.hint.processor.InitializationHintParser.Dependency;
+import io.goodforgod.graalvm.hint.processor.InitializationHintParser.Initialization;
+import io.goodforgod.graalvm.hint.processor.NativeImageHintParser.Entrypoint;
+import io.goodforgod.graalvm.hint.processor.ResourceHintProcessor.Resource;
+import io.goodforgod.graalvm.hint.processor.ResourceHintProcessor.Resources;
+import io.goodforgod.graalvm.hint.processor.SerializationHintProcessor.Serialization;
+import io.goodforgod.graalvm.hint.processor.SerializationHintProcessor.Serializations;
+import java.lang.annotation.Annotation;
+import java.util.*;
+import javax.lang.model.element.TypeElement;
+
+/**
+ * Immutable hints collected by {@link HintScanner} for single {@link HintOrigin}, all hint files
+ * are rendered from this model.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+final class HintModel {
+
+    private final HintOrigin origin;
+    private final Set<Class<? extends Annotation>> annotations;
+    private final Set<TypeElement> originatingElements;
+
+    private final Set<Access> reflectionAccesses;
+    private final Set<Access> jniAccesses;
+    private final Resources resources;
+    private final List<Initialization> initializations;
+    private final Set<String> initializationTraces;
+    private final List<Dependency> initializationDependencies;
+    private final boolean linkAll;
+    private final List<String> links;
+    private final List<Entrypoint> entrypoints;
+    private final List<String> options;
+    private final List<String> proxyFiles;
+    private final List<String> proxyResources;
+    private final List<Configuration> proxyConfigurations;
+    private final Serializations serializations;
+    private final Foreign foreign;
+    private final Set<String> locales;
+    private final Set<String> defaultLocales;
+    private final Set<String> charsets;
+
+    private HintModel(Builder builder, Set<TypeElement> originatingElements) {
+        this.origin = builder.origin;
+        this.annotations = Collections.unmodifiableSet(new LinkedHashSet<>(builder.annotations));
+        this.originatingElements = Collections.unmodifiableSet(new LinkedHashSet<>(originatingElements));
+        this.reflectionAccesses = Collections.unmodifiableSet(new LinkedHashSet<>(builder.reflectionAccesses.values()));
+        this.jniAccesses = Collections.unmodifiableSet(new LinkedHashSet<>(builder.jniAccesses.values()));
+        this.resources = new Resources(builder.resourceIncludes, builder.resourceExcludes, builder.resourceBundles.values());
+        this.initializations = List.copyOf(builder.initializations);
+        this.initializationTraces = Collections.unmodifiableSet(new LinkedHashSet<>(builder.initializationTraces));
+        this.initializationDependencies = List.copyOf(builder.initializationDependencies);
+        this.linkAll = builder.linkAll;
+        this.links = List.copyOf(builder.links);
+        this.entrypoints = List.copyOf(builder.entrypoints);
+        this.options = List.copyOf(builder.options);
+        this.proxyFiles = List.copyOf(builder.proxyFiles);
+        this.proxyResources = List.copyOf(builder.proxyResources);
+        this.proxyConfigurations = List.copyOf(builder.proxyConfigurations);
+        this.serializations = new Serializations(builder.serializationTypes, builder.serializationLambdaCapturingTypes);
+        this.foreign = new Foreign(builder.foreignDowncalls, builder.foreignUpcalls);
+        this.locales = Collections.unmodifiableSet(new LinkedHashSet<>(builder.locales));
+        this.defaultLocales = Collections.unmodifiableSet(new LinkedHashSet<>(builder.defaultLocales));
+        this.charsets = Collections.unmodifiableSet(new LinkedHashSet<>(builder.charsets));
+    }
+
+    static final class Builder {
+
+        private final HintOrigin origin;
+        private final Set<Class<? extends Annotation>> annotations = new LinkedHashSet<>();
+
+        /**
+         * Accesses by type name and condition, access types and members of accesses for same type and
+         * condition are merged
+         */
+        private final Map<String, Access> reflectionAccesses = new LinkedHashMap<>();
+        private final Map<String, Access> jniAccesses = new LinkedHashMap<>();
+        private final Set<Resource> resourceIncludes = new LinkedHashSet<>();
+        private final Set<String> resourceExcludes = new LinkedHashSet<>();
+        /**
+         * Bundles by name and condition, locales of bundles with same name and condition are merged
+         */
+        private final Map<String, Resource> resourceBundles = new LinkedHashMap<>();
+        private final List<Initialization> initializations = new ArrayList<>();
+        private final Set<String> initializationTraces = new LinkedHashSet<>();
+        private final List<Dependency> initializationDependencies = new ArrayList<>();
+        private boolean linkAll = false;
+        private final List<String> links = new ArrayList<>();
+        private final List<Entrypoint> entrypoints = new ArrayList<>();
+        private final List<String> options = new ArrayList<>();
+        private final List<String> proxyFiles = new ArrayList<>();
+        private final List<String> proxyResources = new ArrayList<>();
+        private final List<Configuration> proxyConfigurations = new ArrayList<>();
+        private final Set<Serialization> serializationTypes = new LinkedHashSet<>();
+        private final Set<Serialization> serializationLambdaCapturingTypes = new LinkedHashSet<>();
+        private final Set<Descriptor> foreignDowncalls = new LinkedHashSet<>();
+        private final Set<Descriptor> foreignUpcalls = new LinkedHashSet<>();
+        private final Set<String> locales = new LinkedHashSet<>();
+        private final Set<String> defaultLocales = new LinkedHashSet<>();
+        private final Set<String> charsets = new LinkedHashSet<>();
+
+        Builder(HintOrigin origin) {
+            this.origin = origin;
+        }
+
+        Builder annotation(Class<? extends Annotation> annotation) {
+            this.annotations.add(annotation);
+            return this;
+        }
+
+        Builder reflectionAccesses(Collection<Access> accesses) {
+            accesses.forEach(a -> this.reflectionAccesses.merge(a.getKey(), a, Access::merge));
+            return this;
+        }
+
+        Builder jniAccesses(Collection<Access> accesses) {
+            accesses.forEach(a -> this.jniAccesses.merge(a.getKey(), a, Access::merge));
+            return this;
+        }
+
+        Builder resources(Resources resources) {
+            this.resourceIncludes.addAll(resources.getIncludes());
+            this.resourceExcludes.addAll(resources.getExcludes());
+            resourceBundles(resources.getBundles());
+            return this;
+        }
+
+        private void resourceBundles(Collection<Resource> bundles) {
+            bundles.forEach(b -> this.resourceBundles.merge(b.getKey(), b, Resource::merge));
+        }
+
+        Builder initializations(Collection<Initialization> initializations) {
+            this.initializations.addAll(initializations);
+            return this;
+        }
+
+        Builder initializationDependencies(Collection<Dependency> dependencies) {
+            this.initializationDependencies.addAll(dependencies);
+            return this;
+        }
+
+        /**
+         * @return initializations added so far, to collect their dependencies before model is built
+         */
+        List<Initialization> getInitializations() {
+            return Collections.unmodifiableList(initializations);
+        }
+
+        Builder initializationTraces(Collection<String> typeNames) {
+            this.initializationTraces.addAll(typeNames);
+            return this;
+        }
+
+        Builder linkAll() {
+            this.linkAll = true;
+            return this;
+        }
+
+        Builder links(Collection<String> links) {
+            this.links.addAll(links);
+            return this;
+        }
+
+        Builder entrypoint(Entrypoint entrypoint) {
+            this.entrypoints.add(entrypoint);
+            return this;
+        }
+
+        Builder options(Collection<String> options) {
+            this.options.addAll(options);
+            return this;
+        }
+
+        Builder proxyFiles(Collection<String> files) {
+            this.proxyFiles.addAll(files);
+            return this;
+        }
+
+        Builder proxyResources(Collection<String> resources) {
+            this.proxyResources.addAll(resources);
+            return this;
+        }
+
+        Builder proxyConfigurations(Collection<Configuration> configurations) {
+            this.proxyConfigurations.addAll(configurations);
+            return this;
+        }
+
+        Builder serializations(Serializations serializations) {
+            this.serializationTypes.addAll(serializations.getTypes());
+            this.serializationLambdaCapturingTypes.addAll(serializations.getLambdaCapturingTypes());
+            return this;
+        }
+
+        Builder foreign(Foreign foreign) {
+            this.foreignDowncalls.addAll(foreign.getDowncalls());
+            this.foreignUpcalls.addAll(foreign.getUpcalls());
+            return this;
+        }
+
+        Builder locales(Collection<String> locales) {
+            this.locales.addAll(locales);
+            return this;
+        }
+
+        Builder defaultLocales(Collection<String> defaultLocales) {
+            this.defaultLocales.addAll(defaultLocales);
+            return this;
+        }
+
+        Builder charsets(Collection<String> charsets) {
+            this.charsets.addAll(charsets);
+            return this;
+        }
+
+        /**
+         * @param other builder to add all hints from
+         * @return self
+         */
+        Builder merge(Builder other) {
+            this.annotations.addAll(other.annotations);
+            reflectionAccesses(other.reflectionAccesses.values());
+            jniAccesses(other.jniAccesses.values());
+            this.resourceIncludes.addAll(other.resourceIncludes);
+            this.resourceExcludes.addAll(other.resourceExcludes);
+            resourceBundles(other.resourceBundles.values());
+            this.initializations.addAll(other.initializations);
+            this.initializationTraces.addAll(other.initializationTraces);
+            this.initializationDependencies.addAll(other.initializationDependencies);
+            this.linkAll |= other.linkAll;
+            this.links.addAll(other.links);
+            this.entrypoints.addAll(other.entrypoints);
+            this.options.addAll(other.options);
+            this.proxyFiles.addAll(other.proxyFiles);
+            this.proxyResources.addAll(other.proxyResources);
+            this.proxyConfigurations.addAll(other.proxyConfigurations);
+            this.serializationTypes.addAll(other.serializationTypes);
+            this.serializationLambdaCapturingTypes.addAll(other.serializationLambdaCapturingTypes);
+            this.foreignDowncalls.addAll(other.foreignDowncalls);
+            this.foreignUpcalls.addAll(other.foreignUpcalls);
+            this.locales.addAll(other.locales);
+            this.defaultLocales.addAll(other.defaultLocales);
+            this.charsets.addAll(other.charsets);
+            return this;
+        }
+
+        HintModel build(Set<TypeElement> originatingElements) {
+            return new HintModel(this, originatingElements);
+        }
+    }
+
+    HintOrigin getOrigin() {
+        return origin;
+    }
+
+    /**
+     * @return hint annotations that model was collected from
+     */
+    Set<Class<? extends Annotation>> getAnnotations() {
+        return annotations;
+    }
+
+    /**
+     * @return types that produced hints for this model
+     */
+    Set<TypeElement> getOriginatingElements() {
+        return originatingElements;
+    }
+
+    Set<Access> getReflectionAccesses() {
+        return reflectionAccesses;
+    }
+
+    Set<Access> getJniAccesses() {
+        return jniAccesses;
+    }
+
+    Resources getResources() {
+        return resources;
+    }
+
+    List<Initialization> getInitializations() {
+        return initializations;
+    }
+
+    /**
+     * @return types initialized at build time which class initialization should be traced
+     */
+    Set<String> getInitializationTraces() {
+        return initializationTraces;
+    }
+
+    /**
+     * @return types initialized by static initializers of types initialized at build time
+     */
+    List<Dependency> getInitializationDependencies() {
+        return initializationDependencies;
+    }
+
+    boolean isLinkAll() {
+        return linkAll;
+    }
+
+    List<String> getLinks() {
+        return links;
+    }
+
+    List<Entrypoint> getEntrypoints() {
+        return entrypoints;
+    }
+
+    List<String> getOptions() {
+        return options;
+    }
+
+    List<String> getProxyFiles() {
+        return proxyFiles;
+    }
+
+    List<String> getProxyResources() {
+        return proxyResources;
+    }
+
+    List<Configuration> getProxyConfigurations() {
+        return proxyConfigurations;
+    }
+
+    Serializations getSerializations() {
+        return serializations;
+    }
+
+    Foreign getForeign() {
+        return foreign;
+    }
+
+    Set<String> getLocales() {
+        return locales;
+    }
+
+    /**
+     * @return default locales of all types of model, more than one is a conflict
+     */
+    Set<String> getDefaultLocales() {
+        return defaultLocales;
+    }
+
+    Set<String> getCharsets() {
+        return charsets;
+    }
+
+    @Override
+    public String toString() {
+        return "[origin=" + origin + ", annotations=" + annotations + ']';
+    }
+}
@@ -0,0 +1,306 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import java.nio.file.Path;
+import java.util.*;
+import java.util.stream.Collectors;
+import javax.annotation.processing.Messager;
+import javax.tools.Diagnostic;
+
+/**
+ * Processor options that are specified via {@code -Aoption=value} compiler arguments
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+final class HintOptions {
+
+    /**
+     * Write JSON hint files pretty printed (default) or compact
+     */
+    static final String HINT_JSON_PRETTY = "graalvm.hint.json.pretty";
+
+    /**
+     * Compare content hash of hint file with existing file in output and leave it untouched if same
+     */
+    static final String HINT_SKIP_UNCHANGED = "graalvm.hint.skip.unchanged";
+
+    /**
+     * Order hints by origin and type names (default) instead of order in which compiler reported annotated
+     * types, so output is byte-for-byte same regardless of source order
+     */
+    static final String HINT_DETERMINISTIC = "graalvm.hint.deterministic";
+
+    /**
+     * Record {@link HintEvent} JFR events and report statistics summary note for each processor
+     */
+    static final String HINT_STATISTICS = "graalvm.hint.statistics";
+
+    /**
+     * Render hint files for all origins in parallel and write them on compiler thread afterwards
+     */
+    static final String HINT_PARALLEL = "graalvm.hint.parallel";
+
+    /**
+     * Directory where {@link HintJournal} with hints of each annotated type is kept between compilations
+     */
+    static final String HINT_JOURNAL = "graalvm.hint.journal";
+
+    /**
+     * Register hints without explicit condition only when annotated type is reachable in native image
+     */
+    static final String HINT_CONDITION = "graalvm.hint.condition";
+
+    /**
+     * Write reflection, JNI, resource and proxy hints of each origin into single unified
+     * {@link ReachabilityMetadata} file instead of separate config files
+     */
+    static final String HINT_REACHABILITY_METADATA = "graalvm.hint.reachability.metadata";
+
+    /**
+     * Resolve resource include patterns against module resources and warn about patterns that match
+     * nothing or more than {@link #HINT_RESOURCE_MAX_MATCHES} resources
+     */
+    static final String HINT_RESOURCE_VERIFY = "graalvm.hint.resource.verify";
+
+    /**
+     * Amount of resources that single include pattern can match without warning
+     */
+    static final String HINT_RESOURCE_MAX_MATCHES = "graalvm.hint.resource.max.matches";
+
+    /**
+     * Comma separated resource directories to resolve include patterns against instead of class output
+     * and source roots with their sibling {@code resources} directories
+     */
+    static final String HINT_RESOURCE_PATHS = "graalvm.hint.resource.paths";
+
+    /**
+     * Rewrite resource include patterns as {@link ResourceRewrite}
+     */
+    static final String HINT_RESOURCE_REWRITE = "graalvm.hint.resource.rewrite";
+
+    /**
+     * Inspect static initializers of types initialized at build time compiled from source and warn about
+     * constructs that capture state of build machine
+     */
+    static final String HINT_INITIALIZATION_VERIFY = "graalvm.hint.initialization.verify";
+
+    /**
+     * Add {@code --trace-class-initialization} option for types initialized at build time which static
+     * initializers have constructs reported by {@link #HINT_INITIALIZATION_VERIFY}
+     */
+    static final String HINT_INITIALIZATION_TRACE = "graalvm.hint.initialization.trace";
+
+    /**
+     * Initialize at build time types compiled from source that static initializers of types initialized
+     * at build time use, when they are safe to initialize at build time
+     */
+    static final String HINT_INITIALIZATION_CLOSURE = "graalvm.hint.initialization.closure";
+
+    /**
+     * Detect reflection and dynamic proxy usages with constant arguments in sources of all compiled
+     * types and register used types and members
+     */
+    static final String HINT_DETECT = "graalvm.hint.detect";
+
+    /**
+     * How resource include patterns are written
+     */
+    enum ResourceRewrite {
+        /**
+         * Patterns are written as specified
+         */
+        NONE,
+        /**
+         * Patterns are replaced with literal entries for each resource they match
+         */
+        LITERAL,
+        /**
+         * Patterns are written as globs
+         */
+        GLOB
+    }
+
+    private final boolean jsonPretty;
+    private final boolean skipUnchanged;
+    private final boolean deterministic;
+    private final boolean statistics;
+    private final boolean parallel;
+    private final Path journal;
+    private final boolean condition;
+    private final boolean reachabilityMetadata;
+    private final boolean resourceVerify;
+    private final int resourceMaxMatches;
+    private final List<Path> resourcePaths;
+    private final String resourceRewrite;
+    private final boolean initializationVerify;
+    private final boolean initializationTrace;
+    private final boolean initializationClosure;
+    private final boolean detect;
+
+    private final Messager messager;
+
+    /**
+     * @param messager to warn about option values that are invalid and replaced with defaults
+     */
+    HintOptions(Map<String, String> options, Messager messager) {
+        this.messager = messager;
+        this.jsonPretty = getBoolean(options, HINT_JSON_PRETTY, true);
+        this.skipUnchanged = getBoolean(options, HINT_SKIP_UNCHANGED, false);
+        this.deterministic = getBoolean(options, HINT_DETERMINISTIC, true);
+        this.statistics = getBoolean(options, HINT_STATISTICS, false);
+        this.parallel = getBoolean(options, HINT_PARALLEL, false);
+        this.journal = getPath(options, HINT_JOURNAL);
+        this.condition = getBoolean(options, HINT_CONDITION, false);
+        this.reachabilityMetadata = getBoolean(options, HINT_REACHABILITY_METADATA, false);
+        this.resourceVerify = getBoolean(options, HINT_RESOURCE_VERIFY, false);
+        this.resourceMaxMatches = getInt(options, HINT_RESOURCE_MAX_MATCHES, 100);
+        this.resourcePaths = getPaths(options, HINT_RESOURCE_PATHS);
+        this.resourceRewrite = options.getOrDefault(HINT_RESOURCE_REWRITE, ResourceRewrite.NONE.name());
+        this.initializationVerify = getBoolean(options, HINT_INITIALIZATION_VERIFY, false);
+        this.initializationTrace = getBoolean(options, HINT_INITIALIZATION_TRACE, false);
+        this.initializationClosure = getBoolean(options, HINT_INITIALIZATION_CLOSURE, false);
+        this.detect = getBoolean(options, HINT_DETECT, false);
+    }
+
+    static Set<String> getSupportedOptions() {
+        return Set.of(HintOrigin.HINT_PROCESSING_GROUP, HintOrigin.HINT_PROCESSING_ARTIFACT,
+                HINT_JSON_PRETTY, HINT_SKIP_UNCHANGED, HINT_DETERMINISTIC, HINT_STATISTICS, HINT_PARALLEL,
+                HINT_JOURNAL, HINT_CONDITION, HINT_REACHABILITY_METADATA, HINT_RESOURCE_VERIFY, HINT_RESOURCE_MAX_MATCHES,
+                HINT_RESOURCE_PATHS, HINT_RESOURCE_REWRITE, HINT_INITIALIZATION_VERIFY, HINT_INITIALIZATION_TRACE,
+                HINT_INITIALIZATION_CLOSURE, HINT_DETECT);
+    }
+
+    boolean isJsonPretty() {
+        return jsonPretty;
+    }
+
+    boolean isSkipUnchanged() {
+        return skipUnchanged;
+    }
+
+    boolean isDeterministic() {
+        return deterministic;
+    }
+
+    boolean isStatistics() {
+        return statistics;
+    }
+
+    boolean isParallel() {
+        return parallel;
+    }
+
+    /**
+     * @return journal directory or null if journal is disabled
+     */
+    Path getJournal() {
+        return journal;
+    }
+
+    boolean isCondition() {
+        return condition;
+    }
+
+    boolean isReachabilityMetadata() {
+        return reachabilityMetadata;
+    }
+
+    boolean isResourceVerify() {
+        return resourceVerify;
+    }
+
+    int getResourceMaxMatches() {
+        return resourceMaxMatches;
+    }
+
+    /**
+     * @return resource directories or empty list if class output and source roots are used
+     */
+    List<Path> getResourcePaths() {
+        return resourcePaths;
+    }
+
+    /**
+     * @return resource rewrite or null if option value is unknown
+     */
+    ResourceRewrite getResourceRewrite() {
+        try {
+            return ResourceRewrite.valueOf(resourceRewrite.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            return null;
+        }
+    }
+
+    boolean isInitializationVerify() {
+        return initializationVerify;
+    }
+
+    boolean isInitializationTrace() {
+        return initializationTrace;
+    }
+
+    boolean isInitializationClosure() {
+        return initializationClosure;
+    }
+
+    boolean isDetect() {
+        return detect;
+    }
+
+    /**
+     * Option specified without value as {@code -Aoption} is treated as enabled, value other than
+     * {@code true} or {@code false} is warned about and default is used
+     */
+    private boolean getBoolean(Map<String, String> options, String option, boolean defaultValue) {
+        if (!options.containsKey(option)) {
+            return defaultValue;
+        }
+
+        final String value = options.get(option);
+        if (value == null || value.isBlank() || value.trim().equalsIgnoreCase("true")) {
+            return true;
+        } else if (value.trim().equalsIgnoreCase("false")) {
+            return false;
+        }
+
+        warnInvalid(option, value, defaultValue);
+        return defaultValue;
+    }
+
+    private int getInt(Map<String, String> options, String option, int defaultValue) {
+        final String value = options.get(option);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            warnInvalid(option, value, defaultValue);
+            return defaultValue;
+        }
+    }
+
+    private void warnInvalid(String option, String value, Object defaultValue) {
+        messager.printMessage(Diagnostic.Kind.WARNING, "Invalid " + option + " option value '" + value
+                + "', default value is used: " + defaultValue);
+    }
+
+    private static List<Path> getPaths(Map<String, String> options, String option) {
+        final String value = options.get(option);
+        return (value == null || value.isBlank())
+                ? List.of()
+                : Arrays.stream(value.split(","))
+                        .map(String::trim)
+                        .filter(p -> !p.isEmpty())
+                        .map(Path::of)
+                        .collect(Collectors.toList());
+    }
+
+    private static Path getPath(Map<String, String> options, String option) {
+        final String value = options.get(option);
+        return (value == null || value.isBlank())
+                ? null
+                : Path.of(value.trim());
+    }
+}
@@ -1,5 +1,6 @@
 package io.goodforgod.graalvm.hint.processor;
 
+import java.util.Comparator;
 import java.util.Objects;
 
 /**
@@ -8,13 +9,17 @@
  * @author Anton Kurako (GoodforGod)
  * @since 29.09.2021
  */
-final class HintOrigin {
+final class HintOrigin implements Comparable<HintOrigin> {
 
     public static final String HINT_PROCESSING_GROUP = "graalvm.hint.group";
     public static final String HINT_PROCESSING_ARTIFACT = "graalvm.hint.artifact";
 
     static final String DEFAULT_PACKAGE = "io.graalvm.hint";
 
+    private static final Comparator<HintOrigin> COMPARATOR = Comparator
+            .comparing((HintOrigin o) -> o.group, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(o -> o.artifact, Comparator.nullsFirst(Comparator.naturalOrder()));
+
     /**
      * Artifact group of project
      */
@@ -30,12 +35,25 @@ final class HintOrigin {
         this.artifact = artifact;
     }
 
+    String getGroup() {
+        return group;
+    }
+
+    String getArtifact() {
+        return artifact;
+    }
+
     public HintFile getFileWithRelativePath(String fileName) {
         return (artifact == null)
                 ? new HintFile(fileName, "META-INF/native-image/" + group)
                 : new HintFile(fileName, "META-INF/native-image/" + group + "/" + artifact);
     }
 
+    @Override
+    public int compareTo(HintOrigin o) {
+        return COMPARATOR.compare(this, o);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o)
@@ -0,0 +1,69 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.annotation.processing.ProcessingEnvironment;
+
+/**
+ * Processes all hint annotations in single pass over annotated elements and renders all hint files
+ * from the same {@link HintModel} using {@link ReflectionHintProcessor}, {@link JniHintProcessor},
+ * {@link ResourceHintProcessor}, {@link SerializationHintProcessor}, {@link ForeignHintProcessor} and
+ * {@link NativeImageHintProcessor}.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+public final class HintProcessor extends AbstractHintProcessor {
+
+    private final List<AbstractHintProcessor> processors = List.of(
+            new NativeImageHintProcessor(),
+            new ResourceHintProcessor(),
+            new ReflectionHintProcessor(),
+            new JniHintProcessor(),
+            new SerializationHintProcessor(),
+            new ForeignHintProcessor());
+
+    /**
+     * Only this processor scans annotated elements, processors it delegates to share its scanner results
+     * and filer
+     */
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        for (AbstractHintProcessor processor : processors) {
+            processor.delegateTo(filer);
+            processor.init(processingEnv);
+        }
+    }
+
+    @Override
+    protected Set<Class<? extends Annotation>> getSupportedAnnotations() {
+        return processors.stream()
+                .flatMap(p -> p.getSupportedAnnotations().stream())
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    protected List<HintStatistics> getStatistics() {
+        final List<HintStatistics> statistics = new ArrayList<>(super.getStatistics());
+        for (AbstractHintProcessor processor : processors) {
+            statistics.addAll(processor.getStatistics());
+        }
+
+        return statistics;
+    }
+
+    @Override
+    protected boolean writeHints(List<HintModel> models) {
+        boolean written = true;
+        for (AbstractHintProcessor processor : processors) {
+            processor.round = round;
+            written &= processor.write(models);
+        }
+
+        return written;
+    }
+}
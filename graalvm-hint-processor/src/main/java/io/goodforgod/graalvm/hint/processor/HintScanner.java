@@ -0,0 +1,534 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import com.sun.source.util.Trees;
+import io.goodforgod.graalvm.hint.annotation.*;
+import io.goodforgod.graalvm.hint.processor.InitializationHintParser.Dependency;
+import io.goodforgod.graalvm.hint.processor.InitializationHintParser.Initialization;
+import java.lang.annotation.Annotation;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+/**
+ * Makes single pass over annotated elements in each round, walks annotation mirrors of each element
+ * once and collects {@link HintModel} for each {@link HintOrigin} across all rounds.
+ * <p>
+ * Hints are collected per annotated type and merged into origin model in order types were reported
+ * by compiler, or ordered by origin and type binary name in deterministic mode.
+ * <p>
+ * When {@link HintJournal} is enabled, hints of types that were not compiled from source are restored
+ * from journal of previous compilation, including types that compiler did not report at all, and
+ * types compiled in previous compilation are known as if they were compiled again.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+final class HintScanner {
+
+    /**
+     * Repeatable annotation container to repeated annotation
+     */
+    private static final Map<String, Class<? extends Annotation>> CONTAINERS = Map.of(
+            ReflectionHints.class.getName(), ReflectionHint.class,
+            JniHints.class.getName(), JniHint.class,
+            InitializationHints.class.getName(), InitializationHint.class,
+            SerializationHints.class.getName(), SerializationHint.class,
+            ForeignHints.class.getName(), ForeignHint.class);
+
+    private final Map<String, Class<? extends Annotation>> annotations;
+    private final HintCache cache;
+    private final boolean deterministic;
+    private final HintAccumulator<Map<String, HintModel.Builder>> models;
+
+    private final ProcessingEnvironment processingEnv;
+    private final HintJournal journal;
+    private final Trees trees;
+    private final InitializationAnalyzer initializationAnalyzer;
+    private final boolean initializationVerify;
+    private final boolean initializationTrace;
+    private final boolean initializationClosure;
+    /**
+     * Detects usages when {@link ReflectionHint} or {@link DynamicProxyHint} is scanned and detection
+     * is enabled, null otherwise
+     */
+    private final ReflectionAnalyzer reflectionAnalyzer;
+    /**
+     * Journal entries of types scanned or restored in this compilation by qualified name
+     */
+    private final Map<String, HintJournal.Entry> journaled = new LinkedHashMap<>();
+    /**
+     * Types which hints were restored from journal instead of scanning in this compilation
+     */
+    private final Set<String> restored = new HashSet<>();
+    /**
+     * Types compiled in all rounds so far, {@link SerializationHint} discovers subtypes among them and
+     * {@link InitializationHint} discovers types safe to initialize at build time, together with
+     * journaled types
+     */
+    private final List<TypeElement> compiledTypes = new ArrayList<>();
+    /**
+     * Types compiled in previous compilation that are not compiled from source in this one, resolved
+     * from journal once
+     */
+    private List<TypeElement> journalTypes;
+    /**
+     * Types annotated with {@link SerializationHint} and their annotations, subtypes are discovered when
+     * processing is over so subtypes generated in later rounds are known
+     */
+    private final Map<TypeElement, List<AnnotationMirror>> serializationMirrors = new LinkedHashMap<>();
+
+    /**
+     * @param annotations   to scan
+     * @param options       of processor
+     * @param name          of processor, used as journal file name
+     * @param processingEnv of processor
+     */
+    HintScanner(Set<Class<? extends Annotation>> annotations,
+                HintOptions options,
+                String name,
+                ProcessingEnvironment processingEnv) {
+        this.annotations = annotations.stream()
+                .collect(Collectors.toMap(Class::getName, Function.identity()));
+        this.processingEnv = processingEnv;
+        this.journal = (options.getJournal() == null)
+                ? null
+                : new HintJournal(options.getJournal().resolve(name + ".journal"), this.annotations, processingEnv);
+        final Trees compilerTrees = HintUtils.getTrees(processingEnv);
+        this.trees = (journal == null)
+                ? null
+                : compilerTrees;
+        this.cache = new HintCache(options, processingEnv);
+        this.initializationAnalyzer = (compilerTrees == null)
+                ? null
+                : new InitializationAnalyzer(compilerTrees, processingEnv, cache, journal);
+        this.initializationVerify = options.isInitializationVerify();
+        this.initializationTrace = options.isInitializationTrace();
+        this.initializationClosure = options.isInitializationClosure();
+        this.reflectionAnalyzer = (compilerTrees == null || !options.isDetect()
+                || !(this.annotations.containsKey(ReflectionHint.class.getName())
+                        || this.annotations.containsKey(DynamicProxyHint.class.getName())))
+                                ? null
+                                : new ReflectionAnalyzer(compilerTrees, processingEnv, cache);
+        if (compilerTrees == null) {
+            reportTreesUnavailable(options);
+        }
+        this.deterministic = options.isDeterministic();
+        this.models = new HintAccumulator<>(origin -> (deterministic)
+                ? new TreeMap<>()
+                : new LinkedHashMap<>());
+    }
+
+    /**
+     * Source analysis requested by options is reported as warning, while dependencies and discovery of
+     * {@link InitializationHint} that are analyzed by default are reported as note
+     */
+    private void reportTreesUnavailable(HintOptions options) {
+        final List<String> skipped = new ArrayList<>();
+        final boolean initialization = annotations.containsKey(InitializationHint.class.getName());
+        if (initialization && (options.isInitializationVerify() || options.isInitializationTrace()
+                || options.isInitializationClosure())) {
+            skipped.add("static initializer verification");
+        }
+        if (options.isDetect()) {
+            skipped.add("usage detection");
+        }
+        if (journal != null) {
+            skipped.add("journal restore");
+        }
+
+        if (!skipped.isEmpty()) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, "Compiler source trees are not available in "
+                    + processingEnv.getClass().getName() + ", skipping: " + String.join(", ", skipped));
+        } else if (initialization) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "Compiler source trees are not available in "
+                    + processingEnv.getClass().getName() + ", skipping build time initialization dependency checks and discovery");
+        }
+    }
+
+    /**
+     * @param roundEnv to scan annotated elements in
+     * @return amount of annotated elements scanned
+     */
+    int scan(RoundEnvironment roundEnv) {
+        addCompiledTypes(roundEnv);
+
+        final Class[] supported = annotations.values().toArray(Class[]::new);
+        final Set<TypeElement> elements = HintUtils.getAnnotatedElements(roundEnv, supported);
+        for (TypeElement element : elements) {
+            final HintJournal.Entry entry = getJournalEntry(element);
+            if (entry != null) {
+                models.get(entry.getOrigin(), element).putIfAbsent(entry.getTypeName(), entry.getModel());
+                journaled.put(entry.getQualifiedName(), entry);
+                restored.add(entry.getQualifiedName());
+                continue;
+            }
+
+            final Map<Class<? extends Annotation>, List<AnnotationMirror>> mirrors = getHintMirrors(element);
+            if (!mirrors.isEmpty()) {
+                final HintOrigin origin = cache.getOrigin(element);
+                final String typeName = cache.getTypeName(element);
+                final HintModel.Builder model = models.get(origin, element)
+                        .computeIfAbsent(typeName, k -> new HintModel.Builder(origin));
+                mirrors.forEach((annotation, annotationMirrors) -> scan(element, annotation, annotationMirrors, model));
+                if (journal != null) {
+                    final String qualifiedName = element.getQualifiedName().toString();
+                    journaled.put(qualifiedName, new HintJournal.Entry(qualifiedName, typeName, origin, model));
+                }
+            }
+        }
+
+        final List<Element> members = scanMembers(roundEnv);
+        final List<TypeElement> detected = scanUsages(roundEnv);
+        return elements.size() + members.size() + detected.size();
+    }
+
+    /**
+     * @return true if all compiled types are scanned for usages, not only annotated ones
+     */
+    boolean isDetecting() {
+        return reflectionAnalyzer != null;
+    }
+
+    /**
+     * Keeps types compiled in round when subtypes or types safe to initialize at build time are
+     * discovered, must be called for rounds without annotations too
+     *
+     * @param roundEnv to get compiled types from
+     */
+    void addCompiledTypes(RoundEnvironment roundEnv) {
+        if (annotations.containsKey(SerializationHint.class.getName())
+                || annotations.containsKey(InitializationHint.class.getName())) {
+            addTypes(ElementFilter.typesIn(roundEnv.getRootElements()), compiledTypes);
+        }
+    }
+
+    /**
+     * @return types compiled in all rounds so far and types compiled in previous compilation that were
+     *             not compiled again
+     */
+    private List<TypeElement> getKnownTypes() {
+        if (journal == null) {
+            return compiledTypes;
+        }
+
+        final Set<String> compiled = getQualifiedNames(compiledTypes);
+        final List<TypeElement> known = new ArrayList<>(compiledTypes);
+        for (TypeElement type : getJournalTypes()) {
+            if (!compiled.contains(type.getQualifiedName().toString())) {
+                known.add(type);
+            }
+        }
+        return known;
+    }
+
+    private List<TypeElement> getJournalTypes() {
+        if (journalTypes == null) {
+            journalTypes = new ArrayList<>();
+            for (String qualifiedName : journal.getTypes().keySet()) {
+                final TypeElement type = processingEnv.getElementUtils().getTypeElement(qualifiedName);
+                if (type != null && !isCompiled(type)) {
+                    journalTypes.add(type);
+                }
+            }
+        }
+        return journalTypes;
+    }
+
+    private static Set<String> getQualifiedNames(Collection<TypeElement> types) {
+        return types.stream()
+                .map(t -> t.getQualifiedName().toString())
+                .collect(Collectors.toSet());
+    }
+
+    private static void addTypes(Collection<TypeElement> types, List<TypeElement> into) {
+        for (TypeElement type : types) {
+            into.add(type);
+            addTypes(ElementFilter.typesIn(type.getEnclosedElements()), into);
+        }
+    }
+
+    /**
+     * Reflection and dynamic proxy usages detected in types compiled in round produce hints for type
+     * that uses them, as if it was annotated
+     *
+     * @return types with detected usages
+     */
+    private List<TypeElement> scanUsages(RoundEnvironment roundEnv) {
+        if (reflectionAnalyzer == null) {
+            return List.of();
+        }
+
+        final List<TypeElement> types = new ArrayList<>();
+        addTypes(ElementFilter.typesIn(roundEnv.getRootElements()), types);
+
+        final List<TypeElement> detected = new ArrayList<>();
+        for (TypeElement type : types) {
+            final ReflectionAnalyzer.Usages usages = reflectionAnalyzer.getUsages(type);
+            final boolean accesses = !usages.getAccesses().isEmpty()
+                    && annotations.containsKey(ReflectionHint.class.getName());
+            final boolean proxies = !usages.getProxyConfigurations().isEmpty()
+                    && annotations.containsKey(DynamicProxyHint.class.getName());
+            if (!accesses && !proxies) {
+                continue;
+            }
+
+            final HintOrigin origin = cache.getOrigin(type);
+            final String typeName = cache.getTypeName(type);
+            final HintModel.Builder model = models.get(origin, type)
+                    .computeIfAbsent(typeName, k -> new HintModel.Builder(origin));
+            if (accesses) {
+                model.annotation(ReflectionHint.class);
+                model.reflectionAccesses(usages.getAccesses());
+            }
+            if (proxies) {
+                model.annotation(DynamicProxyHint.class);
+                model.proxyConfigurations(usages.getProxyConfigurations());
+            }
+            if (journal != null) {
+                final String qualifiedName = type.getQualifiedName().toString();
+                journaled.put(qualifiedName, new HintJournal.Entry(qualifiedName, typeName, origin, model));
+            }
+            detected.add(type);
+        }
+
+        return detected;
+    }
+
+    /**
+     * Members annotated with {@link ReflectionHint} or its container produce hints for their declaring type, members of
+     * types restored from journal are already included in journal
+     *
+     * @return annotated members scanned
+     */
+    private List<Element> scanMembers(RoundEnvironment roundEnv) {
+        if (!annotations.containsKey(ReflectionHint.class.getName())) {
+            return List.of();
+        }
+
+        final List<Element> members = Stream.of(ReflectionHint.class, ReflectionHints.class)
+                .flatMap(a -> roundEnv.getElementsAnnotatedWith(a).stream())
+                .filter(e -> e.getKind() == ElementKind.FIELD
+                        || e.getKind() == ElementKind.METHOD
+                        || e.getKind() == ElementKind.CONSTRUCTOR)
+                .distinct()
+                .collect(Collectors.toList());
+        for (Element member : members) {
+            final TypeElement type = (TypeElement) member.getEnclosingElement();
+            final String qualifiedName = type.getQualifiedName().toString();
+            if (restored.contains(qualifiedName)) {
+                continue;
+            }
+
+            final List<AnnotationMirror> mirrors = getHintMirrors(member).get(ReflectionHint.class);
+            final HintOrigin origin = cache.getOrigin(type);
+            final String typeName = cache.getTypeName(type);
+            final HintModel.Builder model = models.get(origin, type)
+                    .computeIfAbsent(typeName, k -> new HintModel.Builder(origin));
+            model.annotation(ReflectionHint.class);
+            model.reflectionAccesses(mirrors.stream()
+                    .map(mirror -> ReflectionHintProcessor.getAnnotationMemberAccess(member, mirror, cache))
+                    .collect(Collectors.toList()));
+            if (journal != null) {
+                journaled.put(qualifiedName, new HintJournal.Entry(qualifiedName, typeName, origin, model));
+            }
+        }
+
+        return members;
+    }
+
+    /**
+     * @return hint models collected across all rounds
+     */
+    List<HintModel> getModels() {
+        if (journal != null) {
+            restoreJournal();
+        }
+        scanSerializations();
+
+        final Stream<Map.Entry<HintOrigin, Map<String, HintModel.Builder>>> origins = (deterministic)
+                ? models.getHints().entrySet().stream().sorted(Map.Entry.comparingByKey())
+                : models.getHints().entrySet().stream();
+
+        return origins
+                .map(e -> {
+                    final HintModel.Builder model = new HintModel.Builder(e.getKey());
+                    e.getValue().values().forEach(model::merge);
+                    if (initializationAnalyzer != null) {
+                        // collected for merged model, so restored types are followed through recompiled ones
+                        model.initializationDependencies(initializationAnalyzer.getDependencies(model.getInitializations()));
+                    }
+                    return model.build(models.getOriginatingElements(e.getKey()));
+                })
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Serializations of types annotated with {@link SerializationHint} with subtypes among types compiled
+     * in all rounds and journaled types
+     */
+    private void scanSerializations() {
+        final List<TypeElement> knownTypes = getKnownTypes();
+        serializationMirrors.forEach((element, mirrors) -> {
+            final HintModel.Builder model = models.get(cache.getOrigin(element), element).get(cache.getTypeName(element));
+            model.serializations(SerializationHintProcessor.getAnnotationSerializations(element, mirrors, knownTypes, cache));
+            model.reflectionAccesses(SerializationHintProcessor.getAnnotationAccesses(element, mirrors, knownTypes, cache));
+        });
+        serializationMirrors.clear();
+    }
+
+    /**
+     * Saves hints of all types scanned or restored in this compilation for next compilation
+     */
+    void saveJournal() {
+        if (journal != null) {
+            journal.write(journaled.values(), getTypeEntries());
+        }
+    }
+
+    /**
+     * Facts are computed for types compiled in this compilation, facts of types that were not compiled
+     * again are kept and facts of deleted types are dropped
+     */
+    private List<HintJournal.TypeEntry> getTypeEntries() {
+        final boolean initialization = annotations.containsKey(InitializationHint.class.getName());
+        final Set<String> compiled = getQualifiedNames(compiledTypes);
+        final List<HintJournal.TypeEntry> entries = new ArrayList<>();
+        for (TypeElement type : compiledTypes) {
+            entries.add((initialization && initializationAnalyzer != null)
+                    ? initializationAnalyzer.getTypeEntry(type)
+                    : new HintJournal.TypeEntry(type.getQualifiedName().toString(), false, null, List.of()));
+        }
+        for (TypeElement type : getJournalTypes()) {
+            final String qualifiedName = type.getQualifiedName().toString();
+            if (!compiled.contains(qualifiedName)) {
+                entries.add(journal.getTypes().get(qualifiedName));
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * @return journal entry if type was not compiled from source in this compilation and hints can be
+     *             restored instead of walking its annotations
+     */
+    private HintJournal.Entry getJournalEntry(TypeElement element) {
+        if (journal == null || isCompiled(element)) {
+            return null;
+        }
+
+        final HintJournal.Entry entry = journal.getEntries().get(element.getQualifiedName().toString());
+        return (entry != null && entry.getOrigin().equals(cache.getOrigin(element)))
+                ? entry
+                : null;
+    }
+
+    /**
+     * Restores hints of types that were not reported by compiler, types that were deleted or were
+     * compiled from source without hint annotations are dropped
+     */
+    private void restoreJournal() {
+        for (HintJournal.Entry entry : journal.getEntries().values()) {
+            if (!journaled.containsKey(entry.getQualifiedName())) {
+                final TypeElement type = processingEnv.getElementUtils().getTypeElement(entry.getQualifiedName());
+                if (type != null && !isCompiled(type) && entry.getOrigin().equals(cache.getOrigin(type))) {
+                    models.get(entry.getOrigin(), type).putIfAbsent(entry.getTypeName(), entry.getModel());
+                    journaled.put(entry.getQualifiedName(), entry);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return true if type was compiled from source in this compilation, or it can not be known
+     */
+    private boolean isCompiled(TypeElement type) {
+        return trees == null || trees.getPath(type) != null;
+    }
+
+    private Map<Class<? extends Annotation>, List<AnnotationMirror>> getHintMirrors(Element element) {
+        final Map<Class<? extends Annotation>, List<AnnotationMirror>> mirrors = new LinkedHashMap<>();
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            final String annotationName = ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+            final Class<? extends Annotation> repeated = CONTAINERS.get(annotationName);
+            if (repeated != null && annotations.containsKey(repeated.getName())) {
+                final List<AnnotationMirror> repeatedMirrors = mirrors.computeIfAbsent(repeated, k -> new ArrayList<>());
+                mirror.getElementValues().values().stream()
+                        .flatMap(v -> ((List<?>) v.getValue()).stream())
+                        .map(v -> (AnnotationMirror) ((AnnotationValue) v).getValue())
+                        .forEach(repeatedMirrors::add);
+            } else {
+                final Class<? extends Annotation> annotation = annotations.get(annotationName);
+                if (annotation != null) {
+                    mirrors.computeIfAbsent(annotation, k -> new ArrayList<>()).add(mirror);
+                }
+            }
+        }
+
+        return mirrors;
+    }
+
+    private void scan(TypeElement element,
+                      Class<? extends Annotation> annotation,
+                      List<AnnotationMirror> mirrors,
+                      HintModel.Builder model) {
+        model.annotation(annotation);
+        if (ReflectionHint.class.equals(annotation)) {
+            model.reflectionAccesses(ReflectionHintProcessor.getAnnotationAccesses(element, mirrors, cache));
+        } else if (JniHint.class.equals(annotation)) {
+            model.jniAccesses(JniHintProcessor.getAnnotationAccesses(element, mirrors, cache));
+        } else if (ResourceHint.class.equals(annotation)) {
+            model.resources(ResourceHintProcessor.getAnnotationResources(element, mirrors, cache));
+        } else if (InitializationHint.class.equals(annotation)) {
+            final List<Initialization> initializations = new ArrayList<>(
+                    InitializationHintParser.getAnnotationInitializations(element, mirrors, cache));
+            if (initializationAnalyzer != null) {
+                if (InitializationHintParser.isAnnotationDiscover(element, mirrors)) {
+                    initializations.addAll(initializationAnalyzer.discover(element, getKnownTypes()));
+                }
+                if (initializationClosure) {
+                    final List<Dependency> dependencies = initializationAnalyzer.getDependencies(initializations);
+                    initializationAnalyzer.getSafeDependencies(dependencies).stream()
+                            .filter(i -> !initializations.contains(i))
+                            .forEach(initializations::add);
+                }
+                if (initializationVerify) {
+                    final List<String> violated = initializationAnalyzer.verify(initializations);
+                    if (initializationTrace) {
+                        model.initializationTraces(violated);
+                    }
+                }
+            }
+            model.initializations(initializations);
+        } else if (LinkHint.class.equals(annotation)) {
+            if (LinkHintParser.isAnnotationLinkAll(mirrors)) {
+                model.linkAll();
+            }
+            model.links(LinkHintParser.getAnnotationLinks(element, mirrors, cache));
+        } else if (NativeImageHint.class.equals(annotation)) {
+            NativeImageHintParser.getAnnotationEntrypoint(element, mirrors, cache).ifPresent(model::entrypoint);
+            model.options(NativeImageHintParser.getAnnotationOptions(mirrors));
+        } else if (DynamicProxyHint.class.equals(annotation)) {
+            model.proxyFiles(DynamicProxyHintParser.getAnnotationFiles(mirrors));
+            model.proxyResources(DynamicProxyHintParser.getAnnotationResources(mirrors));
+            model.proxyConfigurations(DynamicProxyHintParser.getAnnotationConfigurations(element, mirrors, cache));
+        } else if (SerializationHint.class.equals(annotation)) {
+            serializationMirrors.put(element, mirrors);
+        } else if (ForeignHint.class.equals(annotation)) {
+            model.foreign(ForeignHintProcessor.getAnnotationForeign(element, mirrors, cache));
+        } else if (LocaleHint.class.equals(annotation)) {
+            model.locales(LocaleHintParser.getAnnotationLocales(element, mirrors));
+            model.defaultLocales(LocaleHintParser.getAnnotationDefaultLocales(element, mirrors));
+            model.charsets(LocaleHintParser.getAnnotationCharsets(element, mirrors));
+        }
+    }
+}
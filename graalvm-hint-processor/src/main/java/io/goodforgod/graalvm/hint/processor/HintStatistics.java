@@ -0,0 +1,99 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import java.util.Locale;
+
+/**
+ * Measures phases of hint processor or option parser, emits {@link HintEvent} for each phase and
+ * keeps totals for summary note. Does nothing when statistics are disabled.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+final class HintStatistics {
+
+    private final String name;
+    private final boolean enabled;
+
+    private int rounds = 0;
+    private int elements = 0;
+    private int entries = 0;
+    private long bytes = 0;
+    private long nanos = 0;
+
+    private int pendingEntries = 0;
+
+    HintStatistics(String name, boolean enabled) {
+        this.name = name;
+        this.enabled = enabled;
+    }
+
+    /**
+     * @param phase to measure
+     * @return started measurement or null if statistics disabled
+     */
+    HintEvent start(String phase) {
+        if (!enabled) {
+            return null;
+        }
+
+        final HintEvent event = new HintEvent();
+        event.processor = name;
+        event.phase = phase;
+        event.startNanos = System.nanoTime();
+        event.begin();
+        pendingEntries = 0;
+        return event;
+    }
+
+    /**
+     * @param count of hint entries produced in currently measured phase
+     */
+    void addEntries(int count) {
+        pendingEntries += count;
+    }
+
+    /**
+     * @param event    started measurement
+     * @param round    annotation processing round
+     * @param elements scanned in phase
+     * @param bytes    written in phase
+     */
+    void end(HintEvent event, int round, int elements, long bytes) {
+        if (event == null) {
+            return;
+        }
+
+        event.end();
+        final long spent = System.nanoTime() - event.startNanos;
+        if (HintEvent.SCAN.equals(event.phase)) {
+            this.rounds++;
+        }
+        this.elements += elements;
+        this.entries += pendingEntries;
+        this.bytes += bytes;
+        this.nanos += spent;
+
+        if (event.shouldCommit()) {
+            event.round = round;
+            event.elements = elements;
+            event.entries = pendingEntries;
+            event.bytes = bytes;
+            event.nanos = spent;
+            event.commit();
+        }
+        pendingEntries = 0;
+    }
+
+    /**
+     * @return true if nothing was scanned or produced
+     */
+    boolean isEmpty() {
+        return elements == 0 && entries == 0 && bytes == 0;
+    }
+
+    String getSummary() {
+        return String.format(Locale.ROOT,
+                "GraalVM Hint statistics for %s: rounds=%d, elements=%d, entries=%d, bytes=%d, time=%.3fms",
+                name, rounds, elements, entries, bytes, nanos / 1_000_000.0);
+    }
+}
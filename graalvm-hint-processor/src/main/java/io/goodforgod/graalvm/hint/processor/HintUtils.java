@@ -1,18 +1,15 @@
 package io.goodforgod.graalvm.hint.processor;
 
-import java.io.Writer;
+import com.sun.source.util.Trees;
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
 import java.util.*;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.annotation.processing.RoundEnvironment;
 import javax.lang.model.element.*;
-import javax.lang.model.type.DeclaredType;
 import javax.lang.model.util.ElementFilter;
-import javax.tools.Diagnostic;
-import javax.tools.FileObject;
-import javax.tools.StandardLocation;
 
 /**
  * @author Anton Kurako (GoodforGod)
@@ -35,6 +32,34 @@ static HintOrigin getHintOrigin(Element element, ProcessingEnvironment processin
         return new HintOrigin(group, artifact);
     }
 
+    /**
+     * Trees are obtained via {@link Trees#instance(ProcessingEnvironment)}, which supports only javac own
+     * processing environment. Gradle incremental compilation wraps it, so as fallback wrapped environment
+     * is unwrapped by its {@code delegate} field, this relies on Gradle internals and caller must report
+     * when trees are not available and source analysis is skipped
+     *
+     * @param processingEnv to get source trees from
+     * @return source trees or null if compiler does not provide them
+     */
+    static Trees getTrees(ProcessingEnvironment processingEnv) {
+        try {
+            return Trees.instance(processingEnv);
+        } catch (IllegalArgumentException e) {
+            for (Class<?> type = processingEnv.getClass(); type != null; type = type.getSuperclass()) {
+                try {
+                    final Field delegate = type.getDeclaredField("delegate");
+                    delegate.setAccessible(true);
+                    return getTrees((ProcessingEnvironment) delegate.get(processingEnv));
+                } catch (ReflectiveOperationException | RuntimeException ignored) {
+                    // try superclass
+                }
+            }
+            return null;
+        } catch (NoClassDefFoundError e) {
+            return null;
+        }
+    }
+
     static Set<TypeElement> getAnnotatedElements(RoundEnvironment roundEnv, Class<? extends Annotation>... annotations) {
         return Arrays.stream(annotations)
                 .flatMap(a -> {
@@ -44,26 +69,7 @@ static Set<TypeElement> getAnnotatedElements(RoundEnvironment roundEnv, Class<?
 
                     return ElementFilter.typesIn(annotated).stream();
                 })
-                .collect(Collectors.toSet());
-    }
-
-    static Optional<String> getAnnotationFieldClassNameAny(TypeElement type,
-                                                           Class<? extends Annotation> annotation,
-                                                           String annotationFieldName) {
-        final List<String> classNames = getAnnotationFieldClassNames(type, annotation, annotationFieldName);
-        return classNames.isEmpty()
-                ? Optional.empty()
-                : Optional.of(classNames.get(0));
-    }
-
-    static List<String> getAnnotationFieldClassNames(TypeElement type,
-                                                     Class<? extends Annotation> annotation,
-                                                     String annotationFieldName) {
-        final String annotationName = annotation.getSimpleName();
-        return type.getAnnotationMirrors().stream()
-                .filter(a -> a.getAnnotationType().asElement().getSimpleName().contentEquals(annotationName))
-                .flatMap(a -> HintUtils.getAnnotationFieldValues(a, annotationFieldName).stream())
-                .collect(Collectors.toList());
+                .collect(Collectors.toCollection(LinkedHashSet::new));
     }
 
     static List<String> getAnnotationFieldValuesOrDefault(AnnotationMirror mirror,
@@ -77,74 +83,39 @@ static List<String> getAnnotationFieldValuesOrDefault(AnnotationMirror mirror,
 
     static List<String> getAnnotationFieldValues(AnnotationMirror mirror,
                                                  String annotationFieldName) {
+        return getAnnotationFieldItems(mirror, annotationFieldName)
+                .map(Object::toString)
+                .filter(e -> !e.isBlank())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * @param mirror              to get class field values from
+     * @param annotationFieldName class or class array field name
+     * @param cache               to resolve type binary names with
+     * @return binary names of types in field
+     */
+    static List<String> getAnnotationFieldClassNames(AnnotationMirror mirror,
+                                                     String annotationFieldName,
+                                                     HintCache cache) {
+        return getAnnotationFieldItems(mirror, annotationFieldName)
+                .map(cache::getTypeName)
+                .filter(e -> !e.isBlank())
+                .collect(Collectors.toList());
+    }
+
+    private static Stream<Object> getAnnotationFieldItems(AnnotationMirror mirror, String annotationFieldName) {
         return mirror.getElementValues().entrySet().stream()
                 .filter(e -> e.getKey().getSimpleName().contentEquals(annotationFieldName))
                 .flatMap(e -> {
                     final Object value = e.getValue().getValue();
                     if (value instanceof Collection) {
-                        return ((Collection<?>) value).stream().map(HintUtils::getAnnotationValueAsString);
+                        return ((Collection<?>) value).stream()
+                                .map(v -> (v instanceof AnnotationValue) ? ((AnnotationValue) v).getValue() : v);
                     } else {
-                        return Stream.of(getAnnotationValueAsString(value));
+                        return Stream.of(value);
                     }
-                })
-                .filter(e -> !e.isBlank())
-                .collect(Collectors.toList());
-    }
-
-    private static String getAnnotationValueAsString(Object v) {
-        if (v instanceof AnnotationValue) {
-            final Object itemValue = ((AnnotationValue) v).getValue();
-            if (itemValue instanceof DeclaredType) {
-                final Element element = ((DeclaredType) itemValue).asElement();
-                return getElementClassName(element);
-            } else {
-                return itemValue.toString();
-            }
-        } else {
-            return v.toString();
-        }
-    }
-
-    static String getElementClassName(Element element) {
-        final List<String> parts = new ArrayList<>();
-
-        Element next = element;
-        while (next != null) {
-            parts.add(next.getSimpleName().toString());
-            next = next.getEnclosingElement();
-            if (next instanceof PackageElement) {
-                if (!((PackageElement) next).isUnnamed()) {
-                    parts.add(".");
-                    parts.add(next.toString());
-                }
-                break;
-            } else if (next instanceof ModuleElement) {
-                break;
-            } else {
-                parts.add("$");
-            }
-        }
-
-        Collections.reverse(parts);
-        return String.join("", parts);
-    }
-
-    static boolean writeConfigFile(HintFile file, String data, ProcessingEnvironment processingEnv) {
-        try {
-            final FileObject fileObject = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
-                    file.getPath());
-            try (Writer writer = fileObject.openWriter()) {
-                writer.write(data);
-            }
-        } catch (Exception e) {
-            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
-                    "Couldn't write GraalVM Hint " + file.getName() + " to due to: " + e.getMessage());
-            return false;
-        }
-
-        processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
-                "Generating GraalVM Hint " + file.getName() + " to: " + file.getPath());
-        return true;
+                });
     }
 
     private static String getPackage(ProcessingEnvironment processingEnv, Element element) {
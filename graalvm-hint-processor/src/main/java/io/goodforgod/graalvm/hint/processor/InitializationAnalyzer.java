@@ -0,0 +1,776 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import com.sun.source.tree.*;
+import com.sun.source.util.SimpleTreeVisitor;
+import com.sun.source.util.TreePath;
+import com.sun.source.util.TreeScanner;
+import com.sun.source.util.Trees;
+import io.goodforgod.graalvm.hint.annotation.InitializationHint;
+import io.goodforgod.graalvm.hint.annotation.InitializationHint.InitPhase;
+import io.goodforgod.graalvm.hint.processor.InitializationHintParser.Dependency;
+import io.goodforgod.graalvm.hint.processor.InitializationHintParser.Initialization;
+import java.util.*;
+import java.util.stream.Collectors;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+
+/**
+ * Inspects static initializers and static field initializers of types initialized at build time,
+ * constructs which state of build machine is captured into native image heap (random seeds, threads,
+ * file handles, environment, time) are reported at their source location.
+ * <p>
+ * Only types compiled from source are inspected, each type is inspected once per compilation, facts
+ * of types compiled from source in previous compilation are taken from {@link HintJournal}.
+ * <p>
+ * Types can also be discovered as safe to initialize at build time, when their static state is made
+ * only of constants and immutable values of safe types.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+final class InitializationAnalyzer {
+
+    private static final String RANDOM = "random seed is captured at build time";
+    private static final String THREAD = "thread is started at build time and can't be kept in native image heap";
+    private static final String FILE = "file handle is opened at build time and can't be kept in native image heap";
+    private static final String SOCKET = "socket is opened at build time and can't be kept in native image heap";
+    private static final String ENVIRONMENT = "environment of build machine is captured";
+    private static final String TIME = "time of build is captured";
+    private static final String MACHINE = "state of build machine is captured";
+
+    /**
+     * Types which instantiation is unsafe to reason
+     */
+    private static final Map<String, String> UNSAFE_CONSTRUCTORS = Map.ofEntries(
+            Map.entry("java.util.Random", RANDOM),
+            Map.entry("java.util.SplittableRandom", RANDOM),
+            Map.entry("java.security.SecureRandom", RANDOM),
+            Map.entry("java.lang.Thread", THREAD),
+            Map.entry("java.util.Timer", THREAD),
+            Map.entry("java.util.concurrent.ThreadPoolExecutor", THREAD),
+            Map.entry("java.util.concurrent.ScheduledThreadPoolExecutor", THREAD),
+            Map.entry("java.util.concurrent.ForkJoinPool", THREAD),
+            Map.entry("java.io.FileInputStream", FILE),
+            Map.entry("java.io.FileOutputStream", FILE),
+            Map.entry("java.io.FileReader", FILE),
+            Map.entry("java.io.FileWriter", FILE),
+            Map.entry("java.io.RandomAccessFile", FILE),
+            Map.entry("java.net.Socket", SOCKET),
+            Map.entry("java.net.ServerSocket", SOCKET),
+            Map.entry("java.net.DatagramSocket", SOCKET));
+
+    /**
+     * Types which all static methods are unsafe to reason
+     */
+    private static final Map<String, String> UNSAFE_TYPES = Map.of(
+            "java.util.concurrent.Executors", THREAD,
+            "java.nio.file.Files", FILE,
+            "java.lang.management.ManagementFactory", MACHINE);
+
+    /**
+     * Static methods specified as {@code type#method} which are unsafe to reason
+     */
+    private static final Map<String, String> UNSAFE_METHODS = Map.ofEntries(
+            Map.entry("java.lang.System#getenv", ENVIRONMENT),
+            Map.entry("java.lang.System#getProperty", ENVIRONMENT),
+            Map.entry("java.lang.System#getProperties", ENVIRONMENT),
+            Map.entry("java.lang.System#currentTimeMillis", TIME),
+            Map.entry("java.lang.System#nanoTime", TIME),
+            Map.entry("java.time.Instant#now", TIME),
+            Map.entry("java.time.LocalDate#now", TIME),
+            Map.entry("java.time.LocalTime#now", TIME),
+            Map.entry("java.time.LocalDateTime#now", TIME),
+            Map.entry("java.time.OffsetDateTime#now", TIME),
+            Map.entry("java.time.ZonedDateTime#now", TIME),
+            Map.entry("java.time.Clock#systemUTC", TIME),
+            Map.entry("java.time.Clock#systemDefaultZone", TIME),
+            Map.entry("java.lang.Math#random", RANDOM),
+            Map.entry("java.util.UUID#randomUUID", RANDOM),
+            Map.entry("java.util.concurrent.ThreadLocalRandom#current", RANDOM),
+            Map.entry("java.lang.Runtime#getRuntime", MACHINE),
+            Map.entry("java.lang.ProcessHandle#current", MACHINE),
+            Map.entry("java.net.InetAddress#getLocalHost", MACHINE),
+            Map.entry("java.net.InetAddress#getByName", MACHINE),
+            Map.entry("java.net.InetAddress#getAllByName", MACHINE),
+            Map.entry("java.util.Locale#getDefault", MACHINE),
+            Map.entry("java.util.TimeZone#getDefault", MACHINE),
+            Map.entry("java.time.ZoneId#systemDefault", MACHINE),
+            Map.entry("java.nio.charset.Charset#defaultCharset", MACHINE),
+            Map.entry("java.nio.channels.FileChannel#open", FILE),
+            Map.entry("java.util.concurrent.ForkJoinPool#commonPool", THREAD));
+
+    /**
+     * Static methods specified as {@code type#method} which produce immutable values from safe arguments
+     */
+    private static final Set<String> SAFE_METHODS = Set.of(
+            "java.util.List#of", "java.util.List#copyOf",
+            "java.util.Set#of", "java.util.Set#copyOf",
+            "java.util.Map#of", "java.util.Map#entry", "java.util.Map#ofEntries", "java.util.Map#copyOf",
+            "java.util.Collections#emptyList", "java.util.Collections#emptySet", "java.util.Collections#emptyMap",
+            "java.util.regex.Pattern#compile", "java.util.regex.Pattern#quote",
+            "java.time.Duration#ofNanos", "java.time.Duration#ofMillis", "java.time.Duration#ofSeconds",
+            "java.time.Duration#ofMinutes", "java.time.Duration#ofHours", "java.time.Duration#ofDays",
+            "java.math.BigDecimal#valueOf", "java.math.BigInteger#valueOf",
+            "java.lang.String#valueOf", "java.lang.String#join", "java.lang.String#format",
+            "java.lang.Integer#valueOf", "java.lang.Long#valueOf", "java.lang.Boolean#valueOf");
+
+    /**
+     * Types which static fields are immutable constants
+     */
+    private static final Set<String> SAFE_CONSTANT_TYPES = Set.of(
+            "java.nio.charset.StandardCharsets", "java.util.Locale", "java.math.BigDecimal", "java.math.BigInteger",
+            "java.time.Duration", "java.util.Collections", "java.lang.Boolean");
+
+    /**
+     * Superclasses that have no static state
+     */
+    private static final Set<String> SAFE_SUPERCLASSES = Set.of(
+            "java.lang.Object", "java.lang.Enum", "java.lang.Record");
+
+    /**
+     * Unsafe construct found in static initializer of type
+     */
+    static final class Violation {
+
+        private final String typeName;
+        private final String construct;
+        private final String reason;
+        private final Tree tree;
+        private final CompilationUnitTree unit;
+
+        Violation(String typeName, String construct, String reason, Tree tree, CompilationUnitTree unit) {
+            this.typeName = typeName;
+            this.construct = construct;
+            this.reason = reason;
+            this.tree = tree;
+            this.unit = unit;
+        }
+
+        String getTypeName() {
+            return typeName;
+        }
+
+        /**
+         * @return construct as written like {@code new Random()} or {@code System.getenv()}
+         */
+        String getConstruct() {
+            return construct;
+        }
+
+        String getReason() {
+            return reason;
+        }
+    }
+
+    private final Trees trees;
+    private final SourceTypeResolver resolver;
+    private final HintCache cache;
+    private final Messager messager;
+    private final HintJournal journal;
+    private final Elements elements;
+
+    /**
+     * Violations of inspected types by type name
+     */
+    private final Map<String, List<Violation>> violations = new HashMap<>();
+    /**
+     * Static initializers walked once for each type compiled from source
+     */
+    private final Map<TypeElement, StaticInitializerScanner> scanners = new HashMap<>();
+    /**
+     * Reasons why type is not safe to initialize at build time by type, empty if type is safe
+     */
+    private final Map<TypeElement, Optional<String>> rejections = new HashMap<>();
+
+    /**
+     * @param journal of previous compilation or null if journal is disabled
+     */
+    InitializationAnalyzer(Trees trees, ProcessingEnvironment processingEnv, HintCache cache, HintJournal journal) {
+        this.trees = trees;
+        this.resolver = new SourceTypeResolver(processingEnv.getElementUtils());
+        this.cache = cache;
+        this.messager = processingEnv.getMessager();
+        this.journal = journal;
+        this.elements = processingEnv.getElementUtils();
+    }
+
+    /**
+     * Discovers types in package of root type and its subpackages which static initialization is safe
+     * to run at build time, types without static initialization are skipped as native image
+     * initializes them at build time anyway, rejected types are reported as notes with reasons
+     *
+     * @param root  type which package types are discovered in
+     * @param types compiled together with root type and compiled in previous compilation
+     * @return build time initializations of safe types ordered by name
+     */
+    List<Initialization> discover(TypeElement root, Collection<TypeElement> types) {
+        final String rootPackage = getPackageName(root);
+        final Set<String> discovered = new TreeSet<>();
+        for (TypeElement type : types) {
+            final String packageName = getPackageName(type);
+            final boolean inPackage = rootPackage.isEmpty() || packageName.equals(rootPackage)
+                    || packageName.startsWith(rootPackage + ".");
+            if (!inPackage || type.getKind() == ElementKind.ANNOTATION_TYPE || !hasStaticInitialization(type)) {
+                continue;
+            }
+
+            final Optional<String> rejection = getRejection(type);
+            if (rejection.isEmpty()) {
+                discovered.add(cache.getTypeName(type));
+            } else {
+                messager.printMessage(Diagnostic.Kind.NOTE, "@" + InitializationHint.class.getSimpleName()
+                        + " discovery rejected " + cache.getTypeName(type) + ": " + rejection.get(), type);
+            }
+        }
+
+        return discovered.stream()
+                .map(t -> new Initialization(t, InitPhase.BUILD))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Inspects types initialized at build time and reports their violations as warnings, each type is
+     * reported once
+     *
+     * @param initializations to inspect build time initializations of
+     * @return names of types initialized at build time that have violations
+     */
+    List<String> verify(Collection<Initialization> initializations) {
+        final List<String> violated = new ArrayList<>();
+        for (Initialization initialization : initializations) {
+            if (initialization.getPhase() == InitPhase.BUILD) {
+                final Optional<TypeElement> type = cache.getTypeElement(initialization.getClassName());
+                if (type.isPresent() && !violations.containsKey(initialization.getClassName())) {
+                    final List<Violation> typeViolations = getViolations(type.get());
+                    violations.put(initialization.getClassName(), typeViolations);
+                    for (Violation violation : typeViolations) {
+                        trees.printMessage(Diagnostic.Kind.WARNING, violation.typeName
+                                + " is initialized at build time, but its static initializer uses " + violation.construct
+                                + ": " + violation.reason, violation.tree, violation.unit);
+                    }
+                }
+
+                if (!violations.getOrDefault(initialization.getClassName(), List.of()).isEmpty()) {
+                    violated.add(initialization.getClassName());
+                }
+            }
+        }
+        return violated;
+    }
+
+    /**
+     * @return violations in static initializers of type or empty if type is not compiled from source
+     */
+    List<Violation> getViolations(TypeElement type) {
+        return getScanner(type).map(s -> s.violations).orElse(List.of());
+    }
+
+    /**
+     * Types initialized at build time initialize every type their static initializers use, types
+     * reached through types that are not compiled from source and not journaled are unknown
+     *
+     * @param initializations to collect dependencies of build time initializations of
+     * @return types initialized by static initializers of build time types and their dependencies
+     */
+    List<Dependency> getDependencies(Collection<Initialization> initializations) {
+        final Map<String, Dependency> dependencies = new LinkedHashMap<>();
+        for (Initialization initialization : initializations) {
+            if (initialization.getPhase() == InitPhase.BUILD) {
+                cache.getTypeElement(initialization.getClassName())
+                        .ifPresent(type -> getDependencies(type).forEach(d -> dependencies.putIfAbsent(d.getClassName(), d)));
+            }
+        }
+        return List.copyOf(dependencies.values());
+    }
+
+    /**
+     * @return dependencies of type ordered by distance, with shortest chain of types to each of them
+     */
+    private List<Dependency> getDependencies(TypeElement root) {
+        final Map<TypeElement, List<String>> chains = new LinkedHashMap<>();
+        chains.put(root, List.of(cache.getTypeName(root)));
+
+        final Deque<TypeElement> queue = new ArrayDeque<>(List.of(root));
+        while (!queue.isEmpty()) {
+            final TypeElement type = queue.poll();
+            for (TypeElement initialized : getInitializedTypes(type)) {
+                if (!chains.containsKey(initialized)) {
+                    final List<String> chain = new ArrayList<>(chains.get(type));
+                    chain.add(cache.getTypeName(initialized));
+                    chains.put(initialized, chain);
+                    queue.add(initialized);
+                }
+            }
+        }
+
+        chains.remove(root);
+        return chains.values().stream()
+                .map(Dependency::new)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Dependencies that are safe are initialized at build time explicitly, dependencies compiled from
+     * source that are not safe are reported as they will be initialized at build time anyway
+     *
+     * @param dependencies of build time initializations
+     * @return build time initializations of safe dependencies
+     */
+    List<Initialization> getSafeDependencies(Collection<Dependency> dependencies) {
+        final List<Initialization> safe = new ArrayList<>();
+        for (Dependency dependency : dependencies) {
+            final Optional<TypeElement> type = cache.getTypeElement(dependency.getClassName());
+            if (type.isPresent() && isKnown(type.get())) {
+                final Optional<String> rejection = getRejection(type.get());
+                if (rejection.isEmpty()) {
+                    safe.add(new Initialization(dependency.getClassName(), InitPhase.BUILD));
+                } else {
+                    messager.printMessage(Diagnostic.Kind.WARNING, dependency.getClassName()
+                            + " is initialized at build time by static initializer of " + dependency.getChain().get(0)
+                            + " (" + String.join(" -> ", dependency.getChain()) + "), but it is not safe: " + rejection.get(),
+                            type.get());
+                }
+            }
+        }
+        return safe;
+    }
+
+    /**
+     * @return superclass and types used by static initializers of type, only superclass if type is not
+     *             compiled from source and not journaled
+     */
+    private Set<TypeElement> getInitializedTypes(TypeElement type) {
+        final Set<TypeElement> initialized = new LinkedHashSet<>();
+        if (type.getSuperclass().getKind() == TypeKind.DECLARED) {
+            final TypeElement superclass = (TypeElement) ((DeclaredType) type.getSuperclass()).asElement();
+            if (!SAFE_SUPERCLASSES.contains(superclass.getQualifiedName().toString())) {
+                initialized.add(superclass);
+            }
+        }
+
+        final Optional<StaticInitializerScanner> scanner = getScanner(type);
+        if (scanner.isPresent()) {
+            initialized.addAll(scanner.get().initialized);
+        } else {
+            final HintJournal.TypeEntry entry = getJournalEntry(type.getQualifiedName().toString());
+            if (entry != null) {
+                entry.getInitializedTypes().stream()
+                        .map(elements::getTypeElement)
+                        .filter(Objects::nonNull)
+                        .forEach(initialized::add);
+            }
+        }
+        return initialized;
+    }
+
+    private Optional<StaticInitializerScanner> getScanner(TypeElement type) {
+        if (scanners.containsKey(type)) {
+            return Optional.ofNullable(scanners.get(type));
+        }
+
+        final TreePath path = trees.getPath(type);
+        StaticInitializerScanner scanner = null;
+        if (path != null && path.getLeaf() instanceof ClassTree) {
+            scanner = new StaticInitializerScanner(type, path.getCompilationUnit());
+            for (Tree member : getStaticInitializers(type, (ClassTree) path.getLeaf())) {
+                member.accept(scanner, null);
+            }
+        }
+        scanners.put(type, scanner);
+        return Optional.ofNullable(scanner);
+    }
+
+    /**
+     * @return true if type is enum or has static block or static fields which values are not compile time
+     *             constants
+     */
+    boolean hasStaticInitialization(TypeElement type) {
+        if (type.getKind() == ElementKind.ENUM) {
+            return true;
+        }
+
+        final TreePath path = trees.getPath(type);
+        if (path == null) {
+            final HintJournal.TypeEntry entry = getJournalEntry(type.getQualifiedName().toString());
+            return entry != null && entry.hasStaticInitialization();
+        } else if (!(path.getLeaf() instanceof ClassTree)) {
+            return false;
+        }
+
+        final boolean allStatic = type.getKind().isInterface();
+        for (Tree member : ((ClassTree) path.getLeaf()).getMembers()) {
+            if (member instanceof BlockTree && ((BlockTree) member).isStatic()) {
+                return true;
+            } else if (member instanceof VariableTree) {
+                final VariableTree variable = (VariableTree) member;
+                if (variable.getInitializer() != null
+                        && (allStatic || variable.getModifiers().getFlags().contains(Modifier.STATIC))
+                        && getField(type, variable).map(VariableElement::getConstantValue).isEmpty()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Type is safe when its superclass is safe, it has no static blocks, its static fields are final and
+     * their values are compile time constants, enum constants, immutable collections of safe values,
+     * precompiled patterns, lambdas or constants of other safe types
+     *
+     * @return reason why type is not safe to initialize at build time or empty if it is safe
+     */
+    Optional<String> getRejection(TypeElement type) {
+        final Optional<String> known = rejections.get(type);
+        if (known != null) {
+            return known;
+        }
+
+        // types referencing each other are safe unless any of them is rejected by other reason
+        rejections.put(type, Optional.empty());
+        final Optional<String> rejection = Optional.ofNullable(getTypeRejection(type));
+        rejections.put(type, rejection);
+        return rejection;
+    }
+
+    private String getTypeRejection(TypeElement type) {
+        final TreePath path = trees.getPath(type);
+        if (path == null) {
+            final HintJournal.TypeEntry entry = getJournalEntry(type.getQualifiedName().toString());
+            return (entry == null)
+                    ? "is not compiled from source"
+                    : entry.getRejection().orElse(null);
+        } else if (!(path.getLeaf() instanceof ClassTree)) {
+            return "is not compiled from source";
+        }
+
+        if (type.getSuperclass().getKind() == TypeKind.DECLARED) {
+            final TypeElement superclass = (TypeElement) ((DeclaredType) type.getSuperclass()).asElement();
+            if (!SAFE_SUPERCLASSES.contains(superclass.getQualifiedName().toString())
+                    && getRejection(superclass).isPresent()) {
+                return "superclass " + cache.getTypeName(superclass) + " is not safe";
+            }
+        }
+
+        final SafeExpressionScanner scanner = new SafeExpressionScanner(type, path.getCompilationUnit());
+        final boolean allStatic = type.getKind().isInterface();
+        for (Tree member : ((ClassTree) path.getLeaf()).getMembers()) {
+            if (member instanceof BlockTree && ((BlockTree) member).isStatic()) {
+                return "has static initializer block";
+            } else if (member instanceof VariableTree) {
+                final VariableTree variable = (VariableTree) member;
+                final Set<Modifier> modifiers = variable.getModifiers().getFlags();
+                if (!allStatic && !modifiers.contains(Modifier.STATIC)) {
+                    continue;
+                } else if (!allStatic && !modifiers.contains(Modifier.FINAL)) {
+                    return "has non-final static field '" + variable.getName() + "'";
+                } else if (variable.getInitializer() == null
+                        || getField(type, variable).map(VariableElement::getConstantValue).isPresent()) {
+                    continue;
+                }
+
+                final String rejection = variable.getInitializer().accept(scanner, null);
+                if (rejection != null) {
+                    return "static field '" + variable.getName() + "' " + rejection;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param type compiled from source
+     * @return facts of type to journal for next compilation
+     */
+    HintJournal.TypeEntry getTypeEntry(TypeElement type) {
+        final List<String> initialized = getScanner(type)
+                .map(s -> s.initialized.stream()
+                        .map(t -> t.getQualifiedName().toString())
+                        .collect(Collectors.toList()))
+                .orElse(List.of());
+        return new HintJournal.TypeEntry(type.getQualifiedName().toString(), hasStaticInitialization(type),
+                getRejection(type).orElse(null), initialized);
+    }
+
+    /**
+     * @return true if type is compiled from source or was compiled from source in previous compilation
+     */
+    private boolean isKnown(TypeElement type) {
+        return trees.getPath(type) != null || getJournalEntry(type.getQualifiedName().toString()) != null;
+    }
+
+    /**
+     * @return journaled facts of type that was compiled from source in previous compilation or null
+     */
+    private HintJournal.TypeEntry getJournalEntry(String qualifiedName) {
+        return (journal == null)
+                ? null
+                : journal.getTypes().get(qualifiedName);
+    }
+
+    private static Optional<VariableElement> getField(TypeElement type, VariableTree variable) {
+        return ElementFilter.fieldsIn(type.getEnclosedElements()).stream()
+                .filter(f -> f.getSimpleName().contentEquals(variable.getName()))
+                .findFirst();
+    }
+
+    private static String getPackageName(TypeElement type) {
+        Element element = type;
+        while (element.getKind() != ElementKind.PACKAGE) {
+            element = element.getEnclosingElement();
+        }
+        return ((PackageElement) element).getQualifiedName().toString();
+    }
+
+    /**
+     * @return static blocks and initializers of static fields, all fields of interfaces are static
+     */
+    static List<Tree> getStaticInitializers(TypeElement type, ClassTree classTree) {
+        final boolean allStatic = type.getKind().isInterface();
+        final List<Tree> initializers = new ArrayList<>();
+        for (Tree member : classTree.getMembers()) {
+            if (member instanceof BlockTree && ((BlockTree) member).isStatic()) {
+                initializers.add(member);
+            } else if (member instanceof VariableTree) {
+                final VariableTree variable = (VariableTree) member;
+                if (variable.getInitializer() != null
+                        && (allStatic || variable.getModifiers().getFlags().contains(Modifier.STATIC))) {
+                    initializers.add(variable.getInitializer());
+                }
+            }
+        }
+        return initializers;
+    }
+
+    /**
+     * Walks code executed by static initializer, so bodies of lambdas, anonymous and local classes are
+     * not walked
+     */
+    private final class StaticInitializerScanner extends TreeScanner<Void, Void> {
+
+        private final TypeElement type;
+        private final CompilationUnitTree unit;
+        private final List<Violation> violations = new ArrayList<>();
+        private final Set<TypeElement> initialized = new LinkedHashSet<>();
+
+        private StaticInitializerScanner(TypeElement type, CompilationUnitTree unit) {
+            this.type = type;
+            this.unit = unit;
+        }
+
+        @Override
+        public Void visitNewClass(NewClassTree node, Void unused) {
+            resolver.getType(unit, type, node.getIdentifier()).ifPresent(created -> {
+                addInitialized(created);
+                final String reason = UNSAFE_CONSTRUCTORS.get(created.getQualifiedName().toString());
+                if (reason != null) {
+                    addViolation("new " + created.getSimpleName() + "()", reason, node);
+                }
+            });
+
+            scan(node.getEnclosingExpression(), unused);
+            scan(node.getArguments(), unused);
+            return null;
+        }
+
+        @Override
+        public Void visitMethodInvocation(MethodInvocationTree node, Void unused) {
+            final String method = SourceTypeResolver.getMethodName(node);
+            resolver.getMethodType(unit, type, node).ifPresent(t -> {
+                final String typeName = t.getQualifiedName().toString();
+                final String reason = UNSAFE_METHODS.getOrDefault(typeName + "#" + method, UNSAFE_TYPES.get(typeName));
+                if (reason != null) {
+                    addViolation(t.getSimpleName() + "." + method + "()", reason, node);
+                }
+            });
+
+            return super.visitMethodInvocation(node, unused);
+        }
+
+        /**
+         * Static method call or read of static field that is not compile time constant initializes type
+         */
+        @Override
+        public Void visitMemberSelect(MemberSelectTree node, Void unused) {
+            final Optional<TypeElement> owner = resolver.getType(unit, type, node.getExpression());
+            if (owner.isPresent()) {
+                final TypeElement ownerType = owner.get();
+                final boolean initializing = !node.getIdentifier().contentEquals("class")
+                        && ElementFilter.typesIn(ownerType.getEnclosedElements()).stream()
+                                .noneMatch(t -> t.getSimpleName().contentEquals(node.getIdentifier()))
+                        && ElementFilter.fieldsIn(ownerType.getEnclosedElements()).stream()
+                                .noneMatch(f -> f.getSimpleName().contentEquals(node.getIdentifier())
+                                        && f.getConstantValue() != null);
+                if (initializing) {
+                    addInitialized(ownerType);
+                }
+                return null;
+            }
+
+            return super.visitMemberSelect(node, unused);
+        }
+
+        @Override
+        public Void visitLambdaExpression(LambdaExpressionTree node, Void unused) {
+            return null;
+        }
+
+        @Override
+        public Void visitClass(ClassTree node, Void unused) {
+            return null;
+        }
+
+        private void addInitialized(TypeElement initializedType) {
+            if (!initializedType.equals(type)) {
+                initialized.add(initializedType);
+            }
+        }
+
+        private void addViolation(String construct, String reason, Tree tree) {
+            violations.add(new Violation(cache.getTypeName(type), construct, reason, tree, unit));
+        }
+    }
+
+    /**
+     * Checks that expression evaluates to safe value without running code of other types, returns
+     * reason why expression is not safe or null if it is safe
+     */
+    private final class SafeExpressionScanner extends SimpleTreeVisitor<String, Void> {
+
+        private final TypeElement type;
+        private final CompilationUnitTree unit;
+
+        private SafeExpressionScanner(TypeElement type, CompilationUnitTree unit) {
+            super("uses unsupported expression");
+            this.type = type;
+            this.unit = unit;
+        }
+
+        private String visitAll(Collection<? extends Tree> trees) {
+            if (trees != null) {
+                for (Tree tree : trees) {
+                    final String rejection = (tree == null) ? null : tree.accept(this, null);
+                    if (rejection != null) {
+                        return rejection;
+                    }
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public String visitLiteral(LiteralTree node, Void unused) {
+            return null;
+        }
+
+        @Override
+        public String visitIdentifier(IdentifierTree node, Void unused) {
+            return null;
+        }
+
+        @Override
+        public String visitLambdaExpression(LambdaExpressionTree node, Void unused) {
+            return null;
+        }
+
+        @Override
+        public String visitMemberReference(MemberReferenceTree node, Void unused) {
+            return (resolver.getType(unit, type, node.getQualifierExpression()).isPresent())
+                    ? null
+                    : node.getQualifierExpression().accept(this, null);
+        }
+
+        @Override
+        public String visitParenthesized(ParenthesizedTree node, Void unused) {
+            return node.getExpression().accept(this, null);
+        }
+
+        @Override
+        public String visitTypeCast(TypeCastTree node, Void unused) {
+            return node.getExpression().accept(this, null);
+        }
+
+        @Override
+        public String visitBinary(BinaryTree node, Void unused) {
+            return visitAll(List.of(node.getLeftOperand(), node.getRightOperand()));
+        }
+
+        @Override
+        public String visitUnary(UnaryTree node, Void unused) {
+            switch (node.getKind()) {
+                case PREFIX_INCREMENT:
+                case PREFIX_DECREMENT:
+                case POSTFIX_INCREMENT:
+                case POSTFIX_DECREMENT:
+                    return "mutates '" + node.getExpression() + "'";
+                default:
+                    return node.getExpression().accept(this, null);
+            }
+        }
+
+        @Override
+        public String visitConditionalExpression(ConditionalExpressionTree node, Void unused) {
+            return visitAll(List.of(node.getCondition(), node.getTrueExpression(), node.getFalseExpression()));
+        }
+
+        @Override
+        public String visitNewArray(NewArrayTree node, Void unused) {
+            final String rejection = visitAll(node.getDimensions());
+            return (rejection == null)
+                    ? visitAll(node.getInitializers())
+                    : rejection;
+        }
+
+        @Override
+        public String visitNewClass(NewClassTree node, Void unused) {
+            final Optional<TypeElement> created = resolver.getType(unit, type, node.getIdentifier());
+            if (created.isPresent() && created.get().equals(type) && type.getKind() == ElementKind.ENUM) {
+                return visitAll(node.getArguments());
+            }
+
+            return "creates new " + created.map(c -> c.getSimpleName().toString()).orElse(node.getIdentifier().toString())
+                    + "()";
+        }
+
+        @Override
+        public String visitMemberSelect(MemberSelectTree node, Void unused) {
+            if (node.getIdentifier().contentEquals("class")) {
+                return null;
+            }
+
+            final Optional<TypeElement> owner = resolver.getType(unit, type, node.getExpression());
+            if (owner.isEmpty()) {
+                return node.getExpression().accept(this, null);
+            }
+
+            final TypeElement ownerType = owner.get();
+            final boolean constant = ElementFilter.fieldsIn(ownerType.getEnclosedElements()).stream()
+                    .anyMatch(f -> f.getSimpleName().contentEquals(node.getIdentifier()) && f.getConstantValue() != null);
+            if (constant || ownerType.getKind() == ElementKind.ENUM
+                    || SAFE_CONSTANT_TYPES.contains(ownerType.getQualifiedName().toString())) {
+                return null;
+            }
+
+            return (isKnown(ownerType) && getRejection(ownerType).isEmpty())
+                    ? null
+                    : "reads " + ownerType.getSimpleName() + "." + node.getIdentifier();
+        }
+
+        @Override
+        public String visitMethodInvocation(MethodInvocationTree node, Void unused) {
+            final String method = SourceTypeResolver.getMethodName(node);
+            final Optional<TypeElement> target = resolver.getMethodType(unit, type, node);
+            if (target.isPresent() && SAFE_METHODS.contains(target.get().getQualifiedName() + "#" + method)) {
+                return visitAll(node.getArguments());
+            }
+
+            return "calls " + target.map(t -> t.getSimpleName() + ".").orElse("") + method + "()";
+        }
+    }
+}
@@ -7,8 +7,6 @@
 import java.util.*;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import javax.annotation.processing.ProcessingEnvironment;
-import javax.annotation.processing.RoundEnvironment;
 import javax.lang.model.element.AnnotationMirror;
 import javax.lang.model.element.TypeElement;
 
@@ -24,8 +22,9 @@ final class InitializationHintParser implements OptionParser {
 
     private static final String INIT_BUILD_TIME = "--initialize-at-build-time=";
     private static final String INIT_RUNTIME_TIME = "--initialize-at-run-time=";
+    private static final String TRACE_INITIALIZATION = "--trace-class-initialization=";
 
-    private static class Initialization implements Comparable<Initialization> {
+    static final class Initialization implements Comparable<Initialization> {
 
         private final String className;
         private final InitPhase phase;
@@ -35,6 +34,14 @@ private static class Initialization implements Comparable<Initialization> {
             this.phase = phase;
         }
 
+        String getClassName() {
+            return className;
+        }
+
+        InitPhase getPhase() {
+            return phase;
+        }
+
         @Override
         public int compareTo(Initialization o) {
             return className.compareTo(o.className);
@@ -56,39 +63,45 @@ public int hashCode() {
         }
     }
 
-    @Override
-    public List<Class<? extends Annotation>> getSupportedAnnotations() {
-        return List.of(InitializationHint.class, InitializationHints.class);
-    }
+    /**
+     * Type initialized by static initializer of build time type
+     */
+    static final class Dependency {
 
-    @Override
-    public List<Option> getOptions(RoundEnvironment roundEnv, ProcessingEnvironment processingEnv) {
-        final Set<TypeElement> elements = HintUtils.getAnnotatedElements(roundEnv,
-                InitializationHint.class, InitializationHints.class);
-        if (elements.isEmpty()) {
-            return Collections.emptyList();
-        }
+        private final List<String> chain;
 
-        final Map<HintOrigin, List<Initialization>> inits = new HashMap<>();
-        for (TypeElement element : elements) {
-            final List<Initialization> initializations;
+        /**
+         * @param chain of types from build time type to dependency through which it is initialized
+         */
+        Dependency(List<String> chain) {
+            this.chain = List.copyOf(chain);
+        }
 
-            final InitializationHints hints = element.getAnnotation(InitializationHints.class);
-            if (hints == null) {
-                final InitializationHint hint = element.getAnnotation(InitializationHint.class);
-                initializations = getAnnotationPhases(element, hint);
-            } else {
-                initializations = getParentAnnotationPhases(element, InitializationHint.class, InitializationHints.class);
-            }
+        String getClassName() {
+            return chain.get(chain.size() - 1);
+        }
 
-            final HintOrigin origin = HintUtils.getHintOrigin(element, processingEnv);
-            final List<Initialization> value = inits.computeIfAbsent(origin, k -> new ArrayList<>());
-            value.addAll(initializations);
+        List<String> getChain() {
+            return chain;
         }
+    }
+
+    @Override
+    public List<Class<? extends Annotation>> getSupportedAnnotations() {
+        return List.of(InitializationHint.class, InitializationHints.class);
+    }
 
-        return inits.entrySet().stream()
-                .map(e -> {
-                    final Map<InitPhase, List<Initialization>> grouped = e.getValue().stream()
+    /**
+     * Discovery that found no safe types produces empty option, so it is not reported as hint without
+     * options, as discovered types depend on what was compiled
+     */
+    @Override
+    public List<Option> getOptions(List<HintModel> models, HintFiler filer) {
+        verifyDependencies(models);
+        return models.stream()
+                .filter(m -> !m.getInitializations().isEmpty() || m.getAnnotations().contains(InitializationHint.class))
+                .map(m -> {
+                    final Map<InitPhase, List<Initialization>> grouped = m.getInitializations().stream()
                             .collect(Collectors.groupingBy(i -> i.phase));
                     final List<String> options = grouped.entrySet().stream()
                             .map(entry -> entry.getValue().stream()
@@ -97,39 +110,60 @@ public List<Option> getOptions(RoundEnvironment roundEnv, ProcessingEnvironment
                                     .collect(Collectors.joining(",", getInitializationArgumentName(entry.getKey()), "")))
                             .sorted()
                             .collect(Collectors.toList());
+                    if (!m.getInitializationTraces().isEmpty()) {
+                        options.add(m.getInitializationTraces().stream()
+                                .sorted()
+                                .collect(Collectors.joining(",", TRACE_INITIALIZATION, "")));
+                    }
 
-                    return new Option(e.getKey(), options);
+                    return new Option(m.getOrigin(), options);
                 })
                 .collect(Collectors.toList());
     }
 
-    private static List<Initialization> getAnnotationPhases(TypeElement element,
-                                                            InitializationHint hint) {
-        final InitializationHint.InitPhase phase = hint.value();
-        final List<String> typeNames = Arrays.asList(hint.typeNames());
-        final List<String> types = HintUtils.getAnnotationFieldClassNames(element, InitializationHint.class, "types");
-        if (types.isEmpty() && typeNames.isEmpty()) {
-            final String selfName = HintUtils.getElementClassName(element);
-            return List.of(new Initialization(selfName, phase));
+    /**
+     * Types initialized at build time by static initializers of build time types can't be initialized at
+     * runtime, types and packages initialized at runtime are checked across all origins
+     */
+    private static void verifyDependencies(List<HintModel> models) {
+        final Set<String> buildTime = new HashSet<>();
+        final Set<String> runtime = new TreeSet<>();
+        for (HintModel model : models) {
+            for (Initialization initialization : model.getInitializations()) {
+                if (initialization.getPhase() == InitPhase.BUILD) {
+                    buildTime.add(initialization.getClassName());
+                } else {
+                    runtime.add(initialization.getClassName());
+                }
+            }
         }
 
-        return Stream.concat(types.stream(), typeNames.stream())
-                .map(t -> new Initialization(t, phase))
-                .collect(Collectors.toList());
+        for (HintModel model : models) {
+            for (Dependency dependency : model.getInitializationDependencies()) {
+                final String className = dependency.getClassName();
+                final Optional<String> conflict = runtime.stream()
+                        .filter(r -> className.equals(r) || (className.startsWith(r + ".") && !buildTime.contains(className)))
+                        .findFirst();
+                if (conflict.isPresent()) {
+                    final TypeElement element = model.getOriginatingElements().stream().findFirst().orElse(null);
+                    throw new HintException(className + " is initialized at build time by static initializer of "
+                            + dependency.getChain().get(0) + " (" + String.join(" -> ", dependency.getChain())
+                            + "), but @" + InitializationHint.class.getSimpleName() + " initializes " + conflict.get()
+                            + " at " + InitPhase.RUNTIME + " phase", element);
+                }
+            }
+        }
     }
 
-    private static List<Initialization> getParentAnnotationPhases(TypeElement type,
-                                                                  Class<? extends Annotation> annotation,
-                                                                  Class<? extends Annotation> parentAnnotation) {
-        final String annotationName = annotation.getSimpleName();
-        final String annotationParent = parentAnnotation.getSimpleName();
-        return type.getAnnotationMirrors().stream()
-                .filter(pa -> pa.getAnnotationType().asElement().getSimpleName().contentEquals(annotationParent))
-                .flatMap(pa -> pa.getElementValues().entrySet().stream())
-                .flatMap(e -> ((List<?>) e.getValue().getValue()).stream().map(AnnotationMirror.class::cast))
-                .filter(a -> (a.getAnnotationType().asElement().getSimpleName().contentEquals(annotationName)))
+    /**
+     * Hint without types is self initialization hint only if it is the only hint on type
+     */
+    static List<Initialization> getAnnotationInitializations(TypeElement type,
+                                                             List<AnnotationMirror> annotations,
+                                                             HintCache cache) {
+        return annotations.stream()
                 .flatMap(a -> {
-                    final List<String> types = HintUtils.getAnnotationFieldValues(a, "types");
+                    final List<String> types = HintUtils.getAnnotationFieldClassNames(a, "types", cache);
                     final List<String> typeNames = HintUtils.getAnnotationFieldValues(a, "typeNames");
                     final InitializationHint.InitPhase phase = HintUtils
                             .getAnnotationFieldValues(a, "value")
@@ -138,13 +172,38 @@ private static List<Initialization> getParentAnnotationPhases(TypeElement type,
                             .findFirst()
                             .orElse(InitPhase.BUILD);
 
-                    return (types.isEmpty() && typeNames.isEmpty())
-                            ? Stream.empty()
-                            : Stream.concat(types.stream(), typeNames.stream()).map(t -> new Initialization(t, phase));
+                    if (types.isEmpty() && typeNames.isEmpty()) {
+                        return (annotations.size() == 1 && !isDiscover(a))
+                                ? Stream.of(new Initialization(cache.getTypeName(type), phase))
+                                : Stream.empty();
+                    }
+
+                    return Stream.concat(types.stream(), typeNames.stream()).map(t -> new Initialization(t, phase));
                 })
                 .collect(Collectors.toList());
     }
 
+    /**
+     * @return true if any hint discovers types safe to initialize at build time
+     */
+    static boolean isAnnotationDiscover(TypeElement element, List<AnnotationMirror> annotations) {
+        for (AnnotationMirror annotation : annotations) {
+            if (isDiscover(annotation)) {
+                if (HintUtils.getAnnotationFieldValues(annotation, "value").contains(InitPhase.RUNTIME.name())) {
+                    throw new HintException(element.getQualifiedName().toString() + " is annotated with @"
+                            + InitializationHint.class.getSimpleName() + " that discovers types, but only "
+                            + InitPhase.BUILD + " phase can be discovered", element);
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isDiscover(AnnotationMirror annotation) {
+        return HintUtils.getAnnotationFieldValues(annotation, "discover").contains(Boolean.TRUE.toString());
+    }
+
     private String getInitializationArgumentName(InitPhase phase) {
         return (InitPhase.BUILD.equals(phase))
                 ? INIT_BUILD_TIME
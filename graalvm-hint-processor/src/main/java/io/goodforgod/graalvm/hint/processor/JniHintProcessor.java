@@ -34,53 +34,31 @@ protected String getFileName() {
     }
 
     @Override
-    protected List<Access> getAccessForElement(TypeElement element) {
-        final JniHints hints = element.getAnnotation(JniHints.class);
-        if (hints == null) {
-            final JniHint hint = element.getAnnotation(JniHint.class);
-            return getAnnotationAccesses(element, hint);
-        } else {
-            return getParentAnnotationAccesses(element, JniHint.class, JniHints.class);
-        }
+    protected String getMetadataSection() {
+        return ReachabilityMetadata.JNI;
     }
 
-    private static List<Access> getAnnotationAccesses(TypeElement element,
-                                                      JniHint hint) {
-        final ReflectionHint.AccessType[] accessTypes = convert(hint.value());
-        final List<String> typeNames = Arrays.asList(hint.typeNames());
-        final List<String> types = HintUtils.getAnnotationFieldClassNames(element, JniHint.class, "types");
-        if (types.isEmpty() && typeNames.isEmpty()) {
-            final String selfName = HintUtils.getElementClassName(element);
-            return List.of(new Access(selfName, accessTypes));
-        }
-
-        return Stream.concat(types.stream(), typeNames.stream())
-                .map(t -> new Access(t, accessTypes))
-                .collect(Collectors.toList());
+    @Override
+    protected Set<Access> getAccesses(HintModel model) {
+        return model.getJniAccesses();
     }
 
-    private static List<Access> getParentAnnotationAccesses(TypeElement type,
-                                                            Class<? extends Annotation> annotation,
-                                                            Class<? extends Annotation> parentAnnotation) {
-        final String annotationName = annotation.getSimpleName();
-        final String annotationParent = parentAnnotation.getSimpleName();
-        return type.getAnnotationMirrors().stream()
-                .filter(pa -> pa.getAnnotationType().asElement().getSimpleName().contentEquals(annotationParent))
-                .flatMap(pa -> pa.getElementValues().entrySet().stream())
-                .flatMap(e -> ((List<?>) e.getValue().getValue()).stream().map(AnnotationMirror.class::cast))
-                .filter(a -> (a.getAnnotationType().asElement().getSimpleName().contentEquals(annotationName)))
+    static List<Access> getAnnotationAccesses(TypeElement type, List<AnnotationMirror> annotations, HintCache cache) {
+        return annotations.stream()
                 .flatMap(a -> {
-                    final List<String> types = HintUtils.getAnnotationFieldValues(a, "types");
-                    final List<String> typeNames = HintUtils.getAnnotationFieldValues(a, "typeNames");
+                    final List<String> types = HintUtils.getAnnotationFieldClassNames(a, "types", cache);
+                    final List<String> typeNames = HintUtils.getAnnotationFieldClassNames(a, "typeNames", cache);
                     final ReflectionHint.AccessType[] accessTypes = convert(HintUtils
                             .getAnnotationFieldValuesOrDefault(a, "value", List.of(JniHint.AccessType.ALL_DECLARED.name()))
                             .stream()
                             .map(JniHint.AccessType::valueOf)
                             .toArray(JniHint.AccessType[]::new));
+                    final String condition = cache.getCondition(a, type);
 
-                    return (types.isEmpty() && typeNames.isEmpty())
-                            ? Stream.of(new Access(HintUtils.getElementClassName(type), accessTypes))
-                            : Stream.concat(types.stream(), typeNames.stream()).map(t -> new Access(t, accessTypes));
+                    final Stream<String> typesToAccess = (types.isEmpty() && typeNames.isEmpty())
+                            ? Stream.of(cache.getTypeName(type))
+                            : Stream.concat(types.stream(), typeNames.stream());
+                    return typesToAccess.map(t -> new Access(t, accessTypes, List.of(), List.of(), condition));
                 })
                 .collect(Collectors.toList());
     }
@@ -0,0 +1,196 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+
+/**
+ * Streaming JSON writer that writes straight into {@link Writer} without building intermediate
+ * strings, escapes strings according to RFC 8259.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+final class JsonWriter {
+
+    /**
+     * Condition of legacy config files
+     */
+    static final String TYPE_REACHABLE = "typeReachable";
+    /**
+     * Condition of {@link ReachabilityMetadata}
+     */
+    static final String TYPE_REACHED = "typeReached";
+
+    private static final String INDENT = "  ";
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final Writer writer;
+    private final boolean pretty;
+
+    /**
+     * Whenever object or array at each depth already has elements
+     */
+    private boolean[] nonEmpty = new boolean[8];
+    private int depth = 0;
+    private boolean afterName = false;
+
+    JsonWriter(Writer writer, boolean pretty) {
+        this.writer = writer;
+        this.pretty = pretty;
+    }
+
+    JsonWriter beginObject() throws IOException {
+        return begin('{');
+    }
+
+    JsonWriter endObject() throws IOException {
+        return end('}');
+    }
+
+    JsonWriter beginArray() throws IOException {
+        return begin('[');
+    }
+
+    JsonWriter endArray() throws IOException {
+        return end(']');
+    }
+
+    JsonWriter name(String name) throws IOException {
+        separate();
+        string(name);
+        writer.write(pretty ? ": " : ":");
+        afterName = true;
+        return this;
+    }
+
+    JsonWriter value(String value) throws IOException {
+        separate();
+        string(value);
+        return this;
+    }
+
+    JsonWriter value(boolean value) throws IOException {
+        separate();
+        writer.write(value ? "true" : "false");
+        return this;
+    }
+
+    JsonWriter value(int value) throws IOException {
+        separate();
+        writer.write(Integer.toString(value));
+        return this;
+    }
+
+    /**
+     * @param name   of field
+     * @param values to write as array of strings
+     * @return self
+     */
+    JsonWriter array(String name, Iterable<String> values) throws IOException {
+        name(name).beginArray();
+        for (String value : values) {
+            value(value);
+        }
+        return endArray();
+    }
+
+    /**
+     * @param condition {@link #TYPE_REACHABLE} or {@link #TYPE_REACHED}
+     * @param typeName  type that registration is conditional on, nothing is written if null
+     * @return self
+     */
+    JsonWriter condition(String condition, String typeName) throws IOException {
+        return (typeName == null)
+                ? this
+                : name("condition").beginObject().name(condition).value(typeName).endObject();
+    }
+
+    private JsonWriter begin(char bracket) throws IOException {
+        separate();
+        writer.write(bracket);
+        if (++depth == nonEmpty.length) {
+            nonEmpty = Arrays.copyOf(nonEmpty, nonEmpty.length * 2);
+        }
+        nonEmpty[depth] = false;
+        return this;
+    }
+
+    private JsonWriter end(char bracket) throws IOException {
+        final boolean hadElements = nonEmpty[depth];
+        depth--;
+        if (hadElements) {
+            newLine();
+        }
+        writer.write(bracket);
+        return this;
+    }
+
+    private void separate() throws IOException {
+        if (afterName) {
+            afterName = false;
+            return;
+        }
+
+        if (depth > 0) {
+            if (nonEmpty[depth]) {
+                writer.write(',');
+            }
+            nonEmpty[depth] = true;
+            newLine();
+        }
+    }
+
+    private void newLine() throws IOException {
+        if (pretty) {
+            writer.write('\n');
+            for (int i = 0; i < depth; i++) {
+                writer.write(INDENT);
+            }
+        }
+    }
+
+    private void string(String value) throws IOException {
+        writer.write('"');
+        int last = 0;
+        final int length = value.length();
+        for (int i = 0; i < length; i++) {
+            final char c = value.charAt(i);
+            final String escaped = getEscaped(c);
+            if (escaped != null || c < 0x20) {
+                writer.write(value, last, i - last);
+                if (escaped != null) {
+                    writer.write(escaped);
+                } else {
+                    writer.write("\\u00");
+                    writer.write(HEX[c >> 4]);
+                    writer.write(HEX[c & 0xF]);
+                }
+                last = i + 1;
+            }
+        }
+        writer.write(value, last, length - last);
+        writer.write('"');
+    }
+
+    private static String getEscaped(char c) {
+        switch (c) {
+            case '"':
+                return "\\\"";
+            case '\\':
+                return "\\\\";
+            case '\n':
+                return "\\n";
+            case '\r':
+                return "\\r";
+            case '\t':
+                return "\\t";
+            case '\b':
+                return "\\b";
+            case '\f':
+                return "\\f";
+            default:
+                return null;
+        }
+    }
+}
@@ -5,8 +5,7 @@
 import java.util.*;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import javax.annotation.processing.ProcessingEnvironment;
-import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.element.AnnotationMirror;
 import javax.lang.model.element.TypeElement;
 
 /**
@@ -27,54 +26,45 @@ public List<Class<? extends Annotation>> getSupportedAnnotations() {
     }
 
     @Override
-    public List<Option> getOptions(RoundEnvironment roundEnv, ProcessingEnvironment processingEnv) {
-        final Set<TypeElement> elements = HintUtils.getAnnotatedElements(roundEnv, LinkHint.class);
-        if (elements.isEmpty()) {
-            return Collections.emptyList();
-        }
-
-        final Optional<TypeElement> linkAll = elements.stream()
-                .filter(e -> e.getAnnotation(LinkHint.class).all())
+    public List<Option> getOptions(List<HintModel> models, HintFiler filer) {
+        final Optional<HintModel> linkAll = models.stream()
+                .filter(HintModel::isLinkAll)
                 .findFirst();
         if (linkAll.isPresent()) {
-            final HintOrigin hintOrigin = HintUtils.getHintOrigin(linkAll.get(), processingEnv);
+            final HintOrigin hintOrigin = linkAll.get().getOrigin();
             return List.of(new Option(hintOrigin, List.of(LINK_BUILD_TIME)));
         }
 
-        final Map<HintOrigin, List<String>> links = new HashMap<>();
-        for (TypeElement element : elements) {
-            final LinkHint hint = element.getAnnotation(LinkHint.class);
-            final List<String> hintTypes = getTypes(element, hint).collect(Collectors.toList());
-
-            if (!hintTypes.isEmpty()) {
-                final HintOrigin origin = HintUtils.getHintOrigin(element, processingEnv);
-                final List<String> options = links.computeIfAbsent(origin, k -> new ArrayList<>());
-                options.addAll(hintTypes);
-            }
-        }
-
-        return links.entrySet().stream()
-                .map(e -> {
-                    final String linkOption = e.getValue().stream()
+        return models.stream()
+                .filter(m -> !m.getLinks().isEmpty())
+                .map(m -> {
+                    final String linkOption = m.getLinks().stream()
                             .distinct()
                             .collect(Collectors.joining(",", LINK_BUILD_TIME + "=", ""));
 
-                    return new Option(e.getKey(), List.of(linkOption));
+                    return new Option(m.getOrigin(), List.of(linkOption));
                 })
                 .collect(Collectors.toList());
     }
 
-    private Stream<String> getTypes(TypeElement element, LinkHint hint) {
-        final List<String> types = HintUtils.getAnnotationFieldClassNames(element, LinkHint.class, "types");
-        final List<String> typeNames = Arrays.asList(hint.typeNames());
+    static boolean isAnnotationLinkAll(List<AnnotationMirror> annotations) {
+        return annotations.stream()
+                .anyMatch(a -> HintUtils.getAnnotationFieldValues(a, "all").contains(Boolean.TRUE.toString()));
+    }
+
+    static List<String> getAnnotationLinks(TypeElement element, List<AnnotationMirror> annotations, HintCache cache) {
+        return annotations.stream()
+                .flatMap(a -> getTypes(element, a, cache))
+                .collect(Collectors.toList());
+    }
+
+    private static Stream<String> getTypes(TypeElement element, AnnotationMirror annotation, HintCache cache) {
+        final List<String> types = HintUtils.getAnnotationFieldClassNames(annotation, "types", cache);
+        final List<String> typeNames = HintUtils.getAnnotationFieldValues(annotation, "typeNames");
         if (types.isEmpty() && typeNames.isEmpty()) {
-            return Stream.of(HintUtils.getElementClassName(element));
+            return Stream.of(cache.getTypeName(element));
         } else {
-            final Stream<String> typeStream = types.stream().map(c -> c.endsWith(".class")
-                    ? c.substring(0, c.length() - 6)
-                    : c);
-
-            return Stream.concat(typeStream, typeNames.stream());
+            return Stream.concat(types.stream(), typeNames.stream());
         }
     }
 }
@@ -0,0 +1,124 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import io.goodforgod.graalvm.hint.annotation.LocaleHint;
+import java.lang.annotation.Annotation;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.stream.Collectors;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.TypeElement;
+
+/**
+ * Processes {@link LocaleHint} annotations for native-image.properties file
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @see LocaleHint
+ * @since 18.10.2026
+ */
+final class LocaleHintParser implements OptionParser {
+
+    private static final String INCLUDE_LOCALES = "-H:IncludeLocales=";
+    private static final String DEFAULT_LOCALE = "-H:DefaultLocale=";
+    private static final String ADD_ALL_CHARSETS = "-H:+AddAllCharsets";
+
+    /**
+     * Charsets that native image includes without {@link #ADD_ALL_CHARSETS}
+     */
+    private static final Set<String> DEFAULT_CHARSETS = Set.of(
+            StandardCharsets.US_ASCII.name(),
+            StandardCharsets.ISO_8859_1.name(),
+            StandardCharsets.UTF_8.name(),
+            StandardCharsets.UTF_16.name(),
+            StandardCharsets.UTF_16BE.name(),
+            StandardCharsets.UTF_16LE.name());
+
+    @Override
+    public List<Class<? extends Annotation>> getSupportedAnnotations() {
+        return List.of(LocaleHint.class);
+    }
+
+    @Override
+    public List<Option> getOptions(List<HintModel> models, HintFiler filer) {
+        final Set<String> defaultLocales = new TreeSet<>();
+        models.forEach(m -> defaultLocales.addAll(m.getDefaultLocales()));
+        if (defaultLocales.size() > 1) {
+            final TypeElement element = models.stream()
+                    .filter(m -> !m.getDefaultLocales().isEmpty())
+                    .flatMap(m -> m.getOriginatingElements().stream())
+                    .findFirst()
+                    .orElse(null);
+            throw new HintException("@" + LocaleHint.class.getSimpleName() + " specifies conflicting default locales "
+                    + defaultLocales + ", only one default locale can be used by native image", element);
+        }
+
+        return models.stream()
+                .filter(m -> !m.getLocales().isEmpty() || !m.getDefaultLocales().isEmpty() || !m.getCharsets().isEmpty())
+                .map(m -> {
+                    final List<String> options = new ArrayList<>();
+                    if (!m.getLocales().isEmpty()) {
+                        options.add(m.getLocales().stream()
+                                .sorted()
+                                .collect(Collectors.joining(",", INCLUDE_LOCALES, "")));
+                    }
+                    m.getDefaultLocales().forEach(l -> options.add(DEFAULT_LOCALE + l));
+                    if (m.getCharsets().stream().anyMatch(c -> !DEFAULT_CHARSETS.contains(c))) {
+                        options.add(ADD_ALL_CHARSETS);
+                    }
+
+                    return new Option(m.getOrigin(), options);
+                })
+                .collect(Collectors.toList());
+    }
+
+    static List<String> getAnnotationLocales(TypeElement element, List<AnnotationMirror> annotations) {
+        return annotations.stream()
+                .flatMap(a -> HintUtils.getAnnotationFieldValues(a, "value").stream())
+                .map(l -> getLocale(element, l, "value"))
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    static List<String> getAnnotationDefaultLocales(TypeElement element, List<AnnotationMirror> annotations) {
+        return annotations.stream()
+                .flatMap(a -> HintUtils.getAnnotationFieldValues(a, "defaultLocale").stream())
+                .filter(l -> !l.isEmpty())
+                .map(l -> getLocale(element, l, "defaultLocale"))
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * @return canonical names of charsets
+     */
+    static List<String> getAnnotationCharsets(TypeElement element, List<AnnotationMirror> annotations) {
+        return annotations.stream()
+                .flatMap(a -> HintUtils.getAnnotationFieldValues(a, "charsets").stream())
+                .map(c -> {
+                    try {
+                        return Charset.forName(c).name();
+                    } catch (IllegalArgumentException e) {
+                        throw new HintException(element.getQualifiedName().toString() + " is annotated with @"
+                                + LocaleHint.class.getSimpleName() + " with unknown charset: " + c, element);
+                    }
+                })
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * @param locale    IETF BCP 47 language tag, {@code _} separators are accepted as well
+     * @param attribute of annotation that locale is specified in
+     * @return normalized language tag
+     */
+    static String getLocale(TypeElement element, String locale, String attribute) {
+        final String tag = locale.trim().replace('_', '-');
+        final Locale parsed = Locale.forLanguageTag(tag);
+        if (parsed.getLanguage().length() < 2 || parsed.getLanguage().length() > 3
+                || !parsed.toLanguageTag().equalsIgnoreCase(tag)) {
+            throw new HintException(element.getQualifiedName().toString() + " is annotated with invalid locale '" + locale
+                    + "' in '" + attribute + "', expected IETF BCP 47 language tag like 'en' or 'de-DE'", element);
+        }
+        return parsed.toLanguageTag();
+    }
+}
@@ -5,12 +5,8 @@
 import java.lang.annotation.Annotation;
 import java.util.*;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
-import javax.annotation.processing.ProcessingEnvironment;
-import javax.annotation.processing.RoundEnvironment;
-import javax.lang.model.element.Element;
+import javax.lang.model.element.AnnotationMirror;
 import javax.lang.model.element.TypeElement;
-import javax.lang.model.util.ElementFilter;
 
 /**
  * Processes {@link NativeImageHint} annotations for native-image.properties file
@@ -22,22 +18,26 @@
  */
 final class NativeImageHintParser implements OptionParser {
 
-    private static final String ENTRY_POINT_DEFAULT_VALUE = Void.class.getSimpleName();
+    private static final String ENTRY_POINT_DEFAULT_VALUE = Void.class.getName();
 
-    private static class Entrypoint {
+    static final class Entrypoint {
 
         private final String className;
+        private final String appName;
         private final TypeElement source;
-        private final HintOrigin origin;
 
-        private Entrypoint(String className, TypeElement source, HintOrigin origin) {
+        Entrypoint(String className, String appName, TypeElement source) {
             this.className = className;
+            this.appName = appName;
             this.source = source;
-            this.origin = origin;
         }
 
-        NativeImageHint hint() {
-            return source.getAnnotation(NativeImageHint.class);
+        String getClassName() {
+            return className;
+        }
+
+        String getAppName() {
+            return appName;
         }
 
         @Override
@@ -52,52 +52,59 @@ public List<Class<? extends Annotation>> getSupportedAnnotations() {
     }
 
     @Override
-    public List<Option> getOptions(RoundEnvironment roundEnv, ProcessingEnvironment processingEnv) {
-        final Set<? extends Element> annotatedNative = roundEnv.getElementsAnnotatedWith(NativeImageHint.class);
-        final Set<TypeElement> elements = ElementFilter.typesIn(annotatedNative);
-        if (elements.isEmpty()) {
-            return Collections.emptyList();
-        }
-
-        final List<Entrypoint> entrypoints = elements.stream()
-                .map(element -> HintUtils.getAnnotationFieldClassNameAny(element, NativeImageHint.class, "entrypoint")
-                        .filter(name -> !ENTRY_POINT_DEFAULT_VALUE.equals(name))
-                        .map(name -> new Entrypoint(name, element, HintUtils.getHintOrigin(element, processingEnv)))
-                        .orElse(null))
-                .filter(Objects::nonNull)
+    public List<Option> getOptions(List<HintModel> models, HintFiler filer) {
+        final List<Entrypoint> entrypoints = models.stream()
+                .flatMap(m -> m.getEntrypoints().stream())
                 .collect(Collectors.toList());
 
         if (entrypoints.size() > 1) {
             throw new HintException("@NativeImageHint multiple entrypoint detected: " + entrypoints, entrypoints.get(1).source);
         }
 
-        final Map<HintOrigin, List<String>> options = new HashMap<>();
-        entrypoints.stream().findFirst().ifPresent(entrypoint -> {
-            final List<String> entryOptions = getEntrypointOptions(entrypoint);
-            options.put(entrypoint.origin, new ArrayList<>(entryOptions));
-        });
-
-        for (TypeElement element : elements) {
-            final NativeImageHint hint = element.getAnnotation(NativeImageHint.class);
-            final List<String> hintOptions = Stream
-                    .concat(Arrays.stream(hint.options()).map(NativeImageOptions::option), Arrays.stream(hint.optionNames()))
-                    .distinct()
-                    .collect(Collectors.toList());
-
-            if (!hintOptions.isEmpty()) {
-                final HintOrigin origin = HintUtils.getHintOrigin(element, processingEnv);
-                final List<String> resultOptions = options.computeIfAbsent(origin, k -> new ArrayList<>());
-                resultOptions.addAll(hintOptions);
+        final List<Option> options = new ArrayList<>();
+        for (HintModel model : models) {
+            final List<String> modelOptions = new ArrayList<>();
+            model.getEntrypoints().forEach(entrypoint -> modelOptions.addAll(getEntrypointOptions(entrypoint)));
+            modelOptions.addAll(model.getOptions());
+            if (!modelOptions.isEmpty()) {
+                options.add(new Option(model.getOrigin(), modelOptions));
             }
         }
 
-        return options.entrySet().stream()
-                .map(e -> new Option(e.getKey(), e.getValue()))
+        return options;
+    }
+
+    static Optional<Entrypoint> getAnnotationEntrypoint(TypeElement element,
+                                                        List<AnnotationMirror> annotations,
+                                                        HintCache cache) {
+        return annotations.stream()
+                .flatMap(a -> HintUtils.getAnnotationFieldClassNames(a, "entrypoint", cache).stream()
+                        .filter(name -> !ENTRY_POINT_DEFAULT_VALUE.equals(name))
+                        .map(name -> {
+                            final String appName = HintUtils.getAnnotationFieldValues(a, "name").stream()
+                                    .findFirst()
+                                    .orElse("");
+                            return new Entrypoint(name, appName, element);
+                        }))
+                .findFirst();
+    }
+
+    static List<String> getAnnotationOptions(List<AnnotationMirror> annotations) {
+        return annotations.stream()
+                .flatMap(a -> {
+                    final List<String> options = HintUtils.getAnnotationFieldValues(a, "options").stream()
+                            .map(option -> NativeImageOptions.valueOf(option).option())
+                            .collect(Collectors.toList());
+                    final List<String> optionNames = HintUtils.getAnnotationFieldValues(a, "optionNames");
+                    options.addAll(optionNames);
+                    return options.stream();
+                })
+                .distinct()
                 .collect(Collectors.toList());
     }
 
     private List<String> getEntrypointOptions(Entrypoint entrypoint) {
-        final String appName = entrypoint.hint().name();
+        final String appName = entrypoint.appName;
         return (appName.isBlank())
                 ? List.of("-H:Class=" + entrypoint.className)
                 : List.of("-H:Class=" + entrypoint.className + " -H:Name=" + appName);
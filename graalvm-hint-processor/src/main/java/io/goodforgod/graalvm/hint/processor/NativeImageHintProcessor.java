@@ -3,12 +3,16 @@
 import io.goodforgod.graalvm.hint.annotation.DynamicProxyHint;
 import io.goodforgod.graalvm.hint.annotation.InitializationHint;
 import io.goodforgod.graalvm.hint.annotation.LinkHint;
+import io.goodforgod.graalvm.hint.annotation.LocaleHint;
 import io.goodforgod.graalvm.hint.annotation.NativeImageHint;
 import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
-import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.ProcessingEnvironment;
 import javax.lang.model.element.TypeElement;
 import javax.tools.Diagnostic;
 
@@ -20,6 +24,7 @@
  * @see NativeImageHint
  * @see InitializationHint
  * @see LinkHint
+ * @see LocaleHint
  * @since 30.09.2021
  */
 public final class NativeImageHintProcessor extends AbstractHintProcessor {
@@ -31,7 +36,25 @@ public final class NativeImageHintProcessor extends AbstractHintProcessor {
             new NativeImageHintParser(),
             new InitializationHintParser(),
             new LinkHintParser(),
-            new DynamicProxyHintParser());
+            new DynamicProxyHintParser(),
+            new LocaleHintParser());
+
+    private final Map<OptionParser, HintStatistics> parserStatistics = new LinkedHashMap<>();
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        for (OptionParser parser : OPTION_PARSERS) {
+            parserStatistics.put(parser, new HintStatistics(parser.getClass().getSimpleName(), options.isStatistics()));
+        }
+    }
+
+    @Override
+    protected List<HintStatistics> getStatistics() {
+        final List<HintStatistics> statistics = new ArrayList<>(super.getStatistics());
+        statistics.addAll(parserStatistics.values());
+        return statistics;
+    }
 
     @Override
     protected Set<Class<? extends Annotation>> getSupportedAnnotations() {
@@ -41,55 +64,66 @@ protected Set<Class<? extends Annotation>> getSupportedAnnotations() {
     }
 
     @Override
-    public boolean process(Set<? extends TypeElement> annotatedElements, RoundEnvironment roundEnv) {
-        if (annotatedElements.isEmpty()) {
+    protected boolean writeHints(List<HintModel> models) {
+        final Set<Class<? extends Annotation>> supportedAnnotations = getSupportedAnnotations();
+        final List<HintModel> optionModels = models.stream()
+                .filter(m -> m.getAnnotations().stream().anyMatch(supportedAnnotations::contains))
+                .collect(Collectors.toList());
+        if (optionModels.isEmpty()) {
+            return true;
+        }
+
+        final Map<HintOrigin, HintModel> originModels = optionModels.stream()
+                .collect(Collectors.toMap(HintModel::getOrigin, m -> m));
+
+        final List<Option> parsedOptions = new ArrayList<>();
+        for (OptionParser parser : OPTION_PARSERS) {
+            final HintStatistics statistics = parserStatistics.get(parser);
+            final HintEvent event = statistics.start(HintEvent.OPTIONS);
+            final long bytes = filer.getBytesWritten();
+            final List<Option> parserOptions = parser.getOptions(optionModels, filer);
+            statistics.addEntries(parserOptions.stream().mapToInt(o -> o.getOptions().size()).sum());
+            statistics.end(event, round, optionModels.size(), filer.getBytesWritten() - bytes);
+            parsedOptions.addAll(parserOptions);
+        }
+
+        final List<Option> originOptions = parsedOptions.stream()
+                .collect(Collectors.groupingBy(Option::getOrigin, LinkedHashMap::new, Collectors.toList()))
+                .entrySet().stream()
+                .map(e -> {
+                    final List<String> mergedOptions = e.getValue().stream()
+                            .flatMap(v -> v.getOptions().stream())
+                            .distinct()
+                            .collect(Collectors.toList());
+                    return new Option(e.getKey(), mergedOptions);
+                })
+                .filter(o -> !o.getOptions().isEmpty())
+                .collect(Collectors.toList());
+
+        if (parsedOptions.isEmpty()) {
+            final String annotations = optionModels.stream()
+                    .flatMap(m -> m.getAnnotations().stream())
+                    .filter(supportedAnnotations::contains)
+                    .map(Class::getSimpleName)
+                    .distinct()
+                    .collect(Collectors.joining(","));
+
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    annotations + " are present but no options retrieved");
             return false;
         }
 
-        try {
-            final List<Option> options = OPTION_PARSERS.stream()
-                    .flatMap(parser -> parser.getOptions(roundEnv, processingEnv).stream())
-                    .collect(Collectors.groupingBy(Option::getOrigin))
-                    .entrySet().stream()
-                    .map(e -> {
-                        final List<String> mergedOptions = e.getValue().stream()
-                                .flatMap(v -> v.getOptions().stream())
-                                .distinct()
-                                .collect(Collectors.toList());
-                        return new Option(e.getKey(), mergedOptions);
-                    })
-                    .collect(Collectors.toList());
-
-            if (options.isEmpty()) {
-                final String annotations = OPTION_PARSERS.stream()
-                        .flatMap(parser -> parser.getSupportedAnnotations().stream()
-                                .filter(a -> !roundEnv.getElementsAnnotatedWith(a).isEmpty()))
-                        .map(Class::getSimpleName)
-                        .collect(Collectors.joining(","));
-
-                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
-                        annotations + " are present but no options retrieved");
+        for (Option option : originOptions) {
+            final HintContent content = writer -> writer.write(option.getOptions().stream()
+                    .collect(Collectors.joining(ARG_SEPARATOR, "Args = ", "")));
+
+            final HintFile file = option.getOrigin().getFileWithRelativePath(FILE_NAME);
+            final Set<TypeElement> originating = originModels.get(option.getOrigin()).getOriginatingElements();
+            if (!filer.write(file, content, originating)) {
                 return false;
-            } else {
-                for (Option option : options) {
-                    final String nativeImageProperties = option.getOptions().stream()
-                            .collect(Collectors.joining(ARG_SEPARATOR, "Args = ", ""));
-
-                    final HintFile file = option.getOrigin().getFileWithRelativePath(FILE_NAME);
-                    if (!HintUtils.writeConfigFile(file, nativeImageProperties, processingEnv)) {
-                        return false;
-                    }
-                }
-
-                return true;
             }
-        } catch (HintException e) {
-            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage(), e.getElement());
-            return false;
-        } catch (Exception e) {
-            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, e.getMessage());
-            e.printStackTrace();
-            return false;
         }
+
+        return true;
     }
 }
@@ -3,8 +3,6 @@
 import io.goodforgod.graalvm.hint.annotation.NativeImageHint;
 import java.lang.annotation.Annotation;
 import java.util.List;
-import javax.annotation.processing.ProcessingEnvironment;
-import javax.annotation.processing.RoundEnvironment;
 
 /**
  * Hint parser that produces options for {@link NativeImageHint#optionNames()}
@@ -20,9 +18,9 @@ interface OptionParser {
     List<Class<? extends Annotation>> getSupportedAnnotations();
 
     /**
-     * @param roundEnv      parser invoked in
-     * @param processingEnv parser invoked in
+     * @param models hints collected across all rounds
+     * @param filer  to write additional hint files with
      * @return list of {@link NativeImageHint#optionNames()} to include
      */
-    List<Option> getOptions(RoundEnvironment roundEnv, ProcessingEnvironment processingEnv);
+    List<Option> getOptions(List<HintModel> models, HintFiler filer);
 }
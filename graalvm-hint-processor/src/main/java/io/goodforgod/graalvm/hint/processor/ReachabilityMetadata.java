@@ -0,0 +1,128 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import java.io.IOException;
+import java.util.*;
+import javax.lang.model.element.TypeElement;
+
+/**
+ * Hints of single {@link HintOrigin} in unified reachability-metadata.json format, each processor
+ * adds entries of its hints into sections and {@link HintFiler} writes them as single file.
+ *
+ * @see <a href="https://www.graalvm.org/latest/reference-manual/native-image/metadata/">GraalVM Info</a>
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+final class ReachabilityMetadata {
+
+    static final String FILE_NAME = "reachability-metadata.json";
+
+    static final String REFLECTION = "reflection";
+    static final String JNI = "jni";
+    static final String RESOURCES = "resources";
+    static final String BUNDLES = "bundles";
+    static final String SERIALIZATION = "serialization";
+    static final String FOREIGN = "foreign";
+
+    static final String DOWNCALLS = "downcalls";
+    static final String UPCALLS = "upcalls";
+
+    /**
+     * Sections are always written in this order regardless of order in which processors added them
+     */
+    private static final List<String> SECTIONS = List.of(REFLECTION, JNI, RESOURCES, BUNDLES, SERIALIZATION, FOREIGN);
+
+    /**
+     * Sections written as object of subsection arrays instead of single array, in this order
+     */
+    private static final Map<String, List<String>> SUBSECTIONS = Map.of(FOREIGN, List.of(DOWNCALLS, UPCALLS));
+
+    /**
+     * Writes fields of single section entry, object itself is started and ended by metadata
+     */
+    @FunctionalInterface
+    interface Entry {
+
+        void writeTo(JsonWriter json) throws IOException;
+    }
+
+    /**
+     * Entries by section or by section and subsection like {@code foreign.downcalls}
+     */
+    private final Map<String, List<Entry>> sections = new HashMap<>();
+    private final Set<TypeElement> originatingElements = new LinkedHashSet<>();
+
+    /**
+     * @param section to add entry into
+     * @param entry   to write in section
+     * @return self
+     */
+    ReachabilityMetadata add(String section, Entry entry) {
+        if (!SECTIONS.contains(section) || SUBSECTIONS.containsKey(section)) {
+            throw new IllegalArgumentException("Unknown reachability metadata section: " + section);
+        }
+
+        sections.computeIfAbsent(section, k -> new ArrayList<>()).add(entry);
+        return this;
+    }
+
+    /**
+     * @param section    to add entry into
+     * @param subsection of section to add entry into
+     * @param entry      to write in subsection
+     * @return self
+     */
+    ReachabilityMetadata add(String section, String subsection, Entry entry) {
+        if (!SUBSECTIONS.getOrDefault(section, List.of()).contains(subsection)) {
+            throw new IllegalArgumentException("Unknown reachability metadata section: " + section + "." + subsection);
+        }
+
+        sections.computeIfAbsent(section + "." + subsection, k -> new ArrayList<>()).add(entry);
+        return this;
+    }
+
+    /**
+     * @param elements types that produced hints for this metadata
+     * @return self
+     */
+    ReachabilityMetadata originatingElements(Collection<TypeElement> elements) {
+        originatingElements.addAll(elements);
+        return this;
+    }
+
+    Set<TypeElement> getOriginatingElements() {
+        return originatingElements;
+    }
+
+    boolean isEmpty() {
+        return sections.isEmpty();
+    }
+
+    void writeTo(JsonWriter json) throws IOException {
+        json.beginObject();
+        for (String section : SECTIONS) {
+            final List<String> subsections = SUBSECTIONS.get(section);
+            if (subsections == null) {
+                writeEntries(section, sections.get(section), json);
+            } else if (subsections.stream().anyMatch(s -> sections.containsKey(section + "." + s))) {
+                json.name(section).beginObject();
+                for (String subsection : subsections) {
+                    writeEntries(subsection, sections.get(section + "." + subsection), json);
+                }
+                json.endObject();
+            }
+        }
+        json.endObject();
+    }
+
+    private static void writeEntries(String name, List<Entry> entries, JsonWriter json) throws IOException {
+        if (entries != null) {
+            json.name(name).beginArray();
+            for (Entry entry : entries) {
+                json.beginObject();
+                entry.writeTo(json);
+                json.endObject();
+            }
+            json.endArray();
+        }
+    }
+}
@@ -0,0 +1,343 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import com.sun.source.tree.*;
+import com.sun.source.util.TreePath;
+import com.sun.source.util.TreeScanner;
+import com.sun.source.util.Trees;
+import io.goodforgod.graalvm.hint.annotation.ReflectionHint.AccessType;
+import io.goodforgod.graalvm.hint.processor.AbstractAccessHintProcessor.Access;
+import io.goodforgod.graalvm.hint.processor.DynamicProxyHintParser.Configuration;
+import java.util.*;
+import java.util.function.Predicate;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+
+/**
+ * Detects reflection and dynamic proxy usages in method bodies of types compiled from source, like
+ * {@code Class.forName("a.B")}, {@code B.class.getDeclaredMethod("name", String.class)},
+ * {@code B.class.getDeclaredField("name")} and
+ * {@code Proxy.newProxyInstance(loader, new Class[] { B.class }, handler)}, so only used types and
+ * members are registered.
+ * <p>
+ * Only usages where names and types are compile time constants and class literals are detected,
+ * usages with computed arguments are skipped.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+final class ReflectionAnalyzer {
+
+    private static final String CLASS = "java.lang.Class";
+    private static final String PROXY = "java.lang.reflect.Proxy";
+    private static final String CONSTRUCTOR = "<init>";
+
+    /**
+     * Usages of reflection and dynamic proxies found in type
+     */
+    static final class Usages {
+
+        private final List<Access> accesses;
+        private final List<Configuration> proxyConfigurations;
+
+        Usages(List<Access> accesses, List<Configuration> proxyConfigurations) {
+            this.accesses = List.copyOf(accesses);
+            this.proxyConfigurations = List.copyOf(proxyConfigurations);
+        }
+
+        List<Access> getAccesses() {
+            return accesses;
+        }
+
+        List<Configuration> getProxyConfigurations() {
+            return proxyConfigurations;
+        }
+    }
+
+    private final Trees trees;
+    private final SourceTypeResolver resolver;
+    private final HintCache cache;
+
+    ReflectionAnalyzer(Trees trees, ProcessingEnvironment processingEnv, HintCache cache) {
+        this.trees = trees;
+        this.resolver = new SourceTypeResolver(processingEnv.getElementUtils());
+        this.cache = cache;
+    }
+
+    /**
+     * Member types are not inspected as they are compiled types of their own, while local and
+     * anonymous types are inspected as part of type
+     *
+     * @param type compiled from source
+     * @return usages in type conditional on type when {@code graalvm.hint.condition} is enabled, empty
+     *             if type is not compiled from source
+     */
+    Usages getUsages(TypeElement type) {
+        final TreePath path = trees.getPath(type);
+        if (path == null || !(path.getLeaf() instanceof ClassTree)) {
+            return new Usages(List.of(), List.of());
+        }
+
+        final UsageScanner scanner = new UsageScanner(type, path.getCompilationUnit(), cache.getCondition(type));
+        for (Tree member : ((ClassTree) path.getLeaf()).getMembers()) {
+            if (!(member instanceof ClassTree)) {
+                member.accept(scanner, null);
+            }
+        }
+
+        return new Usages(new ArrayList<>(scanner.accesses.values()), scanner.proxyConfigurations);
+    }
+
+    private final class UsageScanner extends TreeScanner<Void, Void> {
+
+        private final TypeElement type;
+        private final CompilationUnitTree unit;
+        private final String condition;
+        /**
+         * Accesses by type name, members of accesses for same type are merged
+         */
+        private final Map<String, Access> accesses = new LinkedHashMap<>();
+        private final List<Configuration> proxyConfigurations = new ArrayList<>();
+        private final Set<List<String>> proxyInterfaces = new HashSet<>();
+
+        private UsageScanner(TypeElement type, CompilationUnitTree unit, String condition) {
+            this.type = type;
+            this.unit = unit;
+            this.condition = condition;
+        }
+
+        @Override
+        public Void visitMethodInvocation(MethodInvocationTree node, Void unused) {
+            final String method = SourceTypeResolver.getMethodName(node);
+            final List<? extends ExpressionTree> arguments = node.getArguments();
+            final Optional<TypeElement> target = resolver.getMethodType(unit, type, node);
+            if (target.isPresent() && target.get().getQualifiedName().contentEquals(CLASS)) {
+                if ("forName".equals(method) && !arguments.isEmpty()) {
+                    final String className = getConstant(arguments.get(0));
+                    if (className != null) {
+                        addAccess(new Access(className, new AccessType[0], List.of(), List.of(), condition));
+                    }
+                }
+            } else if (target.isPresent() && target.get().getQualifiedName().contentEquals(PROXY)) {
+                if ("newProxyInstance".equals(method) && arguments.size() == 3) {
+                    addProxyConfiguration(arguments.subList(1, 2));
+                } else if ("getProxyClass".equals(method) && arguments.size() > 1) {
+                    addProxyConfiguration(arguments.subList(1, arguments.size()));
+                }
+            } else if (node.getMethodSelect() instanceof MemberSelectTree) {
+                final String className = getClassName(((MemberSelectTree) node.getMethodSelect()).getExpression());
+                if (className != null) {
+                    addMemberAccess(className, method, arguments);
+                }
+            }
+
+            return super.visitMethodInvocation(node, unused);
+        }
+
+        private void addMemberAccess(String className, String method, List<? extends ExpressionTree> arguments) {
+            switch (method) {
+                case "getDeclaredField":
+                case "getField":
+                    final String field = (arguments.size() == 1) ? getConstant(arguments.get(0)) : null;
+                    if (field != null) {
+                        final String declaringType = ("getField".equals(method))
+                                ? getDeclaringType(className, e -> e.getKind() == ElementKind.FIELD
+                                        && e.getSimpleName().contentEquals(field))
+                                : className;
+                        addAccess(new Access(declaringType, new AccessType[0], List.of(field), List.of(), condition));
+                    }
+                    break;
+                case "getDeclaredMethod":
+                case "getMethod":
+                    final String name = (arguments.isEmpty()) ? null : getConstant(arguments.get(0));
+                    final List<String> parameters = (name == null) ? null : getClassNames(arguments.subList(1, arguments.size()));
+                    if (parameters != null) {
+                        final String signature = name + "(" + String.join(",", parameters) + ")";
+                        final String declaringType = ("getMethod".equals(method))
+                                ? getDeclaringType(className, e -> e.getKind() == ElementKind.METHOD
+                                        && cache.getSignature((ExecutableElement) e).equals(signature))
+                                : className;
+                        addAccess(new Access(declaringType, new AccessType[0], List.of(), List.of(signature), condition));
+                    }
+                    break;
+                case "getDeclaredConstructor":
+                case "getConstructor":
+                    final List<String> constructorParameters = getClassNames(arguments);
+                    if (constructorParameters != null) {
+                        final String signature = CONSTRUCTOR + "(" + String.join(",", constructorParameters) + ")";
+                        addAccess(new Access(className, new AccessType[0], List.of(), List.of(signature), condition));
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        /**
+         * @param arguments with interfaces specified as array or as varargs
+         */
+        private void addProxyConfiguration(List<? extends ExpressionTree> arguments) {
+            final List<String> interfaces = getClassNames(arguments);
+            if (interfaces != null && !interfaces.isEmpty() && proxyInterfaces.add(interfaces)) {
+                proxyConfigurations.add(new Configuration(interfaces, condition));
+            }
+        }
+
+        private void addAccess(Access access) {
+            accesses.merge(access.getKey(), access, Access::merge);
+        }
+
+        /**
+         * Member that is looked up as public can be declared by supertype, it is registered for type
+         * that declares it when declaring type is available in compilation
+         */
+        private String getDeclaringType(String className, Predicate<Element> member) {
+            final Optional<TypeElement> typeElement = cache.getTypeElement(className);
+            if (typeElement.isEmpty()) {
+                return className;
+            }
+
+            final Deque<TypeElement> queue = new ArrayDeque<>(List.of(typeElement.get()));
+            final Set<TypeElement> visited = new HashSet<>();
+            while (!queue.isEmpty()) {
+                final TypeElement current = queue.poll();
+                if (!visited.add(current)) {
+                    continue;
+                }
+                if (current.getEnclosedElements().stream().anyMatch(member)) {
+                    return cache.getTypeName(current);
+                }
+
+                final List<TypeMirror> supertypes = new ArrayList<>(current.getInterfaces());
+                supertypes.add(0, current.getSuperclass());
+                for (TypeMirror supertype : supertypes) {
+                    if (supertype.getKind() == TypeKind.DECLARED) {
+                        queue.add((TypeElement) ((DeclaredType) supertype).asElement());
+                    }
+                }
+            }
+
+            return className;
+        }
+
+        /**
+         * Arguments can be class literals as varargs or single array of class literals
+         *
+         * @return binary names of types, or null if any of arguments is not class literal
+         */
+        private List<String> getClassNames(List<? extends ExpressionTree> arguments) {
+            final List<? extends ExpressionTree> classArguments = (arguments.size() == 1
+                    && arguments.get(0) instanceof NewArrayTree)
+                            ? ((NewArrayTree) arguments.get(0)).getInitializers()
+                            : arguments;
+            if (classArguments == null) {
+                return null;
+            }
+
+            final List<String> classNames = new ArrayList<>(classArguments.size());
+            for (ExpressionTree argument : classArguments) {
+                final String className = getClassLiteralName(argument);
+                if (className == null) {
+                    return null;
+                }
+                classNames.add(className);
+            }
+            return classNames;
+        }
+
+        /**
+         * @param expression like {@code B.class} or {@code Class.forName("a.B")}
+         * @return binary name of type or null if expression is not constant type
+         */
+        private String getClassName(ExpressionTree expression) {
+            if (expression instanceof MethodInvocationTree) {
+                final MethodInvocationTree invocation = (MethodInvocationTree) expression;
+                final boolean forName = "forName".equals(SourceTypeResolver.getMethodName(invocation))
+                        && resolver.getMethodType(unit, type, invocation)
+                                .filter(t -> t.getQualifiedName().contentEquals(CLASS))
+                                .isPresent();
+                return (forName && !invocation.getArguments().isEmpty())
+                        ? getConstant(invocation.getArguments().get(0))
+                        : null;
+            }
+
+            return getClassLiteralName(expression);
+        }
+
+        /**
+         * @return binary name of type like {@code java.lang.String[]} or {@code int} for class literal,
+         *             or null if expression is not class literal
+         */
+        private String getClassLiteralName(ExpressionTree expression) {
+            if (!(expression instanceof MemberSelectTree)
+                    || !((MemberSelectTree) expression).getIdentifier().contentEquals("class")) {
+                return null;
+            }
+
+            return getTypeName(((MemberSelectTree) expression).getExpression());
+        }
+
+        private String getTypeName(Tree tree) {
+            if (tree instanceof PrimitiveTypeTree) {
+                return ((PrimitiveTypeTree) tree).getPrimitiveTypeKind().name().toLowerCase(Locale.ROOT);
+            } else if (tree instanceof ArrayTypeTree) {
+                final String componentName = getTypeName(((ArrayTypeTree) tree).getType());
+                return (componentName == null)
+                        ? null
+                        : componentName + "[]";
+            }
+
+            return resolver.getType(unit, type, tree)
+                    .map(cache::getTypeName)
+                    .orElse(null);
+        }
+
+        /**
+         * @return value of string literal, constant field or concatenation of them, or null if expression
+         *             is not constant
+         */
+        private String getConstant(ExpressionTree expression) {
+            switch (expression.getKind()) {
+                case STRING_LITERAL:
+                    return (String) ((LiteralTree) expression).getValue();
+                case PARENTHESIZED:
+                    return getConstant(((ParenthesizedTree) expression).getExpression());
+                case PLUS:
+                    final String left = getConstant(((BinaryTree) expression).getLeftOperand());
+                    final String right = getConstant(((BinaryTree) expression).getRightOperand());
+                    return (left == null || right == null)
+                            ? null
+                            : left + right;
+                case IDENTIFIER:
+                    final String name = ((IdentifierTree) expression).getName().toString();
+                    for (Element scope = type; scope instanceof TypeElement; scope = scope.getEnclosingElement()) {
+                        final String constant = getConstantField((TypeElement) scope, name);
+                        if (constant != null) {
+                            return constant;
+                        }
+                    }
+                    return null;
+                case MEMBER_SELECT:
+                    final MemberSelectTree select = (MemberSelectTree) expression;
+                    return resolver.getType(unit, type, select.getExpression())
+                            .map(t -> getConstantField(t, select.getIdentifier().toString()))
+                            .orElse(null);
+                default:
+                    return null;
+            }
+        }
+
+        private String getConstantField(TypeElement owner, String name) {
+            return ElementFilter.fieldsIn(owner.getEnclosedElements()).stream()
+                    .filter(f -> f.getSimpleName().contentEquals(name))
+                    .map(VariableElement::getConstantValue)
+                    .filter(v -> v instanceof String)
+                    .map(String.class::cast)
+                    .findFirst()
+                    .orElse(null);
+        }
+    }
+}
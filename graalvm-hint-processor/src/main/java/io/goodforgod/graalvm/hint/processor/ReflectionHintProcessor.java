@@ -4,13 +4,11 @@
 import io.goodforgod.graalvm.hint.annotation.ReflectionHint.AccessType;
 import io.goodforgod.graalvm.hint.annotation.ReflectionHints;
 import java.lang.annotation.Annotation;
-import java.util.Arrays;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import javax.lang.model.element.AnnotationMirror;
-import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.*;
+import javax.lang.model.util.ElementFilter;
 
 /**
  * Processes {@link ReflectionHint} annotation for native-image reflect-config.json file
@@ -32,54 +30,172 @@ protected String getFileName() {
     }
 
     @Override
-    protected List<Access> getAccessForElement(TypeElement element) {
-        final ReflectionHints hints = element.getAnnotation(ReflectionHints.class);
-        if (hints == null) {
-            final ReflectionHint hint = element.getAnnotation(ReflectionHint.class);
-            return getAnnotationAccesses(element, hint);
-        } else {
-            return getParentAnnotationAccesses(element, ReflectionHint.class, ReflectionHints.class);
-        }
+    protected String getMetadataSection() {
+        return ReachabilityMetadata.REFLECTION;
     }
 
-    private static List<Access> getAnnotationAccesses(TypeElement element,
-                                                      ReflectionHint hint) {
-        final AccessType[] accessTypes = hint.value();
-        final List<String> typeNames = Arrays.asList(hint.typeNames());
-        final List<String> types = HintUtils.getAnnotationFieldClassNames(element, ReflectionHint.class, "types");
-        if (types.isEmpty() && typeNames.isEmpty()) {
-            final String selfName = HintUtils.getElementClassName(element);
-            return List.of(new Access(selfName, accessTypes));
-        }
-
-        return Stream.concat(types.stream(), typeNames.stream())
-                .map(t -> new Access(t, accessTypes))
-                .collect(Collectors.toList());
+    @Override
+    protected Set<Access> getAccesses(HintModel model) {
+        return model.getReflectionAccesses();
     }
 
-    private static List<Access> getParentAnnotationAccesses(TypeElement type,
-                                                            Class<? extends Annotation> annotation,
-                                                            Class<? extends Annotation> parentAnnotation) {
-        final String annotationName = annotation.getSimpleName();
-        final String annotationParent = parentAnnotation.getSimpleName();
-        return type.getAnnotationMirrors().stream()
-                .filter(pa -> pa.getAnnotationType().asElement().getSimpleName().contentEquals(annotationParent))
-                .flatMap(pa -> pa.getElementValues().entrySet().stream())
-                .flatMap(e -> ((List<?>) e.getValue().getValue()).stream().map(AnnotationMirror.class::cast))
-                .filter(a -> (a.getAnnotationType().asElement().getSimpleName().contentEquals(annotationName)))
+    static List<Access> getAnnotationAccesses(TypeElement type, List<AnnotationMirror> annotations, HintCache cache) {
+        return annotations.stream()
                 .flatMap(a -> {
-                    final List<String> types = HintUtils.getAnnotationFieldValues(a, "types");
-                    final List<String> typeNames = HintUtils.getAnnotationFieldValues(a, "typeNames");
+                    final List<String> types = HintUtils.getAnnotationFieldClassNames(a, "types", cache);
+                    final List<String> typeNames = HintUtils.getAnnotationFieldClassNames(a, "typeNames", cache);
+                    final List<String> fields = HintUtils.getAnnotationFieldValues(a, "fields");
+                    final List<String> methods = HintUtils.getAnnotationFieldValues(a, "methods");
+                    final String condition = cache.getCondition(a, type);
+                    final List<String> defaultAccessTypes = (fields.isEmpty() && methods.isEmpty())
+                            ? List.of(AccessType.ALL_DECLARED.name())
+                            : List.of();
                     final AccessType[] accessTypes = HintUtils
-                            .getAnnotationFieldValuesOrDefault(a, "value", List.of(AccessType.ALL_DECLARED.name()))
+                            .getAnnotationFieldValuesOrDefault(a, "value", defaultAccessTypes)
                             .stream()
                             .map(AccessType::valueOf)
                             .toArray(AccessType[]::new);
 
-                    return (types.isEmpty() && typeNames.isEmpty())
-                            ? Stream.of(new Access(HintUtils.getElementClassName(type), accessTypes))
-                            : Stream.concat(types.stream(), typeNames.stream()).map(t -> new Access(t, accessTypes));
+                    final List<String> typesToAccess = (types.isEmpty() && typeNames.isEmpty())
+                            ? List.of(cache.getTypeName(type))
+                            : Stream.concat(types.stream(), typeNames.stream()).collect(Collectors.toList());
+                    final Stream<Access> accesses = typesToAccess.stream().map(t -> new Access(t, accessTypes,
+                            getFields(type, t, fields, cache),
+                            getMethods(type, t, methods, cache),
+                            condition));
+
+                    final boolean transitive = HintUtils.getAnnotationFieldValues(a, "transitive").contains("true");
+                    return (transitive)
+                            ? Stream.concat(accesses, getTransitiveAccesses(type, a, typesToAccess, condition, cache))
+                            : accesses;
                 })
                 .collect(Collectors.toList());
     }
+
+    /**
+     * @param roots types which reachable types to register, types not available in compilation are
+     *              skipped
+     * @return accesses for types reachable from roots with annotation access types and no members
+     */
+    private static Stream<Access> getTransitiveAccesses(TypeElement annotated,
+                                                        AnnotationMirror annotation,
+                                                        List<String> roots,
+                                                        String condition,
+                                                        HintCache cache) {
+        final int depth = HintUtils.getAnnotationFieldValues(annotation, "depth").stream()
+                .findFirst()
+                .map(Integer::parseInt)
+                .orElse(Integer.MAX_VALUE);
+        if (depth < 1) {
+            throw new HintException(annotated.getQualifiedName() + " is annotated with @"
+                    + ReflectionHint.class.getSimpleName() + ", but depth must be positive, was: " + depth, annotated);
+        }
+
+        final AccessType[] accessTypes = HintUtils
+                .getAnnotationFieldValuesOrDefault(annotation, "value", List.of(AccessType.ALL_DECLARED.name()))
+                .stream()
+                .map(AccessType::valueOf)
+                .toArray(AccessType[]::new);
+        final TypeClosure closure = new TypeClosure(
+                HintUtils.getAnnotationFieldValues(annotation, "includePackages"),
+                HintUtils.getAnnotationFieldValues(annotation, "excludePackages"),
+                depth);
+
+        return roots.stream()
+                .map(cache::getTypeElement)
+                .flatMap(Optional::stream)
+                .flatMap(root -> closure.getTypes(root).stream())
+                .map(t -> new Access(cache.getTypeName(t), accessTypes, List.of(), List.of(), condition));
+    }
+
+    /**
+     * @param member field, method or constructor annotated with {@link ReflectionHint}
+     * @param cache  to resolve names with
+     * @return access to only annotated member of declaring type, conditional on declaring type by default
+     */
+    static Access getAnnotationMemberAccess(Element member, AnnotationMirror annotation, HintCache cache) {
+        if (!annotation.getElementValues().isEmpty()) {
+            throw new HintException(member.getEnclosingElement() + "#" + member + " is annotated with @"
+                    + ReflectionHint.class.getSimpleName() + ", but no parameters can be specified when used on member", member);
+        }
+
+        final TypeElement type = (TypeElement) member.getEnclosingElement();
+        final String typeName = cache.getTypeName(type);
+        final String condition = cache.getCondition(type);
+        return (member.getKind() == ElementKind.FIELD)
+                ? new Access(typeName, new AccessType[0], List.of(member.getSimpleName().toString()), List.of(), condition)
+                : new Access(typeName, new AccessType[0], List.of(),
+                        List.of(cache.getSignature((ExecutableElement) member)), condition);
+    }
+
+    private static List<String> getFields(TypeElement annotated, String typeName, List<String> fields, HintCache cache) {
+        final Optional<TypeElement> type = cache.getTypeElement(typeName);
+        if (type.isPresent()) {
+            for (String field : fields) {
+                final boolean exists = ElementFilter.fieldsIn(type.get().getEnclosedElements()).stream()
+                        .anyMatch(f -> f.getSimpleName().contentEquals(field));
+                if (!exists) {
+                    throw new HintException(annotated.getQualifiedName() + " is annotated with @"
+                            + ReflectionHint.class.getSimpleName() + ", but field '" + field + "' is not found in " + typeName,
+                            annotated);
+                }
+            }
+        }
+
+        return fields;
+    }
+
+    private static List<String> getMethods(TypeElement annotated, String typeName, List<String> methods, HintCache cache) {
+        final Optional<TypeElement> type = cache.getTypeElement(typeName);
+        final List<String> signatures = new ArrayList<>(methods.size());
+        for (String method : methods) {
+            final String signature = getSignature(method, cache);
+            if (signature == null) {
+                throw new HintException(annotated.getQualifiedName() + " is annotated with @"
+                        + ReflectionHint.class.getSimpleName() + ", but method '" + method
+                        + "' must be specified with parameter types like 'name(java.lang.String)' or '<init>()'", annotated);
+            }
+
+            if (type.isPresent()) {
+                final boolean exists = type.get().getEnclosedElements().stream()
+                        .filter(e -> e.getKind() == ElementKind.METHOD || e.getKind() == ElementKind.CONSTRUCTOR)
+                        .anyMatch(e -> cache.getSignature((ExecutableElement) e).equals(signature));
+                if (!exists) {
+                    throw new HintException(annotated.getQualifiedName() + " is annotated with @"
+                            + ReflectionHint.class.getSimpleName() + ", but method '" + method + "' is not found in "
+                            + typeName, annotated);
+                }
+            }
+            signatures.add(signature);
+        }
+
+        return signatures;
+    }
+
+    /**
+     * @return signature with binary parameter type names or null if signature is malformed
+     */
+    private static String getSignature(String method, HintCache cache) {
+        final String signature = method.replaceAll("\\s", "");
+        final int parametersStart = signature.indexOf('(');
+        if (parametersStart < 1 || !signature.endsWith(")")) {
+            return null;
+        }
+
+        final String parameters = signature.substring(parametersStart + 1, signature.length() - 1);
+        if (parameters.isEmpty()) {
+            return signature;
+        }
+
+        return Arrays.stream(parameters.split(","))
+                .map(parameter -> {
+                    final int arrayStart = parameter.indexOf('[');
+                    final String component = (arrayStart == -1) ? parameter : parameter.substring(0, arrayStart);
+                    final String dimensions = (arrayStart == -1) ? "" : parameter.substring(arrayStart);
+                    return cache.getTypeElement(component)
+                            .map(t -> cache.getTypeName(t) + dimensions)
+                            .orElse(parameter);
+                })
+                .collect(Collectors.joining(",", signature.substring(0, parametersStart + 1), ")"));
+    }
 }
@@ -1,13 +1,17 @@
 package io.goodforgod.graalvm.hint.processor;
 
+import io.goodforgod.graalvm.hint.annotation.LocaleHint;
 import io.goodforgod.graalvm.hint.annotation.ResourceHint;
+import io.goodforgod.graalvm.hint.processor.HintOptions.ResourceRewrite;
+import java.io.IOException;
 import java.lang.annotation.Annotation;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 import java.util.stream.Collectors;
-import javax.annotation.processing.RoundEnvironment;
-import javax.lang.model.element.Element;
+import javax.lang.model.element.AnnotationMirror;
 import javax.lang.model.element.TypeElement;
-import javax.lang.model.util.ElementFilter;
 import javax.tools.Diagnostic;
 
 /**
@@ -21,11 +25,122 @@ public final class ResourceHintProcessor extends AbstractHintProcessor {
 
     private static final String FILE_NAME = "resource-config.json";
 
-    private static class Resources {
+    /**
+     * Regexp constructs that glob can not express
+     */
+    private static final String REGEXP_CHARS = "[](){}?*+|^$";
+    private static final String GLOB_CHARS = "*?[]{}\\";
 
-        private final Set<String> includes = new LinkedHashSet<>();
-        private final Set<String> excludes = new LinkedHashSet<>();
-        private final Set<String> bundles = new LinkedHashSet<>();
+    private ResourceIndex index;
+
+    /**
+     * Resource pattern or bundle name with type that its registration is conditional on
+     */
+    static final class Resource implements Comparable<Resource> {
+
+        private static final Comparator<Resource> COMPARATOR = Comparator.comparing((Resource r) -> r.value)
+                .thenComparing(r -> r.condition, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+        private final String value;
+        private final String condition;
+        private final Set<String> locales;
+
+        Resource(String value, String condition) {
+            this(value, condition, List.of());
+        }
+
+        Resource(String value, String condition, Collection<String> locales) {
+            this.value = value;
+            this.condition = condition;
+            this.locales = Collections.unmodifiableSet(new TreeSet<>(locales));
+        }
+
+        String getValue() {
+            return value;
+        }
+
+        /**
+         * @return type that registration is conditional on or null if unconditional
+         */
+        String getCondition() {
+            return condition;
+        }
+
+        /**
+         * @return bundle locales to include or empty if all included locales
+         */
+        Set<String> getLocales() {
+            return locales;
+        }
+
+        /**
+         * @return value and condition, resources with same key are merged
+         */
+        String getKey() {
+            return (condition == null)
+                    ? value
+                    : value + "@" + condition;
+        }
+
+        /**
+         * @param other resource with same key
+         * @return resource with locales of both, all locales if any of them includes all locales
+         */
+        Resource merge(Resource other) {
+            if (locales.isEmpty() || other.locales.isEmpty()) {
+                return (locales.isEmpty()) ? this : other;
+            }
+
+            final Set<String> mergedLocales = new TreeSet<>(locales);
+            mergedLocales.addAll(other.locales);
+            return new Resource(value, condition, mergedLocales);
+        }
+
+        @Override
+        public int compareTo(Resource o) {
+            return COMPARATOR.compare(this, o);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (o == null || getClass() != o.getClass())
+                return false;
+            Resource that = (Resource) o;
+            return Objects.equals(value, that.value) && Objects.equals(condition, that.condition)
+                    && Objects.equals(locales, that.locales);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(value, condition, locales);
+        }
+    }
+
+    static final class Resources {
+
+        private final Set<Resource> includes;
+        private final Set<String> excludes;
+        private final Set<Resource> bundles;
+
+        Resources(Collection<Resource> includes, Collection<String> excludes, Collection<Resource> bundles) {
+            this.includes = Collections.unmodifiableSet(new LinkedHashSet<>(includes));
+            this.excludes = Collections.unmodifiableSet(new LinkedHashSet<>(excludes));
+            this.bundles = Collections.unmodifiableSet(new LinkedHashSet<>(bundles));
+        }
+
+        Set<Resource> getIncludes() {
+            return includes;
+        }
+
+        Set<String> getExcludes() {
+            return excludes;
+        }
+
+        Set<Resource> getBundles() {
+            return bundles;
+        }
 
         boolean haveIncludes() {
             return !includes.isEmpty();
@@ -38,6 +153,10 @@ boolean haveExcludes() {
         boolean haveBundles() {
             return !bundles.isEmpty();
         }
+
+        boolean isEmpty() {
+            return !haveIncludes() && !haveExcludes() && !haveBundles();
+        }
     }
 
     @Override
@@ -46,117 +165,293 @@ protected Set<Class<? extends Annotation>> getSupportedAnnotations() {
     }
 
     @Override
-    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
-        if (annotations.isEmpty()) {
+    protected boolean writeHints(List<HintModel> models) {
+        final ResourceRewrite rewrite = options.getResourceRewrite();
+        if (rewrite == null) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Unknown " + HintOptions.HINT_RESOURCE_REWRITE
+                    + " option value, expected one of: " + Arrays.toString(ResourceRewrite.values()));
             return false;
         }
 
-        try {
-            final Set<? extends Element> annotated = roundEnv.getElementsAnnotatedWith(ResourceHint.class);
-            final Set<TypeElement> elements = ElementFilter.typesIn(annotated);
-
-            final Map<HintOrigin, Resources> resourcesMap = new HashMap<>();
-            for (TypeElement element : elements) {
-                final HintOrigin origin = HintUtils.getHintOrigin(element, processingEnv);
-                final Resources resources = resourcesMap.computeIfAbsent(origin, k -> new Resources());
-                final Resources resourceForElement = getResource(element);
-                resources.includes.addAll(resourceForElement.includes);
-                resources.excludes.addAll(resourceForElement.excludes);
-                resources.bundles.addAll(resourceForElement.bundles);
-            }
-
-            for (var entry : resourcesMap.entrySet()) {
-                final String resourceConfigJson = getResourceConfig(entry.getValue());
-                final HintFile file = entry.getKey().getFileWithRelativePath(FILE_NAME);
-                if (!HintUtils.writeConfigFile(file, resourceConfigJson, processingEnv)) {
-                    return false;
+        for (HintModel model : models) {
+            final Resources resources = (options.isResourceVerify() || rewrite == ResourceRewrite.LITERAL)
+                    ? getVerifiedResources(model, model.getResources(), rewrite == ResourceRewrite.LITERAL)
+                    : model.getResources();
+            if (!resources.isEmpty()) {
+                if (options.isReachabilityMetadata()) {
+                    if (!addMetadata(model, resources)) {
+                        return false;
+                    }
+                } else {
+                    final Map<Resource, String> globs = (rewrite == ResourceRewrite.GLOB)
+                            ? getGlobs(model, resources)
+                            : Map.of();
+                    final HintContent content = writer -> writeResourceConfig(resources, globs,
+                            new JsonWriter(writer, options.isJsonPretty()));
+                    final HintFile file = model.getOrigin().getFileWithRelativePath(FILE_NAME);
+                    if (!filer.write(file, content, model.getOriginatingElements())) {
+                        return false;
+                    }
                 }
+                statistics.addEntries(resources.includes.size() + resources.excludes.size() + resources.bundles.size());
             }
-
-            return true;
-        } catch (HintException e) {
-            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage(), e.getElement());
-            return false;
-        } catch (Exception e) {
-            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, e.getMessage());
-            e.printStackTrace();
-            return false;
         }
+
+        return true;
     }
 
-    private static String getResourceConfig(Resources resources) {
-        final StringBuilder configBuilder = new StringBuilder();
-        configBuilder.append("{");
-        if (resources.haveIncludes() || resources.haveExcludes()) {
-            configBuilder.append("\n  \"resources\": {\n");
-            if (resources.haveIncludes()) {
-                final String includePart = getResourceConfigPart("includes", resources.includes);
-                configBuilder.append(includePart);
+    /**
+     * Resolves include patterns against module resources and reports patterns that match nothing or
+     * too many resources
+     *
+     * @param literal true to replace each pattern with literal patterns of resources it matches, unless
+     *                    it matches nothing or too many resources
+     * @return resources with rewritten include patterns
+     */
+    private Resources getVerifiedResources(HintModel model, Resources resources, boolean literal) {
+        if (!resources.haveIncludes()) {
+            return resources;
+        }
+
+        if (index == null) {
+            index = new ResourceIndex(options, processingEnv);
+        }
+
+        final Set<Path> roots = index.getRoots(model.getOriginatingElements());
+        if (roots.isEmpty()) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, "@" + ResourceHint.class.getSimpleName()
+                    + " include patterns can't be verified as no resource directories are found for: " + model.getOrigin()
+                    + ", specify them with " + HintOptions.HINT_RESOURCE_PATHS + " option");
+            return resources;
+        }
+
+        final int maxMatches = options.getResourceMaxMatches();
+        final List<Resource> includes = new ArrayList<>();
+        for (Resource include : new TreeSet<>(resources.includes)) {
+            final Set<String> matches;
+            try {
+                matches = index.getMatches(roots, Pattern.compile(include.value));
+            } catch (PatternSyntaxException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, "@" + ResourceHint.class.getSimpleName()
+                        + " include pattern '" + include.value + "' is not valid regexp: " + e.getDescription());
+                includes.add(include);
+                continue;
             }
 
-            if (resources.haveExcludes()) {
-                if (resources.haveIncludes()) {
-                    configBuilder.append(",\n");
-                }
+            if (matches.isEmpty()) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, "@" + ResourceHint.class.getSimpleName()
+                        + " include pattern '" + include.value + "' doesn't match any resource in: " + roots);
+            } else if (matches.size() > maxMatches) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, "@" + ResourceHint.class.getSimpleName()
+                        + " include pattern '" + include.value + "' matches " + matches.size() + " resources, more than "
+                        + maxMatches + " allowed by " + HintOptions.HINT_RESOURCE_MAX_MATCHES + " option, such as: "
+                        + matches.iterator().next());
+            }
 
-                final String excludePart = getResourceConfigPart("excludes", resources.excludes);
-                configBuilder.append(excludePart);
+            if (literal && !matches.isEmpty() && matches.size() <= maxMatches) {
+                matches.forEach(m -> includes.add(new Resource(Pattern.quote(m), include.condition)));
+            } else {
+                includes.add(include);
             }
+        }
+
+        return new Resources(includes, resources.excludes, resources.bundles);
+    }
 
-            if (resources.haveBundles()) {
-                configBuilder.append("\n  },");
+    /**
+     * @return include patterns that can be written as globs to their globs, other patterns are reported
+     */
+    private Map<Resource, String> getGlobs(HintModel model, Resources resources) {
+        final Map<Resource, String> globs = new HashMap<>();
+        for (Resource include : resources.includes) {
+            final String glob = getGlob(include.value);
+            if (glob == null) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, "@" + ResourceHint.class.getSimpleName()
+                        + " include pattern '" + include.value + "' can't be written as glob and is kept as pattern for: "
+                        + model.getOrigin());
             } else {
-                configBuilder.append("\n  }");
+                globs.put(include, glob);
             }
         }
+        return globs;
+    }
 
-        if (resources.haveBundles()) {
-            configBuilder.append("\n");
-            final String bundlePart = getBundleConfigPart(resources.bundles);
-            configBuilder.append(bundlePart);
+    /**
+     * Include patterns are written as globs, excludes are not supported by reachability metadata
+     *
+     * @return true if all include patterns can be written as globs
+     */
+    private boolean addMetadata(HintModel model, Resources resources) {
+        final ReachabilityMetadata metadata = filer.getMetadata(model);
+        for (Resource include : new TreeSet<>(resources.includes)) {
+            final String glob = getGlob(include.value);
+            if (glob == null) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "@" + ResourceHint.class.getSimpleName()
+                        + " include pattern '" + include.value + "' can't be written as glob into "
+                        + ReachabilityMetadata.FILE_NAME + ", use only literals and '.*' wildcards");
+                return false;
+            }
+            metadata.add(ReachabilityMetadata.RESOURCES,
+                    json -> json.condition(JsonWriter.TYPE_REACHED, include.condition).name("glob").value(glob));
         }
 
-        configBuilder.append("\n}");
+        for (Resource bundle : new TreeSet<>(resources.bundles)) {
+            metadata.add(ReachabilityMetadata.BUNDLES,
+                    json -> json.condition(JsonWriter.TYPE_REACHED, bundle.condition).name("name").value(bundle.value));
+        }
+
+        final Set<String> bundleLocales = resources.bundles.stream()
+                .filter(b -> !b.locales.isEmpty())
+                .map(b -> b.value)
+                .collect(Collectors.toCollection(TreeSet::new));
+        if (!bundleLocales.isEmpty()) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, "@" + ResourceHint.class.getSimpleName()
+                    + " locales of bundles " + bundleLocales + " are not supported by " + ReachabilityMetadata.FILE_NAME
+                    + " and are skipped for: " + model.getOrigin() + ", use @" + LocaleHint.class.getSimpleName()
+                    + " to restrict locales of native image");
+        }
 
-        return configBuilder.toString();
+        if (resources.haveExcludes()) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, "@" + ResourceHint.class.getSimpleName()
+                    + " exclude patterns " + new TreeSet<>(resources.excludes) + " are not supported by "
+                    + ReachabilityMetadata.FILE_NAME + " and are skipped for: " + model.getOrigin());
+        }
+        return true;
     }
 
-    private static String getResourceConfigPart(String partName, Collection<String> resources) {
-        return resources.stream()
-                .sorted()
-                .map(resource -> String.format("      { \"%s\": \"%s\" }", "pattern", resource))
-                .collect(Collectors.joining(",\n", "    \"" + partName + "\": [\n", "\n    ]"));
+    /**
+     * Converts resource regexp into glob, {@code .*} that is whole path segment becomes {@code **}, leading
+     * {@code .*} matches in any directory and any other {@code .*} matches within single directory,
+     * unescaped dot is treated as dot as it is commonly used in file names.
+     *
+     * @param pattern resource regexp
+     * @return glob or null if pattern uses regexp constructs that glob can not express
+     */
+    static String getGlob(String pattern) {
+        final int start = (pattern.startsWith("^")) ? 1 : 0;
+        final int end = (pattern.endsWith("$") && !pattern.endsWith("\\$")) ? pattern.length() - 1 : pattern.length();
+        final StringBuilder glob = new StringBuilder();
+        int i = start;
+        while (i < end) {
+            final char c = pattern.charAt(i);
+            if (pattern.startsWith(".*", i)) {
+                final boolean segmentStart = i == start || pattern.charAt(i - 1) == '/';
+                final boolean segmentEnd = i + 2 == end || pattern.charAt(i + 2) == '/';
+                if (segmentStart && segmentEnd) {
+                    glob.append("**");
+                } else if (i == start) {
+                    glob.append("**/*");
+                } else {
+                    glob.append('*');
+                }
+                i += 2;
+            } else if (pattern.startsWith("\\Q", i)) {
+                final int quoteEnd = pattern.indexOf("\\E", i);
+                final String literal = pattern.substring(i + 2, (quoteEnd == -1) ? end : quoteEnd);
+                if (literal.chars().anyMatch(l -> GLOB_CHARS.indexOf(l) != -1)) {
+                    return null;
+                }
+                glob.append(literal);
+                i = (quoteEnd == -1) ? end : quoteEnd + 2;
+            } else if (c == '\\') {
+                if (i + 1 == end || Character.isLetterOrDigit(pattern.charAt(i + 1))
+                        || GLOB_CHARS.indexOf(pattern.charAt(i + 1)) != -1) {
+                    return null;
+                }
+                glob.append(pattern.charAt(i + 1));
+                i += 2;
+            } else if (REGEXP_CHARS.indexOf(c) != -1) {
+                return null;
+            } else {
+                glob.append(c);
+                i++;
+            }
+        }
+
+        return glob.toString();
     }
 
-    private static String getBundleConfigPart(Collection<String> bundles) {
-        return bundles.stream()
-                .sorted()
-                .map(bundle -> String.format("    { \"%s\": \"%s\" }", "name", bundle))
-                .collect(Collectors.joining(",\n", "  \"bundles\": [\n", "\n  ]"));
+    /**
+     * @param globs include patterns to write as globs instead of patterns
+     */
+    private static void writeResourceConfig(Resources resources, Map<Resource, String> globs, JsonWriter json)
+            throws IOException {
+        final Set<Resource> patterns = new TreeSet<>(resources.includes);
+        patterns.removeAll(globs.keySet());
+
+        json.beginObject();
+        if (!patterns.isEmpty() || resources.haveExcludes()) {
+            json.name("resources").beginObject();
+            if (!patterns.isEmpty()) {
+                json.name("includes").beginArray();
+                for (Resource include : patterns) {
+                    json.beginObject()
+                            .condition(JsonWriter.TYPE_REACHABLE, include.condition)
+                            .name("pattern").value(include.value)
+                            .endObject();
+                }
+                json.endArray();
+            }
+            if (resources.haveExcludes()) {
+                json.name("excludes").beginArray();
+                for (String exclude : new TreeSet<>(resources.excludes)) {
+                    json.beginObject().name("pattern").value(exclude).endObject();
+                }
+                json.endArray();
+            }
+            json.endObject();
+        }
+
+        if (!globs.isEmpty()) {
+            json.name("globs").beginArray();
+            final List<Map.Entry<Resource, String>> sortedGlobs = new ArrayList<>(globs.entrySet());
+            sortedGlobs.sort(Map.Entry.comparingByKey());
+            for (Map.Entry<Resource, String> glob : sortedGlobs) {
+                json.beginObject()
+                        .condition(JsonWriter.TYPE_REACHABLE, glob.getKey().condition)
+                        .name("glob").value(glob.getValue())
+                        .endObject();
+            }
+            json.endArray();
+        }
+
+        if (resources.haveBundles()) {
+            json.name("bundles").beginArray();
+            for (Resource bundle : new TreeSet<>(resources.bundles)) {
+                json.beginObject()
+                        .condition(JsonWriter.TYPE_REACHABLE, bundle.condition)
+                        .name("name").value(bundle.value);
+                if (!bundle.locales.isEmpty()) {
+                    json.array("locales", bundle.locales);
+                }
+                json.endObject();
+            }
+            json.endArray();
+        }
+        json.endObject();
     }
 
-    private static Resources getResource(TypeElement element) {
-        final Resources resources = new Resources();
-        final ResourceHint annotation = element.getAnnotation(ResourceHint.class);
-        final List<String> includeBatch = filterValues(annotation.include());
-        final List<String> excludeBatch = filterValues(annotation.exclude());
-        final List<String> bundleBatch = filterValues(annotation.bundles());
+    static Resources getAnnotationResources(TypeElement element, List<AnnotationMirror> annotations, HintCache cache) {
+        final List<Resource> includeBatch = new ArrayList<>();
+        final List<String> excludeBatch = new ArrayList<>();
+        final List<Resource> bundleBatch = new ArrayList<>();
+        for (AnnotationMirror annotation : annotations) {
+            final String condition = cache.getCondition(annotation, element);
+            HintUtils.getAnnotationFieldValues(annotation, "include").forEach(i -> includeBatch.add(new Resource(i, condition)));
+            excludeBatch.addAll(HintUtils.getAnnotationFieldValues(annotation, "exclude"));
+            final List<String> locales = HintUtils.getAnnotationFieldValues(annotation, "locales").stream()
+                    .map(l -> LocaleHintParser.getLocale(element, l, "locales"))
+                    .collect(Collectors.toList());
+            HintUtils.getAnnotationFieldValues(annotation, "bundles")
+                    .forEach(b -> bundleBatch.add(new Resource(b, condition, locales)));
+        }
+
         if (includeBatch.isEmpty() && excludeBatch.isEmpty() && bundleBatch.isEmpty()) {
             throw new HintException(element.getQualifiedName().toString() + " is annotated with @"
                     + ResourceHint.class.getSimpleName()
                     + ", but no valid 'include' or 'exclude' or 'bundle' parameters specified!", element);
         }
 
-        resources.includes.addAll(includeBatch);
-        resources.excludes.addAll(excludeBatch);
-        resources.bundles.addAll(bundleBatch);
-
-        return resources;
-    }
-
-    private static List<String> filterValues(String[] stringValues) {
-        return Arrays.stream(stringValues)
-                .filter(a -> !a.isBlank())
-                .collect(Collectors.toList());
+        return new Resources(includeBatch, excludeBatch, bundleBatch);
     }
 }
@@ -0,0 +1,151 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import com.sun.source.tree.CompilationUnitTree;
+import com.sun.source.util.TreePath;
+import com.sun.source.util.Trees;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.TypeElement;
+import javax.tools.StandardLocation;
+
+/**
+ * Resources of compiled module that resource patterns are resolved against, resources are class
+ * output and source roots of annotated types with their sibling {@code resources} directories (like
+ * {@code src/main/resources} for {@code src/main/java}) or directories specified with
+ * {@link HintOptions#HINT_RESOURCE_PATHS}, each directory is walked once, sources and compiled
+ * classes are not resources.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+final class ResourceIndex {
+
+    private static final String SOURCE_SUFFIX = ".java";
+    private static final String CLASS_SUFFIX = ".class";
+
+    private final ProcessingEnvironment processingEnv;
+    private final List<Path> paths;
+    private final Trees trees;
+
+    private Path classOutput;
+    private boolean classOutputResolved = false;
+    private final Map<Path, List<String>> resources = new HashMap<>();
+
+    ResourceIndex(HintOptions options, ProcessingEnvironment processingEnv) {
+        this.processingEnv = processingEnv;
+        this.paths = options.getResourcePaths();
+        this.trees = (paths.isEmpty())
+                ? HintUtils.getTrees(processingEnv)
+                : null;
+    }
+
+    /**
+     * @param elements annotated types which source roots to include
+     * @return existing resource directories
+     */
+    Set<Path> getRoots(Collection<TypeElement> elements) {
+        final Set<Path> roots = new LinkedHashSet<>();
+        if (!paths.isEmpty()) {
+            paths.stream().filter(Files::isDirectory).forEach(roots::add);
+            return roots;
+        }
+
+        final Path output = getClassOutput();
+        if (output != null && Files.isDirectory(output)) {
+            roots.add(output);
+        }
+
+        for (TypeElement element : elements) {
+            final Path sourceRoot = getSourceRoot(element);
+            if (sourceRoot != null) {
+                roots.add(sourceRoot);
+                final Path resourceRoot = sourceRoot.resolveSibling("resources");
+                if (Files.isDirectory(resourceRoot)) {
+                    roots.add(resourceRoot);
+                }
+            }
+        }
+
+        return roots;
+    }
+
+    /**
+     * @param roots   to resolve pattern against
+     * @param pattern resource regexp that should match whole resource path
+     * @return relative paths of matched resources like {@code META-INF/application.yml}
+     */
+    Set<String> getMatches(Collection<Path> roots, Pattern pattern) {
+        return roots.stream()
+                .flatMap(root -> getResources(root).stream())
+                .filter(resource -> pattern.matcher(resource).matches())
+                .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    private List<String> getResources(Path root) {
+        return resources.computeIfAbsent(root, r -> {
+            try (Stream<Path> files = Files.walk(r)) {
+                return files.filter(Files::isRegularFile)
+                        .map(f -> r.relativize(f).toString().replace('\\', '/'))
+                        .filter(f -> !f.endsWith(SOURCE_SUFFIX) && !f.endsWith(CLASS_SUFFIX))
+                        .collect(Collectors.toList());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * @return class output directory or null if class output is not on file system
+     */
+    private Path getClassOutput() {
+        if (!classOutputResolved) {
+            classOutputResolved = true;
+            try {
+                final URI uri = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", "META-INF").toUri();
+                classOutput = ("file".equals(uri.getScheme()))
+                        ? Path.of(uri).getParent()
+                        : null;
+            } catch (IOException | IllegalArgumentException e) {
+                classOutput = null;
+            }
+        }
+        return classOutput;
+    }
+
+    /**
+     * @return directory that contains package directories of type source file or null if unknown
+     */
+    private Path getSourceRoot(TypeElement element) {
+        final TreePath path = (trees == null) ? null : trees.getPath(element);
+        if (path == null) {
+            return null;
+        }
+
+        final CompilationUnitTree unit = path.getCompilationUnit();
+        final URI uri = unit.getSourceFile().toUri();
+        if (!"file".equals(uri.getScheme())) {
+            return null;
+        }
+
+        Path directory = Path.of(uri).getParent();
+        final String packageName = processingEnv.getElementUtils().getPackageOf(element).getQualifiedName().toString();
+        if (!packageName.isEmpty()) {
+            final String[] packageParts = packageName.split("\\.");
+            for (int i = packageParts.length - 1; i >= 0; i--) {
+                if (directory == null || !directory.getFileName().toString().equals(packageParts[i])) {
+                    return null;
+                }
+                directory = directory.getParent();
+            }
+        }
+        return directory;
+    }
+}
@@ -0,0 +1,284 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import io.goodforgod.graalvm.hint.annotation.ReflectionHint.AccessType;
+import io.goodforgod.graalvm.hint.annotation.SerializationHint;
+import io.goodforgod.graalvm.hint.annotation.SerializationHints;
+import io.goodforgod.graalvm.hint.processor.AbstractAccessHintProcessor.Access;
+import java.io.IOException;
+import java.io.Serializable;
+import java.lang.annotation.Annotation;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+
+/**
+ * Processes {@link SerializationHint} annotation for native-image serialization-config.json file
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @see SerializationHint
+ * @since 18.10.2026
+ */
+public final class SerializationHintProcessor extends AbstractHintProcessor {
+
+    private static final String FILE_NAME = "serialization-config.json";
+
+    private static final String NAME = "name";
+    private static final String TYPE = "type";
+    private static final String CUSTOM_TARGET_CONSTRUCTOR_CLASS = "customTargetConstructorClass";
+
+    /**
+     * Serializable type or lambda capturing class with type that its registration is conditional on
+     */
+    static final class Serialization implements Comparable<Serialization> {
+
+        private static final Comparator<Serialization> COMPARATOR = Comparator.comparing((Serialization s) -> s.typeName)
+                .thenComparing(s -> s.customTargetConstructorClass, Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparing(s -> s.condition, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+        private final String typeName;
+        private final String customTargetConstructorClass;
+        private final String condition;
+
+        Serialization(String typeName, String customTargetConstructorClass, String condition) {
+            this.typeName = typeName;
+            this.customTargetConstructorClass = customTargetConstructorClass;
+            this.condition = condition;
+        }
+
+        String getTypeName() {
+            return typeName;
+        }
+
+        /**
+         * @return class which constructor is used for deserialization or null if default
+         */
+        String getCustomTargetConstructorClass() {
+            return customTargetConstructorClass;
+        }
+
+        /**
+         * @return type that registration is conditional on or null if unconditional
+         */
+        String getCondition() {
+            return condition;
+        }
+
+        @Override
+        public int compareTo(Serialization o) {
+            return COMPARATOR.compare(this, o);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (o == null || getClass() != o.getClass())
+                return false;
+            Serialization that = (Serialization) o;
+            return Objects.equals(typeName, that.typeName)
+                    && Objects.equals(customTargetConstructorClass, that.customTargetConstructorClass)
+                    && Objects.equals(condition, that.condition);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(typeName, customTargetConstructorClass, condition);
+        }
+    }
+
+    static final class Serializations {
+
+        private final Set<Serialization> types;
+        private final Set<Serialization> lambdaCapturingTypes;
+
+        Serializations(Collection<Serialization> types, Collection<Serialization> lambdaCapturingTypes) {
+            this.types = Collections.unmodifiableSet(new LinkedHashSet<>(types));
+            this.lambdaCapturingTypes = Collections.unmodifiableSet(new LinkedHashSet<>(lambdaCapturingTypes));
+        }
+
+        Set<Serialization> getTypes() {
+            return types;
+        }
+
+        Set<Serialization> getLambdaCapturingTypes() {
+            return lambdaCapturingTypes;
+        }
+
+        boolean isEmpty() {
+            return types.isEmpty() && lambdaCapturingTypes.isEmpty();
+        }
+    }
+
+    @Override
+    protected Set<Class<? extends Annotation>> getSupportedAnnotations() {
+        return Set.of(SerializationHint.class, SerializationHints.class);
+    }
+
+    @Override
+    protected boolean writeHints(List<HintModel> models) {
+        for (HintModel model : models) {
+            final Serializations serializations = model.getSerializations();
+            if (!serializations.isEmpty()) {
+                if (options.isReachabilityMetadata()) {
+                    addMetadata(model, serializations);
+                } else {
+                    final HintContent content = writer -> writeSerializationConfig(serializations,
+                            new JsonWriter(writer, options.isJsonPretty()));
+                    final HintFile file = model.getOrigin().getFileWithRelativePath(FILE_NAME);
+                    if (!filer.write(file, content, model.getOriginatingElements())) {
+                        return false;
+                    }
+                }
+                statistics.addEntries(serializations.types.size() + serializations.lambdaCapturingTypes.size());
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Lambda capturing types are not supported by reachability metadata without lambda interfaces
+     */
+    private void addMetadata(HintModel model, Serializations serializations) {
+        final ReachabilityMetadata metadata = filer.getMetadata(model);
+        for (Serialization serialization : new TreeSet<>(serializations.types)) {
+            metadata.add(ReachabilityMetadata.SERIALIZATION, json -> writeSerialization(serialization, true, json));
+        }
+
+        if (!serializations.lambdaCapturingTypes.isEmpty()) {
+            final Set<String> lambdaCapturingTypes = serializations.lambdaCapturingTypes.stream()
+                    .map(Serialization::getTypeName)
+                    .collect(Collectors.toCollection(TreeSet::new));
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, "@" + SerializationHint.class.getSimpleName()
+                    + " lambda capturing types " + lambdaCapturingTypes + " are not supported by "
+                    + ReachabilityMetadata.FILE_NAME + " and are skipped for: " + model.getOrigin());
+        }
+    }
+
+    private static void writeSerializationConfig(Serializations serializations, JsonWriter json) throws IOException {
+        json.beginObject();
+        json.name("types").beginArray();
+        for (Serialization serialization : new TreeSet<>(serializations.types)) {
+            json.beginObject();
+            writeSerialization(serialization, false, json);
+            json.endObject();
+        }
+        json.endArray();
+
+        json.name("lambdaCapturingTypes").beginArray();
+        for (Serialization serialization : new TreeSet<>(serializations.lambdaCapturingTypes)) {
+            json.beginObject();
+            writeSerialization(serialization, false, json);
+            json.endObject();
+        }
+        json.endArray();
+        json.endObject();
+    }
+
+    /**
+     * @param metadata true to write entry of {@link ReachabilityMetadata}, where type is registered under
+     *                     {@code type}
+     */
+    private static void writeSerialization(Serialization serialization, boolean metadata, JsonWriter json)
+            throws IOException {
+        if (metadata) {
+            json.condition(JsonWriter.TYPE_REACHED, serialization.condition).name(TYPE).value(serialization.typeName);
+        } else {
+            json.condition(JsonWriter.TYPE_REACHABLE, serialization.condition).name(NAME).value(serialization.typeName);
+        }
+
+        if (serialization.customTargetConstructorClass != null) {
+            json.name(CUSTOM_TARGET_CONSTRUCTOR_CLASS).value(serialization.customTargetConstructorClass);
+        }
+    }
+
+    /**
+     * @param knownTypes types compiled together with annotated type and compiled before to discover subtypes in
+     */
+    static Serializations getAnnotationSerializations(TypeElement element,
+                                                      List<AnnotationMirror> annotations,
+                                                      Collection<TypeElement> knownTypes,
+                                                      HintCache cache) {
+        final List<Serialization> types = new ArrayList<>();
+        final List<Serialization> lambdaCapturingTypes = new ArrayList<>();
+        for (AnnotationMirror annotation : annotations) {
+            final String condition = cache.getCondition(annotation, element);
+            final String customTargetConstructorClass = HintUtils
+                    .getAnnotationFieldClassNames(annotation, "customTargetConstructorClass", cache).stream()
+                    .filter(c -> !Void.class.getName().equals(c))
+                    .findFirst()
+                    .orElse(null);
+
+            getAnnotationTypes(element, annotation, knownTypes, cache)
+                    .forEach(t -> types.add(new Serialization(t, customTargetConstructorClass, condition)));
+            HintUtils.getAnnotationFieldClassNames(annotation, "lambdaCapturingTypes", cache)
+                    .forEach(t -> lambdaCapturingTypes.add(new Serialization(t, null, condition)));
+        }
+
+        return new Serializations(types, lambdaCapturingTypes);
+    }
+
+    /**
+     * @param knownTypes types compiled together with annotated type and compiled before to discover subtypes in
+     * @return reflection accesses for types of hints with {@link SerializationHint#unsafeAllocated()}
+     */
+    static List<Access> getAnnotationAccesses(TypeElement element,
+                                              List<AnnotationMirror> annotations,
+                                              Collection<TypeElement> knownTypes,
+                                              HintCache cache) {
+        return annotations.stream()
+                .filter(a -> HintUtils.getAnnotationFieldValues(a, "unsafeAllocated").contains("true"))
+                .flatMap(a -> {
+                    final String condition = cache.getCondition(a, element);
+                    return getAnnotationTypes(element, a, knownTypes, cache).stream()
+                            .map(t -> new Access(t, new AccessType[] { AccessType.UNSAFE_ALLOCATED }, List.of(), List.of(),
+                                    condition));
+                })
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * @return specified types or annotated type, followed by their serializable subtypes
+     */
+    private static List<String> getAnnotationTypes(TypeElement element,
+                                                   AnnotationMirror annotation,
+                                                   Collection<TypeElement> knownTypes,
+                                                   HintCache cache) {
+        final List<String> types = HintUtils.getAnnotationFieldClassNames(annotation, "types", cache);
+        final List<String> typeNames = HintUtils.getAnnotationFieldClassNames(annotation, "typeNames", cache);
+        final List<String> roots = (types.isEmpty() && typeNames.isEmpty())
+                ? List.of(cache.getTypeName(element))
+                : Stream.concat(types.stream(), typeNames.stream()).collect(Collectors.toList());
+
+        if (HintUtils.getAnnotationFieldValues(annotation, "subtypes").contains("false")) {
+            return roots;
+        }
+
+        final Optional<TypeElement> serializable = cache.getTypeElement(Serializable.class.getName());
+        if (serializable.isEmpty()) {
+            return roots;
+        }
+
+        final Set<String> typesWithSubtypes = new LinkedHashSet<>(roots);
+        roots.stream()
+                .map(cache::getTypeElement)
+                .flatMap(Optional::stream)
+                .forEach(root -> knownTypes.stream()
+                        .filter(t -> isInstantiable(t) && cache.isSubtype(t, root) && cache.isSubtype(t, serializable.get()))
+                        .map(cache::getTypeName)
+                        .sorted()
+                        .forEach(typesWithSubtypes::add));
+        return List.copyOf(typesWithSubtypes);
+    }
+
+    private static boolean isInstantiable(TypeElement type) {
+        return type.getKind() != ElementKind.INTERFACE
+                && type.getKind() != ElementKind.ANNOTATION_TYPE
+                && !type.getModifiers().contains(Modifier.ABSTRACT);
+    }
+}
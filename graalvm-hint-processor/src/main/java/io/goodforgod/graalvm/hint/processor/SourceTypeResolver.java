@@ -0,0 +1,201 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import com.sun.source.tree.*;
+import java.util.Optional;
+import javax.lang.model.element.*;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+
+/**
+ * Resolves type names used in source code of compilation unit into types the same way compiler
+ * does, as trees of method bodies are not attributed yet while annotations are processed.
+ * <p>
+ * Names are resolved against member types of enclosing types, single type imports, same package,
+ * on demand imports and {@code java.lang} in that order, names that can't be resolved are not types
+ * (like variables) or are not available in compilation.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+final class SourceTypeResolver {
+
+    private static final String JAVA_LANG = "java.lang";
+
+    private final Elements elements;
+
+    SourceTypeResolver(Elements elements) {
+        this.elements = elements;
+    }
+
+    /**
+     * @param unit  that type name is used in
+     * @param scope type that type name is used in
+     * @param tree  type name like {@code Random}, {@code java.util.Random}, {@code Map.Entry} or
+     *                  {@code List<String>}
+     * @return type or empty if name is not resolved to type
+     */
+    Optional<TypeElement> getType(CompilationUnitTree unit, TypeElement scope, Tree tree) {
+        switch (tree.getKind()) {
+            case IDENTIFIER:
+                return getType(unit, scope, ((IdentifierTree) tree).getName().toString());
+            case MEMBER_SELECT:
+                final MemberSelectTree select = (MemberSelectTree) tree;
+                final String name = select.getIdentifier().toString();
+                final Optional<TypeElement> enclosing = getType(unit, scope, select.getExpression());
+                if (enclosing.isPresent()) {
+                    return getMemberType(enclosing.get(), name);
+                }
+
+                final String qualifiedName = getQualifiedName(select);
+                return (qualifiedName == null)
+                        ? Optional.empty()
+                        : Optional.ofNullable(elements.getTypeElement(qualifiedName));
+            case PARAMETERIZED_TYPE:
+                return getType(unit, scope, ((ParameterizedTypeTree) tree).getType());
+            case ANNOTATED_TYPE:
+                return getType(unit, scope, ((AnnotatedTypeTree) tree).getUnderlyingType());
+            default:
+                return Optional.empty();
+        }
+    }
+
+    /**
+     * @param unit  that method is called in
+     * @param scope type that method is called in
+     * @param name  of method called without qualifier, like {@code getenv("HOME")}
+     * @return type which static method is statically imported from, empty if method is declared by
+     *             scope or its enclosing types or is not imported
+     */
+    Optional<TypeElement> getStaticImportType(CompilationUnitTree unit, TypeElement scope, String name) {
+        for (Element type = scope; type instanceof TypeElement; type = type.getEnclosingElement()) {
+            if (hasMethod((TypeElement) type, name)) {
+                return Optional.empty();
+            }
+        }
+
+        for (ImportTree importTree : unit.getImports()) {
+            if (importTree.isStatic() && importTree.getQualifiedIdentifier() instanceof MemberSelectTree) {
+                final MemberSelectTree imported = (MemberSelectTree) importTree.getQualifiedIdentifier();
+                final String member = imported.getIdentifier().toString();
+                if (member.equals(name) || "*".equals(member)) {
+                    final String typeName = getQualifiedName(imported.getExpression());
+                    final TypeElement type = (typeName == null) ? null : elements.getTypeElement(typeName);
+                    if (type != null && hasMethod(type, name)) {
+                        return Optional.of(type);
+                    }
+                }
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * @param unit  that method is called in
+     * @param scope type that method is called in
+     * @param node  method call
+     * @return type which static method is called like {@code System.getenv()} or statically imported
+     *             method, empty if method is called on instance or is not resolved
+     */
+    Optional<TypeElement> getMethodType(CompilationUnitTree unit, TypeElement scope, MethodInvocationTree node) {
+        final ExpressionTree select = node.getMethodSelect();
+        if (select instanceof MemberSelectTree) {
+            return getType(unit, scope, ((MemberSelectTree) select).getExpression());
+        } else if (select instanceof IdentifierTree) {
+            return getStaticImportType(unit, scope, ((IdentifierTree) select).getName().toString());
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    private Optional<TypeElement> getType(CompilationUnitTree unit, TypeElement scope, String name) {
+        for (Element type = scope; type instanceof TypeElement; type = type.getEnclosingElement()) {
+            if (type.getSimpleName().contentEquals(name)) {
+                return Optional.of((TypeElement) type);
+            }
+
+            final Optional<TypeElement> member = getMemberType((TypeElement) type, name);
+            if (member.isPresent()) {
+                return member;
+            }
+        }
+
+        for (ImportTree importTree : unit.getImports()) {
+            if (!importTree.isStatic() && importTree.getQualifiedIdentifier() instanceof MemberSelectTree) {
+                final MemberSelectTree imported = (MemberSelectTree) importTree.getQualifiedIdentifier();
+                if (imported.getIdentifier().contentEquals(name)) {
+                    final String qualifiedName = getQualifiedName(imported);
+                    final TypeElement type = (qualifiedName == null) ? null : elements.getTypeElement(qualifiedName);
+                    if (type != null) {
+                        return Optional.of(type);
+                    }
+                }
+            }
+        }
+
+        final String packageName = (unit.getPackageName() == null) ? "" : unit.getPackageName().toString();
+        final TypeElement packageType = elements.getTypeElement(packageName.isEmpty() ? name : packageName + "." + name);
+        if (packageType != null) {
+            return Optional.of(packageType);
+        }
+
+        for (ImportTree importTree : unit.getImports()) {
+            if (!importTree.isStatic() && importTree.getQualifiedIdentifier() instanceof MemberSelectTree) {
+                final MemberSelectTree imported = (MemberSelectTree) importTree.getQualifiedIdentifier();
+                if (imported.getIdentifier().contentEquals("*")) {
+                    final String qualifiedName = getQualifiedName(imported.getExpression());
+                    final TypeElement type = (qualifiedName == null)
+                            ? null
+                            : elements.getTypeElement(qualifiedName + "." + name);
+                    if (type != null) {
+                        return Optional.of(type);
+                    }
+                }
+            }
+        }
+
+        return Optional.ofNullable(elements.getTypeElement(JAVA_LANG + "." + name));
+    }
+
+    private static Optional<TypeElement> getMemberType(TypeElement type, String name) {
+        return ElementFilter.typesIn(type.getEnclosedElements()).stream()
+                .filter(t -> t.getSimpleName().contentEquals(name))
+                .findFirst();
+    }
+
+    private static boolean hasMethod(TypeElement type, String name) {
+        return ElementFilter.methodsIn(type.getEnclosedElements()).stream()
+                .anyMatch(m -> m.getSimpleName().contentEquals(name));
+    }
+
+    /**
+     * @return name of called method without qualifier
+     */
+    static String getMethodName(MethodInvocationTree node) {
+        final ExpressionTree select = node.getMethodSelect();
+        if (select instanceof MemberSelectTree) {
+            return ((MemberSelectTree) select).getIdentifier().toString();
+        } else if (select instanceof IdentifierTree) {
+            return ((IdentifierTree) select).getName().toString();
+        } else {
+            return select.toString();
+        }
+    }
+
+    /**
+     * @return dotted name like {@code java.util.Random} or null if tree is not made of identifiers
+     */
+    static String getQualifiedName(Tree tree) {
+        if (tree instanceof IdentifierTree) {
+            return ((IdentifierTree) tree).getName().toString();
+        } else if (tree instanceof MemberSelectTree) {
+            final MemberSelectTree select = (MemberSelectTree) tree;
+            final String qualifier = getQualifiedName(select.getExpression());
+            return (qualifier == null)
+                    ? null
+                    : qualifier + "." + select.getIdentifier();
+        } else {
+            return null;
+        }
+    }
+}
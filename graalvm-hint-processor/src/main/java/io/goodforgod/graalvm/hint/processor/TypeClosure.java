@@ -0,0 +1,147 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import java.util.*;
+import javax.lang.model.element.*;
+import javax.lang.model.type.*;
+import javax.lang.model.util.ElementFilter;
+
+/**
+ * Walks types reachable from root type through field types, getter return types, generic type
+ * arguments, array component types and supertypes in breadth first order, so each type is reached
+ * with its shortest depth.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+final class TypeClosure {
+
+    /**
+     * JDK types are expected to be registered by native-image or explicitly
+     */
+    private static final List<String> JDK_PACKAGES = List.of("java", "javax", "jdk", "sun", "com.sun");
+
+    private final List<String> includePackages;
+    private final List<String> excludePackages;
+    private final int depth;
+
+    /**
+     * @param includePackages package prefixes which types can be reached, any if empty
+     * @param excludePackages package prefixes which types are not reached
+     * @param depth           max depth of reached types, root type has depth 0
+     */
+    TypeClosure(List<String> includePackages, List<String> excludePackages, int depth) {
+        this.includePackages = includePackages;
+        this.excludePackages = excludePackages;
+        this.depth = depth;
+    }
+
+    /**
+     * @param root type to walk from
+     * @return types reachable from root, without root itself
+     */
+    Set<TypeElement> getTypes(TypeElement root) {
+        final Set<TypeElement> visited = new LinkedHashSet<>();
+        visited.add(root);
+
+        final Deque<TypeElement> current = new ArrayDeque<>(List.of(root));
+        for (int level = 1; level <= depth && !current.isEmpty(); level++) {
+            final int size = current.size();
+            for (int i = 0; i < size; i++) {
+                for (TypeElement reached : getReferencedTypes(current.poll())) {
+                    if (isIncluded(reached) && visited.add(reached)) {
+                        current.add(reached);
+                    }
+                }
+            }
+        }
+
+        visited.remove(root);
+        return visited;
+    }
+
+    private static Set<TypeElement> getReferencedTypes(TypeElement type) {
+        final Set<TypeElement> referenced = new LinkedHashSet<>();
+        addTypes(type.getSuperclass(), referenced);
+        type.getInterfaces().forEach(i -> addTypes(i, referenced));
+
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            if (!field.getModifiers().contains(Modifier.STATIC)) {
+                addTypes(field.asType(), referenced);
+            }
+        }
+
+        for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            if (isGetter(method)) {
+                addTypes(method.getReturnType(), referenced);
+            }
+        }
+
+        return referenced;
+    }
+
+    private static boolean isGetter(ExecutableElement method) {
+        final String name = method.getSimpleName().toString();
+        return !method.getModifiers().contains(Modifier.STATIC)
+                && method.getParameters().isEmpty()
+                && method.getReturnType().getKind() != TypeKind.VOID
+                && ((name.startsWith("get") && name.length() > 3) || (name.startsWith("is") && name.length() > 2));
+    }
+
+    private static void addTypes(TypeMirror type, Set<TypeElement> types) {
+        switch (type.getKind()) {
+            case ARRAY:
+                addTypes(((ArrayType) type).getComponentType(), types);
+                break;
+            case DECLARED:
+                final DeclaredType declaredType = (DeclaredType) type;
+                types.add((TypeElement) declaredType.asElement());
+                declaredType.getTypeArguments().forEach(a -> addTypes(a, types));
+                break;
+            case TYPEVAR:
+                addTypes(((TypeVariable) type).getUpperBound(), types);
+                break;
+            case WILDCARD:
+                final WildcardType wildcardType = (WildcardType) type;
+                if (wildcardType.getExtendsBound() != null) {
+                    addTypes(wildcardType.getExtendsBound(), types);
+                }
+                if (wildcardType.getSuperBound() != null) {
+                    addTypes(wildcardType.getSuperBound(), types);
+                }
+                break;
+            case INTERSECTION:
+                ((IntersectionType) type).getBounds().forEach(b -> addTypes(b, types));
+                break;
+            default:
+                break;
+        }
+    }
+
+    private boolean isIncluded(TypeElement type) {
+        if (type.getKind() == ElementKind.ANNOTATION_TYPE) {
+            return false;
+        }
+
+        final String packageName = getPackageName(type);
+        return !isInPackages(packageName, JDK_PACKAGES)
+                && !isInPackages(packageName, excludePackages)
+                && (includePackages.isEmpty() || isInPackages(packageName, includePackages));
+    }
+
+    private static boolean isInPackages(String packageName, List<String> packages) {
+        for (String prefix : packages) {
+            if (packageName.equals(prefix) || packageName.startsWith(prefix + ".")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String getPackageName(TypeElement type) {
+        Element element = type;
+        while (element.getKind() != ElementKind.PACKAGE) {
+            element = element.getEnclosingElement();
+        }
+        return ((PackageElement) element).getQualifiedName().toString();
+    }
+}
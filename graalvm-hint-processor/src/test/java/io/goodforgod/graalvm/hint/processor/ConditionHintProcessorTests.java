@@ -0,0 +1,51 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.CompilationSubject;
+import com.google.testing.compile.Compiler;
+import com.google.testing.compile.JavaFileObjects;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import javax.tools.StandardLocation;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+class ConditionHintProcessorTests extends ProcessorRunner {
+
+    private static final List<String> FILES = List.of("reflect-config", "jni-config", "resource-config",
+            "dynamic-proxy-config");
+
+    @Test
+    void explicitCondition() {
+        final Compilation compilation = Compiler.javac()
+                .withProcessors(new HintProcessor())
+                .compile(JavaFileObjects.forResource("conditionhint/source/ConditionExplicit.java"));
+
+        CompilationSubject.assertThat(compilation).succeeded();
+        assertFiles(compilation, "explicit");
+    }
+
+    @Test
+    void annotatedTypeConditionWhenEnabled() {
+        final Compilation compilation = Compiler.javac()
+                .withProcessors(new HintProcessor())
+                .withOptions("-A" + HintOptions.HINT_CONDITION)
+                .compile(JavaFileObjects.forResource("conditionhint/source/ConditionSelf.java"));
+
+        CompilationSubject.assertThat(compilation).succeeded();
+        assertFiles(compilation, "self");
+    }
+
+    private void assertFiles(Compilation compilation, String suffix) {
+        for (String file : FILES) {
+            CompilationSubject.assertThat(compilation)
+                    .generatedFile(StandardLocation.CLASS_OUTPUT,
+                            "META-INF/native-image/io.goodforgod.graalvm.hint.processor/" + file + ".json")
+                    .contentsAsString(StandardCharsets.UTF_8)
+                    .isEqualTo(getResourceContentAsString("conditionhint/generated/" + file + "-" + suffix + ".json"));
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.CompilationSubject;
+import com.google.testing.compile.Compiler;
+import com.google.testing.compile.JavaFileObjects;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.stream.Collectors;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Compiles same sources in shuffled order and asserts that all hint files are byte-for-byte same
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+class DeterministicHintProcessorTests extends ProcessorRunner {
+
+    private static final int SHUFFLES = 10;
+
+    private static final List<String> SOURCES = List.of(
+            "nativeimagehint/source/Entrypoint.java",
+            "nativeimagehint/source/EntrypointOptions.java",
+            "dynamicproxyhint/source/Config.java",
+            "dynamicproxyhint/source/Resource.java",
+            "linkhint/source/Type.java",
+            "linkhint/source/TypeAndTypename.java",
+            "initializationhint/source/Build.java",
+            "reflectionhint/source/RequestOnly.java",
+            "reflectionhint/source/Response.java",
+            "reflectionhint/source/InnerClassUnnamed.java",
+            "resourcehint/source/ResourceInclude.java",
+            "jnihint/source/RequestOnlyManyAccess.java",
+            "deterministichint/source/OtherOptions.java",
+            "deterministichint/source/OtherLink.java");
+
+    @Test
+    void shuffledSourcesSameOutput() {
+        final Map<String, byte[]> expected = compile(SOURCES);
+        for (int seed = 0; seed < SHUFFLES; seed++) {
+            final List<String> shuffled = new ArrayList<>(SOURCES);
+            Collections.shuffle(shuffled, new Random(seed));
+
+            final Map<String, byte[]> actual = compile(shuffled);
+            assertEquals(expected.keySet(), actual.keySet(), "Files differ for sources: " + shuffled);
+            for (Map.Entry<String, byte[]> entry : expected.entrySet()) {
+                assertArrayEquals(entry.getValue(), actual.get(entry.getKey()),
+                        entry.getKey() + " differs for sources: " + shuffled);
+            }
+        }
+    }
+
+    @Test
+    void optionsOrderedByTypeName() {
+        final List<String> sources = List.of("deterministichint/source/OtherOptions.java",
+                "deterministichint/source/OtherLink.java");
+
+        final Compilation compilation = Compiler.javac()
+                .withProcessors(new HintProcessor())
+                .withOptions("-A" + HintOptions.HINT_DETERMINISTIC)
+                .compile(sources.stream().map(JavaFileObjects::forResource).collect(Collectors.toList()));
+
+        CompilationSubject.assertThat(compilation).succeeded();
+        CompilationSubject.assertThat(compilation)
+                .generatedFile(StandardLocation.CLASS_OUTPUT,
+                        "META-INF/native-image/io.goodforgod.graalvm.hint.processor.other/native-image.properties")
+                .contentsAsString(StandardCharsets.UTF_8)
+                .isEqualTo(getResourceContentAsString("deterministichint/generated/native-image.properties"));
+        CompilationSubject.assertThat(compilation)
+                .generatedFile(StandardLocation.CLASS_OUTPUT,
+                        "META-INF/native-image/io.goodforgod.graalvm.hint.processor.other/dynamic-proxy-config.json")
+                .contentsAsString(StandardCharsets.UTF_8)
+                .isEqualTo(getResourceContentAsString("deterministichint/generated/dynamic-proxy-config.json"));
+    }
+
+    private static Map<String, byte[]> compile(List<String> sources) {
+        final Compilation compilation = Compiler.javac()
+                .withProcessors(new HintProcessor())
+                .withOptions("-A" + HintOptions.HINT_DETERMINISTIC)
+                .compile(sources.stream().map(JavaFileObjects::forResource).collect(Collectors.toList()));
+
+        CompilationSubject.assertThat(compilation).succeeded();
+        final Map<String, byte[]> files = new TreeMap<>();
+        for (JavaFileObject file : compilation.generatedFiles()) {
+            if (file.getKind() != JavaFileObject.Kind.CLASS) {
+                try (InputStream stream = file.openInputStream()) {
+                    files.put(file.toUri().getPath(), stream.readAllBytes());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+
+        return files;
+    }
+}
@@ -117,4 +117,49 @@ void resourceAndConfigHintSeparateFiles() {
                 .contentsAsString(StandardCharsets.UTF_8)
                 .isEqualTo(getResourceContentAsString("dynamicproxyhint/generated/dynamic-proxy-hint-resource-and-config.json"));
     }
-}
+
+    @Test
+    void configHintForSourceGeneratedInNextRound() {
+        final SourceGeneratingProcessor generating = new SourceGeneratingProcessor(
+                "io.goodforgod.graalvm.hint.processor.Config",
+                getResourceContentAsString("dynamicproxyhint/source/Config.java"));
+
+        final Compilation compilation = Compiler.javac()
+                .withProcessors(generating, new NativeImageHintProcessor())
+                .compile(JavaFileObjects.forResource("dynamicproxyhint/source/Self.java"));
+
+        CompilationSubject.assertThat(compilation).succeeded();
+        CompilationSubject.assertThat(compilation)
+                .generatedFile(StandardLocation.CLASS_OUTPUT,
+                        "META-INF/native-image/io.goodforgod.graalvm.hint.processor/native-image.properties")
+                .contentsAsString(StandardCharsets.UTF_8)
+                .isEqualTo(getResourceContentAsString("dynamicproxyhint/generated/native-image-config.properties"));
+
+        CompilationSubject.assertThat(compilation)
+                .generatedFile(StandardLocation.CLASS_OUTPUT,
+                        "META-INF/native-image/io.goodforgod.graalvm.hint.processor/dynamic-proxy-config.json")
+                .contentsAsString(StandardCharsets.UTF_8)
+                .isEqualTo(getResourceContentAsString("dynamicproxyhint/generated/dynamic-proxy-hint-rounds.json"));
+    }
+
+    @Test
+    void proxyUsagesDetected() {
+        final Compilation compilation = Compiler.javac()
+                .withProcessors(new NativeImageHintProcessor())
+                .withOptions("-A" + HintOptions.HINT_DETECT)
+                .compile(JavaFileObjects.forResource("dynamicproxyhint/source/Detect.java"));
+
+        CompilationSubject.assertThat(compilation).succeeded();
+        CompilationSubject.assertThat(compilation)
+                .generatedFile(StandardLocation.CLASS_OUTPUT,
+                        "META-INF/native-image/io.goodforgod.graalvm.hint.processor/native-image.properties")
+                .contentsAsString(StandardCharsets.UTF_8)
+                .isEqualTo(getResourceContentAsString("dynamicproxyhint/generated/native-image-config.properties"));
+
+        CompilationSubject.assertThat(compilation)
+                .generatedFile(StandardLocation.CLASS_OUTPUT,
+                        "META-INF/native-image/io.goodforgod.graalvm.hint.processor/dynamic-proxy-config.json")
+                .contentsAsString(StandardCharsets.UTF_8)
+                .isEqualTo(getResourceContentAsString("dynamicproxyhint/generated/dynamic-proxy-hint-detect.json"));
+    }
+}
\ No newline at end of file
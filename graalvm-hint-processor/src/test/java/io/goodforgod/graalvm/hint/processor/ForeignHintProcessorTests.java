@@ -0,0 +1,86 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.CompilationSubject;
+import com.google.testing.compile.Compiler;
+import com.google.testing.compile.JavaFileObjects;
+import java.nio.charset.StandardCharsets;
+import javax.tools.StandardLocation;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+class ForeignHintProcessorTests extends ProcessorRunner {
+
+    @Test
+    void foreignHintDowncallsAndUpcalls() {
+        final Compilation compilation = Compiler.javac()
+                .withProcessors(new ForeignHintProcessor())
+                .compile(JavaFileObjects.forResource("foreignhint/source/NativeCalls.java"));
+
+        CompilationSubject.assertThat(compilation).succeeded();
+        CompilationSubject.assertThat(compilation)
+                .generatedFile(StandardLocation.CLASS_OUTPUT,
+                        "META-INF/native-image/io.goodforgod.graalvm.hint.processor/foreign-config.json")
+                .contentsAsString(StandardCharsets.UTF_8)
+                .isEqualTo(getResourceContentAsString("foreignhint/generated/foreign-config.json"));
+    }
+
+    @Test
+    void foreignHintReachabilityMetadata() {
+        final Compilation compilation = Compiler.javac()
+                .withProcessors(new HintProcessor())
+                .withOptions("-A" + HintOptions.HINT_REACHABILITY_METADATA)
+                .compile(JavaFileObjects.forResource("foreignhint/source/NativeCalls.java"));
+
+        CompilationSubject.assertThat(compilation).succeeded();
+        CompilationSubject.assertThat(compilation)
+                .generatedFile(StandardLocation.CLASS_OUTPUT,
+                        "META-INF/native-image/io.goodforgod.graalvm.hint.processor/reachability-metadata.json")
+                .contentsAsString(StandardCharsets.UTF_8)
+                .isEqualTo(getResourceContentAsString("foreignhint/generated/reachability-metadata.json"));
+    }
+
+    @Test
+    void foreignHintInvalidLayoutFails() {
+        final Compilation compilation = Compiler.javac()
+                .withProcessors(new ForeignHintProcessor())
+                .compile(JavaFileObjects.forResource("foreignhint/source/NativeCallsInvalid.java"));
+
+        CompilationSubject.assertThat(compilation).failed();
+        CompilationSubject.assertThat(compilation)
+                .hadErrorContaining("descriptor 'jint(void*, integer)' is invalid: parameter type 'integer' is unknown layout");
+    }
+
+    @Test
+    void foreignHintUpcallOptionsFails() {
+        final Compilation compilation = Compiler.javac()
+                .withProcessors(new ForeignHintProcessor())
+                .compile(JavaFileObjects.forResource("foreignhint/source/NativeCallsUpcallOptions.java"));
+
+        CompilationSubject.assertThat(compilation).failed();
+        CompilationSubject.assertThat(compilation).hadErrorContaining("upcall can't have 'critical'");
+    }
+
+    @Test
+    void layoutValidation() {
+        assertNull(ForeignHintProcessor.getLayoutError("jint"));
+        assertNull(ForeignHintProcessor.getLayoutError("long long"));
+        assertNull(ForeignHintProcessor.getLayoutError("struct(jint, x4, jlong)"));
+        assertNull(ForeignHintProcessor.getLayoutError("union(jint, struct(jbyte, [3:jbyte]))"));
+        assertNull(ForeignHintProcessor.getLayoutError("[16:struct(void*, size_t)]"));
+        assertEquals("'void' can be used only as return type", ForeignHintProcessor.getLayoutError("void"));
+        assertEquals("padding 'x4' can be used only as struct or union member", ForeignHintProcessor.getLayoutError("x4"));
+        assertEquals("'struct(x4)' must have at least one member that is not padding",
+                ForeignHintProcessor.getLayoutError("struct(x4)"));
+        assertEquals("'struct(jint' is missing ')'", ForeignHintProcessor.getLayoutError("struct(jint"));
+        assertEquals("'[0:jint]' sequence must start with positive element count like '[4:jint]'",
+                ForeignHintProcessor.getLayoutError("[0:jint]"));
+        assertEquals("'jint)' has unexpected ')'", ForeignHintProcessor.getLayoutError("jint)"));
+    }
+}
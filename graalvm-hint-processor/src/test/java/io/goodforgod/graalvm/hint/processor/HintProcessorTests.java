@@ -0,0 +1,107 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.CompilationSubject;
+import com.google.testing.compile.Compiler;
+import com.google.testing.compile.JavaFileObjects;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+class HintProcessorTests extends ProcessorRunner {
+
+    @Test
+    void allHintsSameAsSeparateProcessors() {
+        final Compilation compilation = Compiler.javac()
+                .withProcessors(new HintProcessor())
+                .compile(JavaFileObjects.forResource("nativeimagehint/source/Entrypoint.java"),
+                        JavaFileObjects.forResource("nativeimagehint/source/EntrypointOptions.java"),
+                        JavaFileObjects.forResource("resourcehint/source/ResourceInclude.java"),
+                        JavaFileObjects.forResource("jnihint/source/RequestOnly.java"));
+
+        CompilationSubject.assertThat(compilation).succeeded();
+        CompilationSubject.assertThat(compilation)
+                .generatedFile(StandardLocation.CLASS_OUTPUT,
+                        "META-INF/native-image/io.goodforgod.graalvm.hint.processor/native-image.properties")
+                .contentsAsString(StandardCharsets.UTF_8)
+                .isEqualTo(getResourceContentAsString("nativeimagehint/generated/native-image.properties"));
+        CompilationSubject.assertThat(compilation)
+                .generatedFile(StandardLocation.CLASS_OUTPUT,
+                        "META-INF/native-image/io.goodforgod.graalvm.hint.processor/resource-config.json")
+                .contentsAsString(StandardCharsets.UTF_8)
+                .isEqualTo(getResourceContentAsString("resourcehint/generated/resource-config-include.json"));
+        CompilationSubject.assertThat(compilation)
+                .generatedFile(StandardLocation.CLASS_OUTPUT,
+                        "META-INF/native-image/io.goodforgod.graalvm.hint.processor/jni-config.json")
+                .contentsAsString(StandardCharsets.UTF_8)
+                .isEqualTo(getResourceContentAsString("jnihint/generated/jni-config-only.json"));
+    }
+
+    @Test
+    void statisticsReportedWhenEnabled() {
+        final Compilation compilation = Compiler.javac()
+                .withProcessors(new HintProcessor())
+                .withOptions("-A" + HintOptions.HINT_STATISTICS)
+                .compile(JavaFileObjects.forResource("nativeimagehint/source/Entrypoint.java"),
+                        JavaFileObjects.forResource("reflectionhint/source/RequestOnly.java"));
+
+        CompilationSubject.assertThat(compilation).succeeded();
+        CompilationSubject.assertThat(compilation)
+                .hadNoteContaining("GraalVM Hint statistics for HintProcessor: rounds=1, elements=2");
+        CompilationSubject.assertThat(compilation)
+                .hadNoteContaining("GraalVM Hint statistics for ReflectionHintProcessor: rounds=0, elements=0, entries=1");
+        CompilationSubject.assertThat(compilation)
+                .hadNoteContaining("GraalVM Hint statistics for NativeImageHintParser: rounds=0, elements=1, entries=2");
+    }
+
+    @Test
+    void parallelSameAsSequential() {
+        final Map<String, byte[]> sequential = compile(List.of());
+        final Map<String, byte[]> parallel = compile(List.of("-A" + HintOptions.HINT_PARALLEL));
+
+        assertEquals(sequential.keySet(), parallel.keySet());
+        for (Map.Entry<String, byte[]> entry : sequential.entrySet()) {
+            assertArrayEquals(entry.getValue(), parallel.get(entry.getKey()), entry.getKey() + " differs");
+        }
+    }
+
+    private static Map<String, byte[]> compile(List<String> options) {
+        final Compilation compilation = Compiler.javac()
+                .withProcessors(new HintProcessor())
+                .withOptions(options.toArray())
+                .compile(JavaFileObjects.forResource("nativeimagehint/source/Entrypoint.java"),
+                        JavaFileObjects.forResource("dynamicproxyhint/source/Config.java"),
+                        JavaFileObjects.forResource("resourcehint/source/ResourceInclude.java"),
+                        JavaFileObjects.forResource("reflectionhint/source/Response.java"),
+                        JavaFileObjects.forResource("deterministichint/source/OtherLink.java"),
+                        JavaFileObjects.forResource("jnihint/source/RequestOnly.java"));
+
+        CompilationSubject.assertThat(compilation).succeeded();
+        final Map<String, byte[]> files = new TreeMap<>();
+        for (JavaFileObject file : compilation.generatedFiles()) {
+            if (file.getKind() != JavaFileObject.Kind.CLASS) {
+                try (InputStream stream = file.openInputStream()) {
+                    files.put(file.toUri().getPath(), stream.readAllBytes());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+
+        return files;
+    }
+}
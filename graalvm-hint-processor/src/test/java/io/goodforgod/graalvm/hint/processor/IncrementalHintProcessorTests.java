@@ -0,0 +1,329 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.annotation.processing.*;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.tools.*;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Emulates Gradle aggregating incremental compilation, where only changed sources are recompiled and
+ * unchanged annotated types are passed to processors as already compiled classes.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+class IncrementalHintProcessorTests extends ProcessorRunner {
+
+    private static final String PACKAGE = "io.goodforgod.graalvm.hint.processor";
+    private static final String RESOURCES = "src/test/resources/";
+
+    @Test
+    void processorsRegisteredAsAggregating() {
+        final List<String> processors = Arrays.asList(
+                getResourceContentAsString("META-INF/services/javax.annotation.processing.Processor").split("\n"));
+        final List<String> incremental = Arrays.asList(
+                getResourceContentAsString("META-INF/gradle/incremental.annotation.processors").split("\n"));
+
+        for (String processor : processors) {
+            assertTrue(incremental.contains(processor + ",aggregating"), processor + " is not registered as aggregating");
+        }
+    }
+
+    @Test
+    void reflectionHintIncrementalSameAsClean() throws IOException {
+        final String file = "META-INF/native-image/" + PACKAGE + "/reflect-config.json";
+        final List<String> sources = List.of("reflectionhint/source/RequestOnly.java", "reflectionhint/source/Response.java");
+
+        final Path clean = Files.createTempDirectory("hint-clean");
+        compile(new ReflectionHintProcessor(), clean, sources, List.of());
+
+        final Path incremental = Files.createTempDirectory("hint-incremental");
+        compile(new ReflectionHintProcessor(), incremental, sources, List.of());
+        compile(new ReflectionHintProcessor(), incremental, sources.subList(1, 2), List.of(PACKAGE + ".RequestOnly"));
+
+        assertEquals(Files.readString(clean.resolve(file)), Files.readString(incremental.resolve(file)));
+    }
+
+    @Test
+    void nativeImageHintIncrementalSameAsClean() throws IOException {
+        final String file = "META-INF/native-image/" + PACKAGE + "/native-image.properties";
+        final List<String> sources = List.of("nativeimagehint/source/Entrypoint.java",
+                "nativeimagehint/source/EntrypointOptions.java");
+
+        final Path clean = Files.createTempDirectory("hint-clean");
+        compile(new NativeImageHintProcessor(), clean, sources, List.of());
+
+        final Path incremental = Files.createTempDirectory("hint-incremental");
+        compile(new NativeImageHintProcessor(), incremental, sources, List.of());
+        compile(new NativeImageHintProcessor(), incremental, sources.subList(1, 2), List.of(PACKAGE + ".Entrypoint"));
+
+        assertEquals(Files.readString(clean.resolve(file)), Files.readString(incremental.resolve(file)));
+    }
+
+    @Test
+    void unchangedHintFileNotRewritten() throws IOException {
+        final String file = "META-INF/native-image/" + PACKAGE + "/reflect-config.json";
+        final List<String> sources = List.of("reflectionhint/source/RequestOnly.java", "reflectionhint/source/Response.java");
+        final List<String> options = List.of("-A" + HintOptions.HINT_SKIP_UNCHANGED);
+
+        final Path output = Files.createTempDirectory("hint-unchanged");
+        compile(new ReflectionHintProcessor(), output, sources, List.of(), options);
+        final FileTime initial = FileTime.fromMillis(1000);
+        Files.setLastModifiedTime(output.resolve(file), initial);
+
+        compile(new ReflectionHintProcessor(), output, sources, List.of(), options);
+        assertEquals(initial, Files.getLastModifiedTime(output.resolve(file)));
+
+        compile(new ReflectionHintProcessor(), output, sources.subList(0, 1), List.of(), options);
+        assertNotEquals(initial, Files.getLastModifiedTime(output.resolve(file)));
+        assertEquals(getResourceContentAsString("reflectionhint/generated/reflect-config-only.json"),
+                Files.readString(output.resolve(file)));
+    }
+
+    @Test
+    void unchangedHintFileCreatedViaFiler() throws IOException {
+        final String file = "META-INF/native-image/" + PACKAGE + "/reflect-config.json";
+        final List<String> sources = List.of("reflectionhint/source/RequestOnly.java", "reflectionhint/source/Response.java");
+        final List<String> options = List.of("-A" + HintOptions.HINT_SKIP_UNCHANGED);
+
+        final Path output = Files.createTempDirectory("hint-unchanged");
+        compile(new ReflectionHintProcessor(), output, sources, List.of(), options);
+        final FileTime initial = FileTime.fromMillis(1000);
+        Files.setLastModifiedTime(output.resolve(file), initial);
+
+        final ReopenProcessor reopen = new ReopenProcessor(new ReflectionHintProcessor(), file);
+        compile(reopen, output, sources, List.of(), options);
+        assertTrue(reopen.rejected, "Unchanged file wasn't created via Filer");
+        assertTrue(Files.exists(output.resolve(file)));
+        assertEquals(initial, Files.getLastModifiedTime(output.resolve(file)));
+    }
+
+    @Test
+    void journalRestoresTypesNotRecompiled() throws IOException {
+        final String file = "META-INF/native-image/" + PACKAGE + "/reflect-config.json";
+        final List<String> sources = List.of("reflectionhint/source/RequestOnly.java", "reflectionhint/source/Response.java");
+        final List<String> options = List.of("-A" + HintOptions.HINT_JOURNAL + "=" + Files.createTempDirectory("hint-journal"));
+
+        final Path clean = Files.createTempDirectory("hint-clean");
+        compile(new ReflectionHintProcessor(), clean, sources, List.of());
+
+        final Path incremental = Files.createTempDirectory("hint-incremental");
+        compile(new ReflectionHintProcessor(), incremental, sources, List.of(), options);
+        compile(new ReflectionHintProcessor(), incremental, sources.subList(1, 2), List.of(), options);
+        assertEquals(Files.readString(clean.resolve(file)), Files.readString(incremental.resolve(file)));
+
+        compile(new ReflectionHintProcessor(), incremental, sources.subList(1, 2), List.of(PACKAGE + ".RequestOnly"), options);
+        assertEquals(Files.readString(clean.resolve(file)), Files.readString(incremental.resolve(file)));
+    }
+
+    @Test
+    void journalDropsDeletedTypes() throws IOException {
+        final String file = "META-INF/native-image/" + PACKAGE + "/reflect-config.json";
+        final List<String> sources = List.of("reflectionhint/source/RequestOnly.java", "reflectionhint/source/Response.java");
+        final List<String> options = List.of("-A" + HintOptions.HINT_JOURNAL + "=" + Files.createTempDirectory("hint-journal"));
+
+        final Path output = Files.createTempDirectory("hint-incremental");
+        compile(new ReflectionHintProcessor(), output, sources, List.of(), options);
+        Files.delete(output.resolve(PACKAGE.replace('.', '/') + "/Response.class"));
+        compile(new ReflectionHintProcessor(), output, sources.subList(0, 1), List.of(), options);
+
+        assertEquals(getResourceContentAsString("reflectionhint/generated/reflect-config-only.json"),
+                Files.readString(output.resolve(file)));
+    }
+
+    @Test
+    void journalCorruptedIsRebuilt() throws IOException {
+        final String file = "META-INF/native-image/" + PACKAGE + "/reflect-config.json";
+        final List<String> sources = List.of("reflectionhint/source/RequestOnly.java", "reflectionhint/source/Response.java");
+        final Path journal = Files.createTempDirectory("hint-journal");
+        final List<String> options = List.of("-A" + HintOptions.HINT_JOURNAL + "=" + journal);
+
+        final Path clean = Files.createTempDirectory("hint-clean");
+        compile(new ReflectionHintProcessor(), clean, sources, List.of());
+
+        final Path incremental = Files.createTempDirectory("hint-incremental");
+        compile(new ReflectionHintProcessor(), incremental, sources, List.of(), options);
+        final Path journalFile = journal.resolve("ReflectionHintProcessor.journal");
+        final byte[] corrupted = Files.readAllBytes(journalFile);
+        corrupted[corrupted.length / 2] ^= 0x5A;
+        Files.write(journalFile, corrupted);
+
+        compile(new ReflectionHintProcessor(), incremental, sources, List.of(), options);
+        assertEquals(Files.readString(clean.resolve(file)), Files.readString(incremental.resolve(file)));
+
+        compile(new ReflectionHintProcessor(), incremental, sources.subList(1, 2), List.of(), options);
+        assertEquals(Files.readString(clean.resolve(file)), Files.readString(incremental.resolve(file)));
+    }
+
+    @Test
+    void initializationDiscoveryIncrementalSameAsClean() throws IOException {
+        final String file = "META-INF/native-image/" + PACKAGE + "/native-image.properties";
+        final List<String> sources = List.of("initializationhint/source/DiscoverIncremental.java",
+                "initializationhint/source/DiscoverIncrementalPatterns.java");
+        final List<String> options = List.of("-A" + HintOptions.HINT_JOURNAL + "=" + Files.createTempDirectory("hint-journal"));
+
+        final Path clean = Files.createTempDirectory("hint-clean");
+        compile(new NativeImageHintProcessor(), clean, sources, List.of());
+
+        final Path incremental = Files.createTempDirectory("hint-incremental");
+        compile(new NativeImageHintProcessor(), incremental, sources, List.of(), options);
+        compile(new NativeImageHintProcessor(), incremental, sources.subList(0, 1), List.of(), options);
+        assertEquals(Files.readString(clean.resolve(file)), Files.readString(incremental.resolve(file)));
+
+        final Path withoutJournal = Files.createTempDirectory("hint-incremental");
+        compile(new NativeImageHintProcessor(), withoutJournal, sources, List.of());
+        compile(new NativeImageHintProcessor(), withoutJournal, sources.subList(0, 1), List.of());
+    }
+
+    @Test
+    void serializationSubtypesIncrementalSameAsClean() throws IOException {
+        final String file = "META-INF/native-image/" + PACKAGE + "/serialization-config.json";
+        final List<String> sources = List.of("serializationhint/source/SessionIncremental.java",
+                "serializationhint/source/SessionIncrementalGuest.java");
+        final List<String> options = List.of("-A" + HintOptions.HINT_JOURNAL + "=" + Files.createTempDirectory("hint-journal"));
+
+        final Path clean = Files.createTempDirectory("hint-clean");
+        compile(new SerializationHintProcessor(), clean, sources, List.of());
+        assertTrue(Files.readString(clean.resolve(file)).contains(PACKAGE + ".SessionIncrementalGuest"));
+
+        final Path incremental = Files.createTempDirectory("hint-incremental");
+        compile(new SerializationHintProcessor(), incremental, sources, List.of(), options);
+        compile(new SerializationHintProcessor(), incremental, sources.subList(0, 1), List.of(), options);
+        assertEquals(Files.readString(clean.resolve(file)), Files.readString(incremental.resolve(file)));
+    }
+
+    @Test
+    void initializationDependencyConflictIncrementalSameAsClean() throws IOException {
+        final List<String> sources = List.of("initializationhint/source/ClosureIncrementalRegistry.java",
+                "initializationhint/source/ClosureIncrementalHolder.java",
+                "initializationhint/source/ClosureIncrementalCodes.java");
+        final List<String> options = List.of("-A" + HintOptions.HINT_JOURNAL + "=" + Files.createTempDirectory("hint-journal"));
+
+        final Path clean = Files.createTempDirectory("hint-clean");
+        assertFalse(call(new NativeImageHintProcessor(), clean, sources, List.of(), List.of()));
+
+        final Path incremental = Files.createTempDirectory("hint-incremental");
+        compile(new NativeImageHintProcessor(), incremental, sources.subList(1, 3), List.of(), options);
+        assertFalse(call(new NativeImageHintProcessor(), incremental, sources.subList(0, 1),
+                List.of(PACKAGE + ".ClosureIncrementalCodes"), options));
+    }
+
+    private static void compile(Processor processor, Path output, List<String> sources, List<String> classes)
+            throws IOException {
+        compile(processor, output, sources, classes, List.of());
+    }
+
+    private static void compile(Processor processor,
+                                Path output,
+                                List<String> sources,
+                                List<String> classes,
+                                List<String> options)
+            throws IOException {
+        assertTrue(call(processor, output, sources, classes, options), "Compilation failed for: " + sources);
+    }
+
+    /**
+     * @return true if compilation succeeded
+     */
+    private static boolean call(Processor processor,
+                                Path output,
+                                List<String> sources,
+                                List<String> classes,
+                                List<String> options)
+            throws IOException {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+            fileManager.setLocation(StandardLocation.CLASS_OUTPUT, List.of(output.toFile()));
+            final List<File> files = sources.stream()
+                    .map(s -> new File(RESOURCES + s))
+                    .collect(Collectors.toList());
+
+            final String classpath = output + File.pathSeparator + System.getProperty("java.class.path");
+            final List<String> compilerOptions = new ArrayList<>(options);
+            compilerOptions.addAll(List.of("-classpath", classpath));
+            final JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null,
+                    compilerOptions, classes, fileManager.getJavaFileObjectsFromFiles(files));
+            task.setProcessors(List.of(processor));
+            return task.call();
+        }
+    }
+
+    /**
+     * Delegates to processor and tries to create resource after it at processing over, which {@link Filer}
+     * rejects if resource was already created
+     */
+    private static final class ReopenProcessor implements Processor {
+
+        private final Processor processor;
+        private final String file;
+        private ProcessingEnvironment processingEnv;
+        private boolean rejected = false;
+
+        private ReopenProcessor(Processor processor, String file) {
+            this.processor = processor;
+            this.file = file;
+        }
+
+        @Override
+        public Set<String> getSupportedOptions() {
+            return processor.getSupportedOptions();
+        }
+
+        @Override
+        public Set<String> getSupportedAnnotationTypes() {
+            return processor.getSupportedAnnotationTypes();
+        }
+
+        @Override
+        public SourceVersion getSupportedSourceVersion() {
+            return processor.getSupportedSourceVersion();
+        }
+
+        @Override
+        public void init(ProcessingEnvironment processingEnv) {
+            this.processingEnv = processingEnv;
+            processor.init(processingEnv);
+        }
+
+        @Override
+        public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+            final boolean processed = processor.process(annotations, roundEnv);
+            if (roundEnv.processingOver()) {
+                try {
+                    processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", file);
+                } catch (FilerException e) {
+                    rejected = true;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            return processed;
+        }
+
+        @Override
+        public Iterable<? extends Completion> getCompletions(Element element,
+                                                             AnnotationMirror annotation,
+                                                             ExecutableElement member,
+                                                             String userText) {
+            return processor.getCompletions(element, annotation, member, userText);
+        }
+    }
+}
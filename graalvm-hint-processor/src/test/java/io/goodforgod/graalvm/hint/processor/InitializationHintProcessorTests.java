@@ -70,4 +70,111 @@ void initializationHintEntrypointAndBuildAndRuntime() {
                 .isEqualTo(getResourceContentAsString(
                         "initializationhint/generated/native-image-entrypoint-build-runtime.properties"));
     }
-}
+
+    @Test
+    void buildUnsafeStaticInitializerReported() {
+        final Compilation compilation = Compiler.javac()
+                .withProcessors(new NativeImageHintProcessor())
+                .withOptions("-A" + HintOptions.HINT_INITIALIZATION_VERIFY, "-A" + HintOptions.HINT_INITIALIZATION_TRACE)
+                .compile(JavaFileObjects.forResource("initializationhint/source/BuildUnsafe.java"));
+
+        CompilationSubject.assertThat(compilation).succeeded();
+        CompilationSubject.assertThat(compilation).hadWarningCount(4);
+        CompilationSubject.assertThat(compilation).hadWarningContaining("uses new Random(): random seed is captured");
+        CompilationSubject.assertThat(compilation).hadWarningContaining("uses System.getenv()");
+        CompilationSubject.assertThat(compilation).hadWarningContaining("uses System.nanoTime()");
+        CompilationSubject.assertThat(compilation).hadWarningContaining("uses new Thread()");
+        CompilationSubject.assertThat(compilation)
+                .generatedFile(StandardLocation.CLASS_OUTPUT,
+                        "META-INF/native-image/io.goodforgod.graalvm.hint.processor/native-image.properties")
+                .contentsAsString(StandardCharsets.UTF_8)
+                .isEqualTo(getResourceContentAsString("initializationhint/generated/native-image-build-trace.properties"));
+    }
+
+    @Test
+    void buildUnsafeStaticInitializerSkippedWithoutTrees() {
+        final Compilation compilation = Compiler.javac()
+                .withProcessors(new WrappedEnvironmentProcessor(new NativeImageHintProcessor()))
+                .withOptions("-A" + HintOptions.HINT_INITIALIZATION_VERIFY)
+                .compile(JavaFileObjects.forResource("initializationhint/source/BuildUnsafe.java"));
+
+        CompilationSubject.assertThat(compilation).succeeded();
+        CompilationSubject.assertThat(compilation).hadWarningCount(1);
+        CompilationSubject.assertThat(compilation).hadWarningContaining("Compiler source trees are not available in");
+        CompilationSubject.assertThat(compilation).hadWarningContaining("skipping: static initializer verification");
+    }
+
+    @Test
+    void buildUnsafeStaticInitializerNotVerifiedByDefault() {
+        final Compilation compilation = Compiler.javac()
+                .withProcessors(new NativeImageHintProcessor())
+                .compile(JavaFileObjects.forResource("initializationhint/source/BuildUnsafe.java"));
+
+        CompilationSubject.assertThat(compilation).succeededWithoutWarnings();
+    }
+
+    @Test
+    void discoverBuildTimeSafeTypes() {
+        final Compilation compilation = Compiler.javac()
+                .withProcessors(new NativeImageHintProcessor())
+                .compile(JavaFileObjects.forResource("initializationhint/source/Discover.java"));
+
+        CompilationSubject.assertThat(compilation).succeeded();
+        CompilationSubject.assertThat(compilation)
+                .hadNoteContaining("rejected io.goodforgod.graalvm.hint.processor.Discover$Environment: "
+                        + "static field 'HOME' calls System.getenv()");
+        CompilationSubject.assertThat(compilation)
+                .hadNoteContaining("Discover$UsesEnvironment: static field 'HOME' reads Environment.HOME");
+        CompilationSubject.assertThat(compilation).hadNoteContaining("Discover$Counter: has non-final static field 'count'");
+        CompilationSubject.assertThat(compilation).hadNoteContaining("Discover$Block: has static initializer block");
+        CompilationSubject.assertThat(compilation)
+                .hadNoteContaining("Discover$Mutable: static field 'NAMES' creates new ArrayList()");
+        CompilationSubject.assertThat(compilation)
+                .generatedFile(StandardLocation.CLASS_OUTPUT,
+                        "META-INF/native-image/io.goodforgod.graalvm.hint.processor/native-image.properties")
+                .contentsAsString(StandardCharsets.UTF_8)
+                .isEqualTo(getResourceContentAsString("initializationhint/generated/native-image-discover.properties"));
+    }
+
+    @Test
+    void discoverRuntimeIsInvalid() {
+        final Compilation compilation = Compiler.javac()
+                .withProcessors(new NativeImageHintProcessor())
+                .compile(JavaFileObjects.forResource("initializationhint/source/DiscoverRuntime.java"));
+
+        CompilationSubject.assertThat(compilation).failed();
+        CompilationSubject.assertThat(compilation).hadErrorContaining("only BUILD phase can be discovered");
+    }
+
+    @Test
+    void closureAddsSafeDependencies() {
+        final Compilation compilation = Compiler.javac()
+                .withProcessors(new NativeImageHintProcessor())
+                .withOptions("-A" + HintOptions.HINT_INITIALIZATION_CLOSURE)
+                .compile(JavaFileObjects.forResource("initializationhint/source/Closure.java"));
+
+        CompilationSubject.assertThat(compilation).succeeded();
+        CompilationSubject.assertThat(compilation).hadWarningCount(1);
+        CompilationSubject.assertThat(compilation).hadWarningContaining("Closure$Started is initialized at build time by "
+                + "static initializer of io.goodforgod.graalvm.hint.processor.Closure$Registry");
+        CompilationSubject.assertThat(compilation).hadWarningContaining("static field 'AT' calls System.currentTimeMillis()");
+        CompilationSubject.assertThat(compilation)
+                .generatedFile(StandardLocation.CLASS_OUTPUT,
+                        "META-INF/native-image/io.goodforgod.graalvm.hint.processor/native-image.properties")
+                .contentsAsString(StandardCharsets.UTF_8)
+                .isEqualTo(getResourceContentAsString("initializationhint/generated/native-image-closure.properties"));
+    }
+
+    @Test
+    void closureDependencyInitializedAtRuntimeIsInvalid() {
+        final Compilation compilation = Compiler.javac()
+                .withProcessors(new NativeImageHintProcessor())
+                .compile(JavaFileObjects.forResource("initializationhint/source/ClosureConflict.java"));
+
+        CompilationSubject.assertThat(compilation).failed();
+        CompilationSubject.assertThat(compilation)
+                .hadErrorContaining("(io.goodforgod.graalvm.hint.processor.ClosureConflict$Registry"
+                        + " -> io.goodforgod.graalvm.hint.processor.ClosureConflict$Holder"
+                        + " -> io.goodforgod.graalvm.hint.processor.ClosureConflict$Codes)");
+    }
+}
\ No newline at end of file
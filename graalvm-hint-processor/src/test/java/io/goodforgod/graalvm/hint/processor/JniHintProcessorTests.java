@@ -70,4 +70,32 @@ void jniHintForMultipleAccessHints() {
                 .contentsAsString(StandardCharsets.UTF_8)
                 .isEqualTo(getResourceContentAsString("jnihint/generated/jni-config-only-many-access.json"));
     }
+
+    @Test
+    void jniHintQueryOnly() {
+        final Compilation compilation = Compiler.javac()
+                .withProcessors(new JniHintProcessor())
+                .compile(JavaFileObjects.forResource("jnihint/source/RequestQuery.java"));
+
+        CompilationSubject.assertThat(compilation).succeeded();
+        CompilationSubject.assertThat(compilation)
+                .generatedFile(StandardLocation.CLASS_OUTPUT,
+                        "META-INF/native-image/io.goodforgod.graalvm.hint.processor/jni-config.json")
+                .contentsAsString(StandardCharsets.UTF_8)
+                .isEqualTo(getResourceContentAsString("jnihint/generated/jni-config-query.json"));
+    }
+
+    @Test
+    void jniHintMergesAccessTypes() {
+        final Compilation compilation = Compiler.javac()
+                .withProcessors(new JniHintProcessor())
+                .compile(JavaFileObjects.forResource("jnihint/source/MergeAccess.java"));
+
+        CompilationSubject.assertThat(compilation).succeeded();
+        CompilationSubject.assertThat(compilation)
+                .generatedFile(StandardLocation.CLASS_OUTPUT,
+                        "META-INF/native-image/io.goodforgod.graalvm.hint.processor/jni-config.json")
+                .contentsAsString(StandardCharsets.UTF_8)
+                .isEqualTo(getResourceContentAsString("jnihint/generated/jni-config-merge.json"));
+    }
 }
@@ -0,0 +1,64 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.CompilationSubject;
+import com.google.testing.compile.Compiler;
+import com.google.testing.compile.JavaFileObjects;
+import java.nio.charset.StandardCharsets;
+import javax.tools.StandardLocation;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+class LocaleHintProcessorTests extends ProcessorRunner {
+
+    @Test
+    void localesAndDefaultLocale() {
+        final Compilation compilation = Compiler.javac()
+                .withProcessors(new NativeImageHintProcessor())
+                .compile(JavaFileObjects.forResource("localehint/source/Locales.java"));
+
+        CompilationSubject.assertThat(compilation).succeeded();
+        CompilationSubject.assertThat(compilation)
+                .generatedFile(StandardLocation.CLASS_OUTPUT,
+                        "META-INF/native-image/io.goodforgod.graalvm.hint.processor/native-image.properties")
+                .contentsAsString(StandardCharsets.UTF_8)
+                .isEqualTo(getResourceContentAsString("localehint/generated/native-image-locales.properties"));
+    }
+
+    @Test
+    void nonDefaultCharset() {
+        final Compilation compilation = Compiler.javac()
+                .withProcessors(new NativeImageHintProcessor())
+                .compile(JavaFileObjects.forResource("localehint/source/LocalesCharsets.java"));
+
+        CompilationSubject.assertThat(compilation).succeeded();
+        CompilationSubject.assertThat(compilation)
+                .generatedFile(StandardLocation.CLASS_OUTPUT,
+                        "META-INF/native-image/io.goodforgod.graalvm.hint.processor/native-image.properties")
+                .contentsAsString(StandardCharsets.UTF_8)
+                .isEqualTo(getResourceContentAsString("localehint/generated/native-image-charsets.properties"));
+    }
+
+    @Test
+    void invalidLocale() {
+        final Compilation compilation = Compiler.javac()
+                .withProcessors(new NativeImageHintProcessor())
+                .compile(JavaFileObjects.forResource("localehint/source/LocalesInvalid.java"));
+
+        CompilationSubject.assertThat(compilation).failed();
+        CompilationSubject.assertThat(compilation).hadErrorContaining("invalid locale 'english'");
+    }
+
+    @Test
+    void conflictingDefaultLocales() {
+        final Compilation compilation = Compiler.javac()
+                .withProcessors(new NativeImageHintProcessor())
+                .compile(JavaFileObjects.forResource("localehint/source/LocalesConflict.java"));
+
+        CompilationSubject.assertThat(compilation).failed();
+        CompilationSubject.assertThat(compilation).hadErrorContaining("conflicting default locales [de, en]");
+    }
+}
@@ -28,6 +28,20 @@ void nativeImageHintEntrypoint() {
                 .isEqualTo(getResourceContentAsString("nativeimagehint/generated/native-image-only.properties"));
     }
 
+    @Test
+    void nativeImageHintEntrypointInnerClass() {
+        final Compilation compilation = Compiler.javac()
+                .withProcessors(new NativeImageHintProcessor())
+                .compile(JavaFileObjects.forResource("nativeimagehint/source/EntrypointInner.java"));
+
+        CompilationSubject.assertThat(compilation).succeeded();
+        CompilationSubject.assertThat(compilation)
+                .generatedFile(StandardLocation.CLASS_OUTPUT,
+                        "META-INF/native-image/io.goodforgod.graalvm.hint.processor/native-image.properties")
+                .contentsAsString(StandardCharsets.UTF_8)
+                .isEqualTo(getResourceContentAsString("nativeimagehint/generated/native-image-inner.properties"));
+    }
+
     @Test
     void nativeImageHintMultipleClassesMultipleAnnotations() {
         final Compilation compilation = Compiler.javac()
@@ -56,4 +70,22 @@ void nativeImageHintOptionsOnly() {
                 .contentsAsString(StandardCharsets.UTF_8)
                 .isEqualTo(getResourceContentAsString("nativeimagehint/generated/native-image-options.properties"));
     }
+
+    @Test
+    void nativeImageHintForSourceGeneratedInNextRound() {
+        final SourceGeneratingProcessor generating = new SourceGeneratingProcessor(
+                "io.goodforgod.graalvm.hint.processor.EntrypointOptions",
+                getResourceContentAsString("nativeimagehint/source/EntrypointOptions.java"));
+
+        final Compilation compilation = Compiler.javac()
+                .withProcessors(generating, new NativeImageHintProcessor())
+                .compile(JavaFileObjects.forResource("nativeimagehint/source/Entrypoint.java"));
+
+        CompilationSubject.assertThat(compilation).succeeded();
+        CompilationSubject.assertThat(compilation)
+                .generatedFile(StandardLocation.CLASS_OUTPUT,
+                        "META-INF/native-image/io.goodforgod.graalvm.hint.processor/native-image.properties")
+                .contentsAsString(StandardCharsets.UTF_8)
+                .isEqualTo(getResourceContentAsString("nativeimagehint/generated/native-image.properties"));
+    }
 }
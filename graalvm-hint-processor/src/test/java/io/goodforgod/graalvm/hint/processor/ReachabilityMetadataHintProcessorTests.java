@@ -0,0 +1,82 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.CompilationSubject;
+import com.google.testing.compile.Compiler;
+import com.google.testing.compile.JavaFileObjects;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+class ReachabilityMetadataHintProcessorTests extends ProcessorRunner {
+
+    private static final List<String> SOURCES = List.of(
+            "reachabilitymetadatahint/source/ResourceGlob.java",
+            "reflectionhint/source/MemberAnnotated.java",
+            "jnihint/source/RequestOnly.java",
+            "dynamicproxyhint/source/Config.java",
+            "nativeimagehint/source/EntrypointOptions.java");
+
+    @Test
+    void allHintsInSingleFile() {
+        final Compilation compilation = Compiler.javac()
+                .withProcessors(new HintProcessor())
+                .withOptions("-A" + HintOptions.HINT_REACHABILITY_METADATA)
+                .compile(SOURCES.stream().map(JavaFileObjects::forResource).collect(Collectors.toList()));
+
+        CompilationSubject.assertThat(compilation).succeeded();
+        CompilationSubject.assertThat(compilation)
+                .generatedFile(StandardLocation.CLASS_OUTPUT,
+                        "META-INF/native-image/io.goodforgod.graalvm.hint.processor/reachability-metadata.json")
+                .contentsAsString(StandardCharsets.UTF_8)
+                .isEqualTo(getResourceContentAsString("reachabilitymetadatahint/generated/reachability-metadata.json"));
+        CompilationSubject.assertThat(compilation)
+                .generatedFile(StandardLocation.CLASS_OUTPUT,
+                        "META-INF/native-image/io.goodforgod.graalvm.hint.processor/native-image.properties")
+                .contentsAsString(StandardCharsets.UTF_8)
+                .isEqualTo(getResourceContentAsString("reachabilitymetadatahint/generated/native-image.properties"));
+
+        final Set<String> files = compilation.generatedFiles().stream()
+                .filter(f -> f.getKind() != JavaFileObject.Kind.CLASS)
+                .map(f -> f.toUri().getPath().substring(f.toUri().getPath().lastIndexOf('/') + 1))
+                .collect(Collectors.toSet());
+        assertEquals(Set.of("native-image.properties", "reachability-metadata.json"), files);
+    }
+
+    @Test
+    void regexpIncludeFails() {
+        final Compilation compilation = Compiler.javac()
+                .withProcessors(new HintProcessor())
+                .withOptions("-A" + HintOptions.HINT_REACHABILITY_METADATA)
+                .compile(JavaFileObjects.forResource("reachabilitymetadatahint/source/ResourceRegexp.java"));
+
+        CompilationSubject.assertThat(compilation).failed();
+        CompilationSubject.assertThat(compilation).hadErrorContaining("'[a-z]+\\.yml' can't be written as glob");
+    }
+
+    @Test
+    void resourcePatternToGlob() {
+        assertEquals("application.yml", ResourceHintProcessor.getGlob("application.yml"));
+        assertEquals("**/*.yaml", ResourceHintProcessor.getGlob(".*\\.yaml"));
+        assertEquals("**", ResourceHintProcessor.getGlob(".*"));
+        assertEquals("META-INF/**", ResourceHintProcessor.getGlob("META-INF/.*"));
+        assertEquals("static/**/index.html", ResourceHintProcessor.getGlob("static/.*/index\\.html"));
+        assertEquals("app-*.yml", ResourceHintProcessor.getGlob("^app-.*\\.yml$"));
+        assertEquals("data.json", ResourceHintProcessor.getGlob("\\Qdata.json\\E"));
+        assertNull(ResourceHintProcessor.getGlob("[a-z]+\\.yml"));
+        assertNull(ResourceHintProcessor.getGlob("app\\d\\.yml"));
+        assertNull(ResourceHintProcessor.getGlob("(app|web)\\.yml"));
+        assertNull(ResourceHintProcessor.getGlob("app\\*.yml"));
+    }
+}
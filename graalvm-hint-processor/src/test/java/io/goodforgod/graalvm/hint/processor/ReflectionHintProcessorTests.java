@@ -28,6 +28,53 @@ void reflectionHintSelf() {
                 .isEqualTo(getResourceContentAsString("reflectionhint/generated/reflect-config-only.json"));
     }
 
+    @Test
+    void reflectionHintSelfCompact() {
+        final Compilation compilation = Compiler.javac()
+                .withProcessors(new ReflectionHintProcessor())
+                .withOptions("-A" + HintOptions.HINT_JSON_PRETTY + "=false")
+                .compile(JavaFileObjects.forResource("reflectionhint/source/RequestOnly.java"));
+
+        CompilationSubject.assertThat(compilation).succeeded();
+        CompilationSubject.assertThat(compilation)
+                .generatedFile(StandardLocation.CLASS_OUTPUT,
+                        "META-INF/native-image/io.goodforgod.graalvm.hint.processor/reflect-config.json")
+                .contentsAsString(StandardCharsets.UTF_8)
+                .isEqualTo(getResourceContentAsString("reflectionhint/generated/reflect-config-only-compact.json"));
+    }
+
+    @Test
+    void reflectionHintInvalidOptionWarned() {
+        final Compilation compilation = Compiler.javac()
+                .withProcessors(new HintProcessor())
+                .withOptions("-A" + HintOptions.HINT_JSON_PRETTY + "=flase")
+                .compile(JavaFileObjects.forResource("reflectionhint/source/RequestOnly.java"));
+
+        CompilationSubject.assertThat(compilation).succeeded();
+        CompilationSubject.assertThat(compilation).hadWarningCount(1);
+        CompilationSubject.assertThat(compilation)
+                .hadWarningContaining("Invalid graalvm.hint.json.pretty option value 'flase', default value is used: true");
+        CompilationSubject.assertThat(compilation)
+                .generatedFile(StandardLocation.CLASS_OUTPUT,
+                        "META-INF/native-image/io.goodforgod.graalvm.hint.processor/reflect-config.json")
+                .contentsAsString(StandardCharsets.UTF_8)
+                .isEqualTo(getResourceContentAsString("reflectionhint/generated/reflect-config-only.json"));
+    }
+
+    @Test
+    void reflectionHintTypeNamesEscaped() {
+        final Compilation compilation = Compiler.javac()
+                .withProcessors(new ReflectionHintProcessor())
+                .compile(JavaFileObjects.forResource("reflectionhint/source/RequestEscaped.java"));
+
+        CompilationSubject.assertThat(compilation).succeeded();
+        CompilationSubject.assertThat(compilation)
+                .generatedFile(StandardLocation.CLASS_OUTPUT,
+                        "META-INF/native-image/io.goodforgod.graalvm.hint.processor/reflect-config.json")
+                .contentsAsString(StandardCharsets.UTF_8)
+                .isEqualTo(getResourceContentAsString("reflectionhint/generated/reflect-config-escaped.json"));
+    }
+
     @Test
     void reflectionHintForMultipleAnnotations() {
         final Compilation compilation = Compiler.javac()
@@ -87,6 +134,21 @@ void reflectionHintForMultipleAccessHints() {
                 .isEqualTo(getResourceContentAsString("reflectionhint/generated/reflect-config-only-many-access.json"));
     }
 
+    @Test
+    void reflectionHintMergesAccessTypesAndMembers() {
+        final Compilation compilation = Compiler.javac()
+                .withProcessors(new ReflectionHintProcessor())
+                .compile(JavaFileObjects.forResource("reflectionhint/source/MergeAccess.java"),
+                        JavaFileObjects.forResource("reflectionhint/source/MergeAccessOther.java"));
+
+        CompilationSubject.assertThat(compilation).succeeded();
+        CompilationSubject.assertThat(compilation)
+                .generatedFile(StandardLocation.CLASS_OUTPUT,
+                        "META-INF/native-image/io.goodforgod.graalvm.hint.processor/reflect-config.json")
+                .contentsAsString(StandardCharsets.UTF_8)
+                .isEqualTo(getResourceContentAsString("reflectionhint/generated/reflect-config-merge.json"));
+    }
+
     @Test
     void reflectionHintForInnerClass() {
         final Compilation compilation = Compiler.javac()
@@ -129,6 +191,20 @@ void reflectionHintForInnerInnerClass() {
                 .isEqualTo(getResourceContentAsString("reflectionhint/generated/reflect-config-inner-inner-class.json"));
     }
 
+    @Test
+    void reflectionHintForInnerClassLowerCase() {
+        final Compilation compilation = Compiler.javac()
+                .withProcessors(new ReflectionHintProcessor())
+                .compile(JavaFileObjects.forResource("reflectionhint/source/InnerClassLowerCase.java"));
+
+        CompilationSubject.assertThat(compilation).succeeded();
+        CompilationSubject.assertThat(compilation)
+                .generatedFile(StandardLocation.CLASS_OUTPUT,
+                        "META-INF/native-image/io.goodforgod.graalvm.hint.processor/reflect-config.json")
+                .contentsAsString(StandardCharsets.UTF_8)
+                .isEqualTo(getResourceContentAsString("reflectionhint/generated/reflect-config-inner-class-lower-case.json"));
+    }
+
     @Test
     void reflectionHintForInnerInnerClassSelf() {
         final Compilation compilation = Compiler.javac()
@@ -170,4 +246,131 @@ void reflectionHintForInnerClassSelfUnnamed() {
                 .contentsAsString(StandardCharsets.UTF_8)
                 .isEqualTo(getResourceContentAsString("reflectionhint/generated/reflect-config-inner-self-unnamed.json"));
     }
-}
+
+    @Test
+    void reflectionHintForSourceGeneratedInNextRound() {
+        final SourceGeneratingProcessor generating = new SourceGeneratingProcessor(
+                "io.goodforgod.graalvm.hint.processor.Response",
+                getResourceContentAsString("reflectionhint/source/Response.java"));
+
+        final Compilation compilation = Compiler.javac()
+                .withProcessors(generating, new ReflectionHintProcessor())
+                .compile(JavaFileObjects.forResource("reflectionhint/source/RequestOnly.java"));
+
+        CompilationSubject.assertThat(compilation).succeeded();
+        CompilationSubject.assertThat(compilation)
+                .generatedFile(StandardLocation.CLASS_OUTPUT,
+                        "META-INF/native-image/io.goodforgod.graalvm.hint.processor/reflect-config.json")
+                .contentsAsString(StandardCharsets.UTF_8)
+                .isEqualTo(getResourceContentAsString("reflectionhint/generated/reflect-config-many.json"));
+    }
+
+    @Test
+    void reflectionHintOnMembers() {
+        final Compilation compilation = Compiler.javac()
+                .withProcessors(new ReflectionHintProcessor())
+                .compile(JavaFileObjects.forResource("reflectionhint/source/MemberAnnotated.java"));
+
+        CompilationSubject.assertThat(compilation).succeeded();
+        CompilationSubject.assertThat(compilation)
+                .generatedFile(StandardLocation.CLASS_OUTPUT,
+                        "META-INF/native-image/io.goodforgod.graalvm.hint.processor/reflect-config.json")
+                .contentsAsString(StandardCharsets.UTF_8)
+                .isEqualTo(getResourceContentAsString("reflectionhint/generated/reflect-config-members.json"));
+    }
+
+    @Test
+    void reflectionHintRepeatedOnMember() {
+        final Compilation compilation = Compiler.javac()
+                .withProcessors(new ReflectionHintProcessor())
+                .compile(JavaFileObjects.forResource("reflectionhint/source/MemberRepeated.java"));
+
+        CompilationSubject.assertThat(compilation).succeeded();
+        CompilationSubject.assertThat(compilation)
+                .generatedFile(StandardLocation.CLASS_OUTPUT,
+                        "META-INF/native-image/io.goodforgod.graalvm.hint.processor/reflect-config.json")
+                .contentsAsString(StandardCharsets.UTF_8)
+                .isEqualTo(getResourceContentAsString("reflectionhint/generated/reflect-config-member-repeated.json"));
+    }
+
+    @Test
+    void reflectionHintMemberSignatures() {
+        final Compilation compilation = Compiler.javac()
+                .withProcessors(new ReflectionHintProcessor())
+                .compile(JavaFileObjects.forResource("reflectionhint/source/MemberSignatures.java"));
+
+        CompilationSubject.assertThat(compilation).succeeded();
+        CompilationSubject.assertThat(compilation)
+                .generatedFile(StandardLocation.CLASS_OUTPUT,
+                        "META-INF/native-image/io.goodforgod.graalvm.hint.processor/reflect-config.json")
+                .contentsAsString(StandardCharsets.UTF_8)
+                .isEqualTo(getResourceContentAsString("reflectionhint/generated/reflect-config-member-signatures.json"));
+    }
+
+    @Test
+    void reflectionHintMemberNotFound() {
+        final Compilation compilation = Compiler.javac()
+                .withProcessors(new ReflectionHintProcessor())
+                .compile(JavaFileObjects.forResource("reflectionhint/source/MemberNotFound.java"));
+
+        CompilationSubject.assertThat(compilation).failed();
+        CompilationSubject.assertThat(compilation).hadErrorContaining("method 'setName(int)' is not found");
+    }
+
+    @Test
+    void reflectionHintQueryOnly() {
+        final Compilation compilation = Compiler.javac()
+                .withProcessors(new ReflectionHintProcessor())
+                .compile(JavaFileObjects.forResource("reflectionhint/source/RequestQuery.java"));
+
+        CompilationSubject.assertThat(compilation).succeeded();
+        CompilationSubject.assertThat(compilation)
+                .generatedFile(StandardLocation.CLASS_OUTPUT,
+                        "META-INF/native-image/io.goodforgod.graalvm.hint.processor/reflect-config.json")
+                .contentsAsString(StandardCharsets.UTF_8)
+                .isEqualTo(getResourceContentAsString("reflectionhint/generated/reflect-config-query.json"));
+    }
+
+    @Test
+    void reflectionHintTransitive() {
+        final Compilation compilation = Compiler.javac()
+                .withProcessors(new ReflectionHintProcessor())
+                .compile(JavaFileObjects.forResource("reflectionhint/source/Transitive.java"));
+
+        CompilationSubject.assertThat(compilation).succeeded();
+        CompilationSubject.assertThat(compilation)
+                .generatedFile(StandardLocation.CLASS_OUTPUT,
+                        "META-INF/native-image/io.goodforgod.graalvm.hint.processor/reflect-config.json")
+                .contentsAsString(StandardCharsets.UTF_8)
+                .isEqualTo(getResourceContentAsString("reflectionhint/generated/reflect-config-transitive.json"));
+    }
+
+    @Test
+    void reflectionHintTransitiveDepth() {
+        final Compilation compilation = Compiler.javac()
+                .withProcessors(new ReflectionHintProcessor())
+                .compile(JavaFileObjects.forResource("reflectionhint/source/TransitiveDepth.java"));
+
+        CompilationSubject.assertThat(compilation).succeeded();
+        CompilationSubject.assertThat(compilation)
+                .generatedFile(StandardLocation.CLASS_OUTPUT,
+                        "META-INF/native-image/io.goodforgod.graalvm.hint.processor/reflect-config.json")
+                .contentsAsString(StandardCharsets.UTF_8)
+                .isEqualTo(getResourceContentAsString("reflectionhint/generated/reflect-config-transitive-depth.json"));
+    }
+
+    @Test
+    void reflectionUsagesDetected() {
+        final Compilation compilation = Compiler.javac()
+                .withProcessors(new ReflectionHintProcessor())
+                .withOptions("-A" + HintOptions.HINT_DETECT)
+                .compile(JavaFileObjects.forResource("reflectionhint/source/Detect.java"));
+
+        CompilationSubject.assertThat(compilation).succeeded();
+        CompilationSubject.assertThat(compilation)
+                .generatedFile(StandardLocation.CLASS_OUTPUT,
+                        "META-INF/native-image/io.goodforgod.graalvm.hint.processor/reflect-config.json")
+                .contentsAsString(StandardCharsets.UTF_8)
+                .isEqualTo(getResourceContentAsString("reflectionhint/generated/reflect-config-detect.json"));
+    }
+}
\ No newline at end of file
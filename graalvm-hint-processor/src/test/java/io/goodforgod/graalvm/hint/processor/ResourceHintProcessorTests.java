@@ -4,7 +4,9 @@
 import com.google.testing.compile.CompilationSubject;
 import com.google.testing.compile.Compiler;
 import com.google.testing.compile.JavaFileObjects;
+import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import javax.tools.StandardLocation;
 import org.junit.jupiter.api.Test;
 
@@ -56,6 +58,20 @@ void bundleHint() {
                 .isEqualTo(getResourceContentAsString("resourcehint/generated/resource-config-bundle.json"));
     }
 
+    @Test
+    void bundleLocalesHint() {
+        final Compilation compilation = Compiler.javac()
+                .withProcessors(new ResourceHintProcessor())
+                .compile(JavaFileObjects.forResource("resourcehint/source/ResourceBundleLocales.java"));
+
+        CompilationSubject.assertThat(compilation).succeeded();
+        CompilationSubject.assertThat(compilation)
+                .generatedFile(StandardLocation.CLASS_OUTPUT,
+                        "META-INF/native-image/io.goodforgod.graalvm.hint.processor/resource-config.json")
+                .contentsAsString(StandardCharsets.UTF_8)
+                .isEqualTo(getResourceContentAsString("resourcehint/generated/resource-config-bundle-locales.json"));
+    }
+
     @Test
     void emptyHint() {
         final Compilation compilation = Compiler.javac()
@@ -139,4 +155,88 @@ void includeAndExcludeAndBundleMultipleFilesHint() {
                 .contentsAsString(StandardCharsets.UTF_8)
                 .isEqualTo(getResourceContentAsString("resourcehint/generated/resource-config-all.json"));
     }
+
+    @Test
+    void includeVerifiedAgainstResources() {
+        final Compilation compilation = Compiler.javac()
+                .withProcessors(new ResourceHintProcessor())
+                .withOptions("-A" + HintOptions.HINT_RESOURCE_VERIFY,
+                        "-A" + HintOptions.HINT_RESOURCE_MAX_MATCHES + "=2",
+                        "-A" + HintOptions.HINT_RESOURCE_PATHS + "=" + getResourcePath("resourcehint/files"))
+                .compile(JavaFileObjects.forResource("resourcehint/source/ResourceVerify.java"));
+
+        CompilationSubject.assertThat(compilation).succeeded();
+        CompilationSubject.assertThat(compilation).hadWarningContaining("'missing\\.txt' doesn't match any resource");
+        CompilationSubject.assertThat(compilation).hadWarningContaining("'.*\\.properties' matches 3 resources, more than 2");
+        CompilationSubject.assertThat(compilation)
+                .generatedFile(StandardLocation.CLASS_OUTPUT,
+                        "META-INF/native-image/io.goodforgod.graalvm.hint.processor/resource-config.json")
+                .contentsAsString(StandardCharsets.UTF_8)
+                .isEqualTo(getResourceContentAsString("resourcehint/generated/resource-config-verify.json"));
+    }
+
+    @Test
+    void includeVerifiedWithInvalidMaxMatches() {
+        final Compilation compilation = Compiler.javac()
+                .withProcessors(new ResourceHintProcessor())
+                .withOptions("-A" + HintOptions.HINT_RESOURCE_VERIFY,
+                        "-A" + HintOptions.HINT_RESOURCE_MAX_MATCHES + "=two",
+                        "-A" + HintOptions.HINT_RESOURCE_PATHS + "=" + getResourcePath("resourcehint/files"))
+                .compile(JavaFileObjects.forResource("resourcehint/source/ResourceVerify.java"));
+
+        CompilationSubject.assertThat(compilation).succeeded();
+        CompilationSubject.assertThat(compilation)
+                .hadWarningContaining("Invalid graalvm.hint.resource.max.matches option value 'two', default value is used: 100");
+        CompilationSubject.assertThat(compilation).hadWarningContaining("'missing\\.txt' doesn't match any resource");
+    }
+
+    @Test
+    void includeRewrittenAsLiterals() {
+        final Compilation compilation = Compiler.javac()
+                .withProcessors(new ResourceHintProcessor())
+                .withOptions("-A" + HintOptions.HINT_RESOURCE_REWRITE + "=literal",
+                        "-A" + HintOptions.HINT_RESOURCE_PATHS + "=" + getResourcePath("resourcehint/files"))
+                .compile(JavaFileObjects.forResource("resourcehint/source/ResourceVerify.java"));
+
+        CompilationSubject.assertThat(compilation).succeeded();
+        CompilationSubject.assertThat(compilation)
+                .generatedFile(StandardLocation.CLASS_OUTPUT,
+                        "META-INF/native-image/io.goodforgod.graalvm.hint.processor/resource-config.json")
+                .contentsAsString(StandardCharsets.UTF_8)
+                .isEqualTo(getResourceContentAsString("resourcehint/generated/resource-config-literal.json"));
+    }
+
+    @Test
+    void includeRewrittenAsGlobs() {
+        final Compilation compilation = Compiler.javac()
+                .withProcessors(new ResourceHintProcessor())
+                .withOptions("-A" + HintOptions.HINT_RESOURCE_REWRITE + "=glob")
+                .compile(JavaFileObjects.forResource("resourcehint/source/ResourceVerify.java"));
+
+        CompilationSubject.assertThat(compilation).succeeded();
+        CompilationSubject.assertThat(compilation)
+                .generatedFile(StandardLocation.CLASS_OUTPUT,
+                        "META-INF/native-image/io.goodforgod.graalvm.hint.processor/resource-config.json")
+                .contentsAsString(StandardCharsets.UTF_8)
+                .isEqualTo(getResourceContentAsString("resourcehint/generated/resource-config-glob.json"));
+    }
+
+    @Test
+    void unknownRewriteFails() {
+        final Compilation compilation = Compiler.javac()
+                .withProcessors(new ResourceHintProcessor())
+                .withOptions("-A" + HintOptions.HINT_RESOURCE_REWRITE + "=regexp")
+                .compile(JavaFileObjects.forResource("resourcehint/source/ResourceVerify.java"));
+
+        CompilationSubject.assertThat(compilation).failed();
+        CompilationSubject.assertThat(compilation).hadErrorContaining("Unknown graalvm.hint.resource.rewrite option value");
+    }
+
+    private static String getResourcePath(String name) {
+        try {
+            return Path.of(ResourceHintProcessorTests.class.getClassLoader().getResource(name).toURI()).toString();
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
@@ -0,0 +1,82 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.CompilationSubject;
+import com.google.testing.compile.Compiler;
+import com.google.testing.compile.JavaFileObjects;
+import java.nio.charset.StandardCharsets;
+import javax.tools.StandardLocation;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+class SerializationHintProcessorTests extends ProcessorRunner {
+
+    @Test
+    void serializationHintSelfWithSubtypes() {
+        final Compilation compilation = Compiler.javac()
+                .withProcessors(new SerializationHintProcessor())
+                .compile(JavaFileObjects.forResource("serializationhint/source/Session.java"));
+
+        CompilationSubject.assertThat(compilation).succeeded();
+        CompilationSubject.assertThat(compilation)
+                .generatedFile(StandardLocation.CLASS_OUTPUT,
+                        "META-INF/native-image/io.goodforgod.graalvm.hint.processor/serialization-config.json")
+                .contentsAsString(StandardCharsets.UTF_8)
+                .isEqualTo(getResourceContentAsString("serializationhint/generated/serialization-config.json"));
+    }
+
+    @Test
+    void serializationHintSubtypeGeneratedInNextRound() {
+        final SourceGeneratingProcessor generating = new SourceGeneratingProcessor(
+                "io.goodforgod.graalvm.hint.processor.SessionGenerated",
+                getResourceContentAsString("serializationhint/source/SessionGenerated.java"));
+
+        final Compilation compilation = Compiler.javac()
+                .withProcessors(generating, new SerializationHintProcessor())
+                .compile(JavaFileObjects.forResource("serializationhint/source/Session.java"));
+
+        CompilationSubject.assertThat(compilation).succeeded();
+        CompilationSubject.assertThat(compilation)
+                .generatedFile(StandardLocation.CLASS_OUTPUT,
+                        "META-INF/native-image/io.goodforgod.graalvm.hint.processor/serialization-config.json")
+                .contentsAsString(StandardCharsets.UTF_8)
+                .isEqualTo(getResourceContentAsString("serializationhint/generated/serialization-config-rounds.json"));
+    }
+
+    @Test
+    void serializationHintTypesWithUnsafeAllocated() {
+        final Compilation compilation = Compiler.javac()
+                .withProcessors(new HintProcessor())
+                .compile(JavaFileObjects.forResource("serializationhint/source/SessionTypes.java"));
+
+        CompilationSubject.assertThat(compilation).succeeded();
+        CompilationSubject.assertThat(compilation)
+                .generatedFile(StandardLocation.CLASS_OUTPUT,
+                        "META-INF/native-image/io.goodforgod.graalvm.hint.processor/serialization-config.json")
+                .contentsAsString(StandardCharsets.UTF_8)
+                .isEqualTo(getResourceContentAsString("serializationhint/generated/serialization-config-types.json"));
+        CompilationSubject.assertThat(compilation)
+                .generatedFile(StandardLocation.CLASS_OUTPUT,
+                        "META-INF/native-image/io.goodforgod.graalvm.hint.processor/reflect-config.json")
+                .contentsAsString(StandardCharsets.UTF_8)
+                .isEqualTo(getResourceContentAsString("serializationhint/generated/reflect-config-unsafe-allocated.json"));
+    }
+
+    @Test
+    void serializationHintReachabilityMetadata() {
+        final Compilation compilation = Compiler.javac()
+                .withProcessors(new HintProcessor())
+                .withOptions("-A" + HintOptions.HINT_REACHABILITY_METADATA)
+                .compile(JavaFileObjects.forResource("serializationhint/source/SessionTypes.java"));
+
+        CompilationSubject.assertThat(compilation).succeeded();
+        CompilationSubject.assertThat(compilation)
+                .generatedFile(StandardLocation.CLASS_OUTPUT,
+                        "META-INF/native-image/io.goodforgod.graalvm.hint.processor/reachability-metadata.json")
+                .contentsAsString(StandardCharsets.UTF_8)
+                .isEqualTo(getResourceContentAsString("serializationhint/generated/reachability-metadata.json"));
+    }
+}
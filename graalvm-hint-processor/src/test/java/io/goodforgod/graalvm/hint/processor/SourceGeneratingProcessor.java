@@ -0,0 +1,58 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.TypeElement;
+import javax.tools.JavaFileObject;
+
+/**
+ * Generates source in first processing round, so hints on it are processed in next rounds (as
+ * MapStruct or Immutables generated sources are)
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+class SourceGeneratingProcessor extends AbstractProcessor {
+
+    private final String className;
+    private final String source;
+
+    private boolean generated = false;
+
+    SourceGeneratingProcessor(String className, String source) {
+        this.className = className;
+        this.source = source;
+    }
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Set.of("*");
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (!generated) {
+            generated = true;
+            try {
+                final JavaFileObject file = processingEnv.getFiler().createSourceFile(className);
+                try (Writer writer = file.openWriter()) {
+                    writer.write(source);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        return false;
+    }
+}
@@ -0,0 +1,69 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.Set;
+import javax.annotation.processing.*;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+
+/**
+ * Initializes processor with javac processing environment wrapped in proxy, so compiler trees can't be
+ * obtained from it (as with build tools that wrap environment differently than Gradle does)
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+class WrappedEnvironmentProcessor implements Processor {
+
+    private final Processor processor;
+
+    WrappedEnvironmentProcessor(Processor processor) {
+        this.processor = processor;
+    }
+
+    @Override
+    public Set<String> getSupportedOptions() {
+        return processor.getSupportedOptions();
+    }
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return processor.getSupportedAnnotationTypes();
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return processor.getSupportedSourceVersion();
+    }
+
+    @Override
+    public void init(ProcessingEnvironment processingEnv) {
+        final ProcessingEnvironment wrapped = (ProcessingEnvironment) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] { ProcessingEnvironment.class },
+                (proxy, method, args) -> {
+                    try {
+                        return method.invoke(processingEnv, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+        processor.init(wrapped);
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        return processor.process(annotations, roundEnv);
+    }
+
+    @Override
+    public Iterable<? extends Completion> getCompletions(Element element,
+                                                         AnnotationMirror annotation,
+                                                         ExecutableElement member,
+                                                         String userText) {
+        return processor.getCompletions(element, annotation, member, userText);
+    }
+}
@@ -0,0 +1,12 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import io.goodforgod.graalvm.hint.annotation.*;
+
+@ReflectionHint(types = HintOrigin.class, condition = HintOptions.class)
+@ReflectionHint(value = ReflectionHint.AccessType.ALL_PUBLIC_METHODS, types = HintOrigin.class)
+@JniHint(types = HintOrigin.class, condition = HintOptions.class)
+@ResourceHint(include = "simplelogger.properties", exclude = ".*yaml", bundles = "your.pkg.Bundle", condition = HintOptions.class)
+@DynamicProxyHint(value = @DynamicProxyHint.Configuration(interfaces = OptionParser.class), condition = HintOptions.class)
+public class ConditionExplicit {
+
+}
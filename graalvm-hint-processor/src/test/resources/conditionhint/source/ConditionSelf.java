@@ -0,0 +1,14 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import io.goodforgod.graalvm.hint.annotation.*;
+
+@ReflectionHint
+@ReflectionHint(types = HintOrigin.class, condition = HintOptions.class)
+@JniHint
+@ResourceHint(include = "application.yml")
+@DynamicProxyHint
+public interface ConditionSelf {
+
+    @ReflectionHint
+    String name();
+}
@@ -0,0 +1,14 @@
+package io.goodforgod.graalvm.hint.processor.other;
+
+import io.goodforgod.graalvm.hint.annotation.DynamicProxyHint;
+import io.goodforgod.graalvm.hint.annotation.LinkHint;
+import io.goodforgod.graalvm.hint.annotation.NativeImageHint;
+import io.goodforgod.graalvm.hint.annotation.NativeImageOptions;
+import io.goodforgod.graalvm.hint.annotation.ReflectionHint;
+
+@NativeImageHint(options = NativeImageOptions.PRINT_INITIALIZATION)
+@LinkHint(types = String.class)
+@ReflectionHint
+@DynamicProxyHint(value = @DynamicProxyHint.Configuration(interfaces = Runnable.class))
+public class OtherLink {
+}
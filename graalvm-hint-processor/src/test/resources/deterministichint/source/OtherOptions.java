@@ -0,0 +1,10 @@
+package io.goodforgod.graalvm.hint.processor.other;
+
+import io.goodforgod.graalvm.hint.annotation.DynamicProxyHint;
+import io.goodforgod.graalvm.hint.annotation.NativeImageHint;
+import io.goodforgod.graalvm.hint.annotation.NativeImageOptions;
+
+@NativeImageHint(options = NativeImageOptions.VERBOSE)
+@DynamicProxyHint(value = @DynamicProxyHint.Configuration(interfaces = { Runnable.class, AutoCloseable.class }))
+public class OtherOptions {
+}
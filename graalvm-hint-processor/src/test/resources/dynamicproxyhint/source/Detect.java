@@ -0,0 +1,17 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import java.lang.reflect.Proxy;
+
+public class Detect {
+
+    public interface Service {}
+
+    public interface Listener {}
+
+    public Object detect(Class<?>[] computed) {
+        final ClassLoader loader = Detect.class.getClassLoader();
+        Proxy.newProxyInstance(loader, new Class<?>[] { Service.class, Listener.class }, (p, m, a) -> null);
+        Proxy.newProxyInstance(loader, computed, (p, m, a) -> null);
+        return Proxy.newProxyInstance(loader, new Class[] { Service.class }, (p, m, a) -> null);
+    }
+}
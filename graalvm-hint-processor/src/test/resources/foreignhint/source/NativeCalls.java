@@ -0,0 +1,15 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import io.goodforgod.graalvm.hint.annotation.ForeignHint;
+
+@ForeignHint(downcalls = {
+        @ForeignHint.Descriptor(returnType = "jint", parameterTypes = { "void*", "jlong" }),
+        @ForeignHint.Descriptor(returnType = "jlong", critical = true),
+        @ForeignHint.Descriptor(returnType = "int", parameterTypes = { "void*", "int" }, firstVariadicArg = 1,
+                captureCallState = true),
+        @ForeignHint.Descriptor(parameterTypes = { "void*", "jint" }, critical = true, allowHeapAccess = true),
+        @ForeignHint.Descriptor(returnType = "struct(jint, x4, jlong)", parameterTypes = "[16:jbyte]")
+}, upcalls = @ForeignHint.Descriptor(parameterTypes = { "void*", "union(jint, jfloat)" }))
+public class NativeCalls {
+
+}
@@ -0,0 +1,8 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import io.goodforgod.graalvm.hint.annotation.ForeignHint;
+
+@ForeignHint(downcalls = @ForeignHint.Descriptor(returnType = "jint", parameterTypes = { "void*", "integer" }))
+public class NativeCallsInvalid {
+
+}
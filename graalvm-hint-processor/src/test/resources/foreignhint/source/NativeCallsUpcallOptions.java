@@ -0,0 +1,8 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import io.goodforgod.graalvm.hint.annotation.ForeignHint;
+
+@ForeignHint(upcalls = @ForeignHint.Descriptor(parameterTypes = "jint", critical = true))
+public class NativeCallsUpcallOptions {
+
+}
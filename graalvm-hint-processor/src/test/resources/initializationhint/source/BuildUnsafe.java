@@ -0,0 +1,30 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import static java.lang.System.getenv;
+
+import io.goodforgod.graalvm.hint.annotation.InitializationHint;
+import java.util.*;
+import java.util.function.Supplier;
+
+@InitializationHint(types = { BuildUnsafe.class, BuildUnsafe.Safe.class })
+public class BuildUnsafe {
+
+    private static final Random RANDOM = new Random();
+    private static final String HOME = getenv("HOME");
+    private static final Supplier<Long> TIME = () -> System.currentTimeMillis();
+    private static final List<String> NAMES = List.of("a", "b");
+    private static long started;
+
+    static {
+        started = java.lang.System.nanoTime();
+        new Thread(() -> {}).start();
+    }
+
+    private final Random random = new Random();
+
+    public static class Safe {
+
+        private static final int VALUE = 1;
+        private static final List<String> NAMES = List.of("a", "b");
+    }
+}
@@ -0,0 +1,30 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import io.goodforgod.graalvm.hint.annotation.InitializationHint;
+import java.util.List;
+
+@InitializationHint(types = Closure.Registry.class)
+public class Closure {
+
+    public static class Registry {
+
+        static final Codes CODES = new Codes();
+        static final long STARTED = Started.AT;
+        static final int LIMIT = Limits.MAX;
+    }
+
+    public static class Codes {
+
+        static final List<String> NAMES = List.of("a", "b");
+    }
+
+    public static class Started {
+
+        static final long AT = System.currentTimeMillis();
+    }
+
+    public static class Limits {
+
+        static final int MAX = 10;
+    }
+}
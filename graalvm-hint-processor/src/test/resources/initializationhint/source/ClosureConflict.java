@@ -0,0 +1,22 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import io.goodforgod.graalvm.hint.annotation.InitializationHint;
+
+@InitializationHint(value = InitializationHint.InitPhase.BUILD, types = ClosureConflict.Registry.class)
+@InitializationHint(value = InitializationHint.InitPhase.RUNTIME, types = ClosureConflict.Codes.class)
+public class ClosureConflict {
+
+    public static class Registry {
+
+        static final Object CODES = Holder.CODES;
+    }
+
+    public static class Holder {
+
+        static final Codes CODES = new Codes();
+    }
+
+    public static class Codes {
+
+    }
+}
@@ -0,0 +1,8 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import io.goodforgod.graalvm.hint.annotation.InitializationHint;
+
+@InitializationHint(InitializationHint.InitPhase.RUNTIME)
+public class ClosureIncrementalCodes {
+
+}
@@ -0,0 +1,6 @@
+package io.goodforgod.graalvm.hint.processor;
+
+public class ClosureIncrementalHolder {
+
+    static final ClosureIncrementalCodes CODES = new ClosureIncrementalCodes();
+}
@@ -0,0 +1,9 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import io.goodforgod.graalvm.hint.annotation.InitializationHint;
+
+@InitializationHint
+public class ClosureIncrementalRegistry {
+
+    static final Object CODES = ClosureIncrementalHolder.CODES;
+}
@@ -0,0 +1,71 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import io.goodforgod.graalvm.hint.annotation.InitializationHint;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+@InitializationHint(discover = true)
+public class Discover {
+
+    public static class Constants {
+
+        static final int VALUE = 1;
+        static final String NAME = "name";
+    }
+
+    public enum Color {
+
+        RED("r"),
+        GREEN("g");
+
+        private final String code;
+
+        Color(String code) {
+            this.code = code;
+        }
+    }
+
+    public static class Patterns {
+
+        static final Pattern PATTERN = Pattern.compile("[a-z]+", Pattern.CASE_INSENSITIVE);
+        static final List<String> NAMES = List.of("a", "b");
+        static final Map<String, Integer> CODES = Map.of("a", 1, "b", Constants.VALUE);
+        static final Color DEFAULT = Color.RED;
+    }
+
+    public static class UsesSafe {
+
+        static final Pattern PATTERN = Patterns.PATTERN;
+    }
+
+    public static class Environment {
+
+        static final String HOME = System.getenv("HOME");
+    }
+
+    public static class UsesEnvironment {
+
+        static final String HOME = Environment.HOME;
+    }
+
+    public static class Counter {
+
+        static int count = 0;
+    }
+
+    public static class Block {
+
+        static final int[] VALUES;
+
+        static {
+            VALUES = new int[] { 1 };
+        }
+    }
+
+    public static class Mutable {
+
+        static final List<String> NAMES = new ArrayList<>();
+    }
+}
@@ -0,0 +1,10 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import io.goodforgod.graalvm.hint.annotation.InitializationHint;
+import java.util.List;
+
+@InitializationHint(discover = true)
+public class DiscoverIncremental {
+
+    static final List<String> NAMES = DiscoverIncrementalPatterns.NAMES;
+}
@@ -0,0 +1,10 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+public class DiscoverIncrementalPatterns {
+
+    static final Pattern PATTERN = Pattern.compile("[a-z]+");
+    static final List<String> NAMES = List.of("a", "b");
+}
@@ -0,0 +1,8 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import io.goodforgod.graalvm.hint.annotation.InitializationHint;
+
+@InitializationHint(value = InitializationHint.InitPhase.RUNTIME, discover = true)
+public class DiscoverRuntime {
+
+}
@@ -0,0 +1,10 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import io.goodforgod.graalvm.hint.annotation.JniHint;
+
+@JniHint(value = JniHint.AccessType.ALL_PUBLIC_FIELDS, types = HintOrigin.class)
+@JniHint(value = JniHint.AccessType.ALL_DECLARED_METHODS, types = HintOrigin.class)
+@JniHint(value = JniHint.AccessType.QUERY_ALL_DECLARED_METHODS, types = HintOrigin.class)
+public class MergeAccess {
+
+}
@@ -0,0 +1,9 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import io.goodforgod.graalvm.hint.annotation.JniHint;
+
+@JniHint(value = { JniHint.AccessType.QUERY_ALL_PUBLIC, JniHint.AccessType.QUERY_ALL_DECLARED_METHODS })
+public class RequestQuery {
+
+    private String name;
+}
@@ -0,0 +1,8 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import io.goodforgod.graalvm.hint.annotation.LocaleHint;
+
+@LocaleHint(value = { "fr", "en", "de_DE" }, defaultLocale = "en", charsets = "UTF-8")
+public class Locales {
+
+}
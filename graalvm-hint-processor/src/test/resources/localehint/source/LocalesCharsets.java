@@ -0,0 +1,8 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import io.goodforgod.graalvm.hint.annotation.LocaleHint;
+
+@LocaleHint(value = "ja", charsets = { "UTF-8", "Shift_JIS" })
+public class LocalesCharsets {
+
+}
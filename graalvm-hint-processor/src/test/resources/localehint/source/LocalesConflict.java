@@ -0,0 +1,12 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import io.goodforgod.graalvm.hint.annotation.LocaleHint;
+
+public class LocalesConflict {
+
+    @LocaleHint(defaultLocale = "en")
+    public static class English {}
+
+    @LocaleHint(defaultLocale = "de")
+    public static class German {}
+}
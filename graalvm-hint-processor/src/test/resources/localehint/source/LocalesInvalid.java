@@ -0,0 +1,8 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import io.goodforgod.graalvm.hint.annotation.LocaleHint;
+
+@LocaleHint("english")
+public class LocalesInvalid {
+
+}
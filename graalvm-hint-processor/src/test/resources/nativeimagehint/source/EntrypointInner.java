@@ -0,0 +1,12 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import io.goodforgod.graalvm.hint.annotation.NativeImageHint;
+
+@NativeImageHint(entrypoint = EntrypointInner.Application.class)
+public class EntrypointInner {
+
+    public static class Application {
+
+        public static void main(String[] args) {}
+    }
+}
@@ -0,0 +1,8 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import io.goodforgod.graalvm.hint.annotation.ResourceHint;
+
+@ResourceHint(include = { ".*\\.yaml", "META-INF/.*", "static/.*/index\\.html", "\\Qdata.json\\E", "^app-.*.yml$" })
+public class ResourceGlob {
+
+}
@@ -0,0 +1,36 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+public class Detect {
+
+    private static final String PREFIX = "io.goodforgod.graalvm.hint.processor.";
+
+    public static class Request {
+
+        private String name;
+
+        public Request() {}
+
+        public Request(String name, int[] codes) {}
+
+        private void handle(String name, int times) {}
+    }
+
+    public static class Response extends Request {
+
+        public String body;
+    }
+
+    public Object detect(String computed) throws Exception {
+        Class.forName(PREFIX + "Detect$Response");
+        Class.forName(computed);
+        final Method handle = Request.class.getDeclaredMethod("handle", String.class, int.class);
+        final Method equals = Response.class.getMethod("equals", Object.class);
+        final Field name = Request.class.getDeclaredField("name");
+        final Field body = Class.forName("io.goodforgod.graalvm.hint.processor.Detect$Response").getField("body");
+        Request.class.getDeclaredField(computed);
+        return Request.class.getDeclaredConstructor(String.class, int[].class);
+    }
+}
@@ -0,0 +1,14 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import io.goodforgod.graalvm.hint.annotation.ReflectionHint;
+
+@ReflectionHint(types = InnerClassLowerCase.inner.example.class)
+public class InnerClassLowerCase {
+
+    public static class inner {
+
+        public static class example {
+
+        }
+    }
+}
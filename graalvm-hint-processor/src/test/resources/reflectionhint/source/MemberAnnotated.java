@@ -0,0 +1,24 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import io.goodforgod.graalvm.hint.annotation.ReflectionHint;
+import java.util.List;
+
+public class MemberAnnotated {
+
+    @ReflectionHint
+    private String name;
+
+    private int age;
+
+    @ReflectionHint
+    public MemberAnnotated() {}
+
+    public MemberAnnotated(String name) {
+        this.name = name;
+    }
+
+    @ReflectionHint
+    public void setValues(String name, int[] ages, List<String> tags) {
+        this.name = name;
+    }
+}
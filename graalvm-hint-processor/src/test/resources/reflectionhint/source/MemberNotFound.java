@@ -0,0 +1,13 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import io.goodforgod.graalvm.hint.annotation.ReflectionHint;
+
+@ReflectionHint(methods = "setName(int)")
+public class MemberNotFound {
+
+    private String name;
+
+    public void setName(String name) {
+        this.name = name;
+    }
+}
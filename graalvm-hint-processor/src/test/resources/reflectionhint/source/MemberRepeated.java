@@ -0,0 +1,15 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import io.goodforgod.graalvm.hint.annotation.ReflectionHint;
+
+public class MemberRepeated {
+
+    @ReflectionHint
+    private String name;
+
+    @ReflectionHint
+    @ReflectionHint
+    public void setName(String name) {
+        this.name = name;
+    }
+}
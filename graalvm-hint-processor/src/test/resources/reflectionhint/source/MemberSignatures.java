@@ -0,0 +1,23 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import io.goodforgod.graalvm.hint.annotation.ReflectionHint;
+
+@ReflectionHint(fields = "name", methods = { "<init>()", "setName(java.lang.String)" })
+@ReflectionHint(types = MemberSignatures.Item.class, fields = "value")
+public class MemberSignatures {
+
+    private String name;
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public static class Item {
+
+        private int value;
+    }
+}
@@ -0,0 +1,16 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import io.goodforgod.graalvm.hint.annotation.ReflectionHint;
+
+@ReflectionHint(value = ReflectionHint.AccessType.ALL_PUBLIC_METHODS, types = MergeAccess.Item.class)
+@ReflectionHint(value = { ReflectionHint.AccessType.QUERY_ALL_DECLARED_METHODS, ReflectionHint.AccessType.ALL_PUBLIC_CONSTRUCTORS },
+        types = MergeAccess.Item.class, fields = "name")
+public class MergeAccess {
+
+    public static class Item {
+
+        private String name;
+
+        public Item() {}
+    }
+}
@@ -0,0 +1,9 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import io.goodforgod.graalvm.hint.annotation.ReflectionHint;
+
+@ReflectionHint(value = ReflectionHint.AccessType.ALL_DECLARED_CONSTRUCTORS,
+        typeNames = "io.goodforgod.graalvm.hint.processor.MergeAccess$Item", methods = "<init>()")
+public class MergeAccessOther {
+
+}
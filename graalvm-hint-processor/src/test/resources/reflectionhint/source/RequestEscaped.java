@@ -0,0 +1,9 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import io.goodforgod.graalvm.hint.annotation.ReflectionHint;
+
+@ReflectionHint(typeNames = { "io.goodforgod.\"Quoted\"", "io.goodforgod.Back\\slash\t" })
+public class RequestEscaped {
+
+    private String name;
+}
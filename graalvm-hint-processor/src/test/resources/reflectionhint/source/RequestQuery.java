@@ -0,0 +1,9 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import io.goodforgod.graalvm.hint.annotation.ReflectionHint;
+
+@ReflectionHint(value = { ReflectionHint.AccessType.QUERY_ALL_DECLARED, ReflectionHint.AccessType.ALL_DECLARED_FIELDS })
+public class RequestQuery {
+
+    private String name;
+}
@@ -0,0 +1,43 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import io.goodforgod.graalvm.hint.annotation.ReflectionHint;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+@ReflectionHint(types = Transitive.Order.class, transitive = true)
+public class Transitive {
+
+    public static class Entity {
+
+        private long id;
+    }
+
+    public static class Order extends Entity {
+
+        private List<Item> items;
+        private Map<String, Customer> customers;
+        private LocalDate date;
+        private static Ignored ignored;
+
+        public Address[] getAddresses() {
+            return null;
+        }
+    }
+
+    public static class Item {
+
+        private Price price;
+    }
+
+    public static class Price {
+
+        private String currency;
+    }
+
+    public static class Customer {}
+
+    public static class Address {}
+
+    public static class Ignored {}
+}
@@ -0,0 +1,17 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import io.goodforgod.graalvm.hint.annotation.ReflectionHint;
+import java.util.List;
+
+@ReflectionHint(value = ReflectionHint.AccessType.ALL_PUBLIC, transitive = true, depth = 1)
+public class TransitiveDepth {
+
+    private List<Item> items;
+
+    public static class Item {
+
+        private Price price;
+    }
+
+    public static class Price {}
+}
@@ -0,0 +1,10 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import io.goodforgod.graalvm.hint.annotation.ResourceHint;
+
+@ResourceHint(bundles = { "your.pkg.Messages", "your.pkg.Errors" }, locales = { "en", "de" })
+public class ResourceBundleLocales {
+
+    @ResourceHint(bundles = { "your.pkg.Messages", "your.pkg.Labels" }, locales = "fr")
+    public static class French {}
+}
@@ -0,0 +1,8 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import io.goodforgod.graalvm.hint.annotation.ResourceHint;
+
+@ResourceHint(include = { "application\\.yml", ".*\\.properties", "missing\\.txt", "static/.*" })
+public class ResourceVerify {
+
+}
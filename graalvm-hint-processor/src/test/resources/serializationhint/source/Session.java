@@ -0,0 +1,21 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import io.goodforgod.graalvm.hint.annotation.SerializationHint;
+import java.io.Serializable;
+
+@SerializationHint(lambdaCapturingTypes = Session.Callbacks.class)
+public class Session implements Serializable {
+
+    public static class UserSession extends Session {}
+
+    public abstract static class AbstractSession extends Session {}
+
+    public static class GuestSession extends AbstractSession {}
+
+    public static class Attribute {}
+
+    public static class Callbacks {
+
+        Runnable callback = (Runnable & Serializable) () -> {};
+    }
+}
@@ -0,0 +1,3 @@
+package io.goodforgod.graalvm.hint.processor;
+
+public class SessionGenerated extends Session {}
@@ -0,0 +1,7 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import io.goodforgod.graalvm.hint.annotation.SerializationHint;
+import java.io.Serializable;
+
+@SerializationHint
+public class SessionIncremental implements Serializable {}
@@ -0,0 +1,15 @@
+package io.goodforgod.graalvm.hint.processor;
+
+import io.goodforgod.graalvm.hint.annotation.SerializationHint;
+import java.io.Serializable;
+
+@SerializationHint(types = SessionTypes.Token.class, subtypes = false, customTargetConstructorClass = Object.class)
+@SerializationHint(typeNames = "io.goodforgod.graalvm.hint.processor.SessionTypes$Cached", unsafeAllocated = true)
+public class SessionTypes {
+
+    public static class Token implements Serializable {}
+
+    public static class RefreshToken extends Token {}
+
+    public static class Cached implements Serializable {}
+}